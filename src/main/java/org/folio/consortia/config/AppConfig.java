@@ -1,14 +1,21 @@
 package org.folio.consortia.config;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
 import org.folio.consortia.domain.converter.ConsortiumConverter;
 import org.folio.consortia.domain.converter.TenantEntityToTenantConverter;
 import org.folio.consortia.domain.converter.UserTenantConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.format.FormatterRegistry;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -52,7 +59,25 @@ public class AppConfig implements WebMvcConfigurer {
   }
 
   @Bean
-  public RestTemplate restTemplate() {
-    return new RestTemplate();
+  public HttpClient publicationHttpClient(@Value("${folio.publication.http-client.connect-timeout-ms:5000}") long connectTimeoutMs,
+                                          @Value("${folio.publication.http-client.threads:4}") int threads) {
+    var threadFactory = new CustomizableThreadFactory("ConsortiaHttp-");
+    threadFactory.setDaemon(true);
+    return HttpClient.newBuilder()
+      .version(HttpClient.Version.HTTP_1_1)
+      .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+      .executor(Executors.newFixedThreadPool(threads, threadFactory))
+      .build();
+  }
+
+  /**
+   * Blocking publication requests are sent with the JDK client of async ones, so both engines share its connection pool.
+   */
+  @Bean
+  public RestTemplate restTemplate(HttpClient publicationHttpClient,
+                                   @Value("${folio.publication.http-client.read-timeout-ms:60000}") long readTimeoutMs) {
+    var requestFactory = new JdkClientHttpRequestFactory(publicationHttpClient);
+    requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+    return new RestTemplate(requestFactory);
   }
 }
@@ -3,6 +3,7 @@ package org.folio.consortia.config;
 import java.util.concurrent.TimeUnit;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
@@ -12,15 +13,23 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 @EnableCaching
 public class CacheConfig {
+  public static final String USER_TENANTS_CACHE = "userTenants";
+
   @Bean
   public Caffeine caffeineConfig() { //NOSONAR
     return Caffeine.newBuilder().expireAfterWrite(30, TimeUnit.SECONDS);
   }
 
   @Bean
-  public CacheManager cacheManager(Caffeine caffeine) { //NOSONAR
+  public CacheManager cacheManager(Caffeine caffeine, //NOSONAR
+                                   @Value("${folio.user-tenants-cache.ttl-ms:10000}") long userTenantsTtlMs,
+                                   @Value("${folio.user-tenants-cache.max-size:10000}") long userTenantsMaxSize) {
     CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
     caffeineCacheManager.setCaffeine(caffeine);
+    caffeineCacheManager.registerCustomCache(USER_TENANTS_CACHE, Caffeine.newBuilder()
+      .expireAfterWrite(userTenantsTtlMs, TimeUnit.MILLISECONDS)
+      .maximumSize(userTenantsMaxSize)
+      .build());
     return caffeineCacheManager;
   }
 }
@@ -3,9 +3,7 @@ package org.folio.consortia.config;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.spring.FolioExecutionContext;
-import org.folio.spring.context.ExecutionContextBuilder;
 import org.folio.spring.service.PrepareSystemUserService;
-import org.folio.spring.service.SystemUserService;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -13,15 +11,20 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class FolioExecutionContextHelper {
 
-  private final ExecutionContextBuilder contextBuilder;
   private final PrepareSystemUserService prepareSystemUserService;
-  private final SystemUserService systemUserService;
+  private final SystemUserContextCache systemUserContextCache;
 
   public void registerTenant() {
     prepareSystemUserService.setupSystemUser();
   }
 
+  /**
+   * Returns execution context of the system user of the tenant, the context is cached until its token is about to expire.
+   *
+   * @param tenantId tenant of the system user
+   * @return execution context of the system user
+   */
   public FolioExecutionContext getSystemUserFolioExecutionContext(String tenantId) {
-    return contextBuilder.forSystemUser(systemUserService.getAuthedSystemUser(tenantId));
+    return systemUserContextCache.get(tenantId);
   }
 }
@@ -0,0 +1,60 @@
+package org.folio.consortia.config;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import lombok.extern.log4j.Log4j2;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+/**
+ * Bounds the number of requests waiting for a response from the same host, so a slow downstream cannot pin all
+ * connections and caller threads. A request waits for a free slot no longer than {@code acquireTimeoutMs}
+ * and fails with {@link InterruptedIOException} then.
+ */
+@Log4j2
+public class HostConcurrencyLimitInterceptor implements Interceptor {
+
+  private final int maxRequestsPerHost;
+  private final long acquireTimeoutMs;
+  private final Map<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+
+  public HostConcurrencyLimitInterceptor(int maxRequestsPerHost, long acquireTimeoutMs) {
+    this.maxRequestsPerHost = maxRequestsPerHost;
+    this.acquireTimeoutMs = acquireTimeoutMs;
+  }
+
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    var url = chain.request().url();
+    var host = url.host() + ":" + url.port();
+    var permits = hostPermits.computeIfAbsent(host, key -> new Semaphore(maxRequestsPerHost));
+    acquire(permits, host);
+    try {
+      return chain.proceed(chain.request());
+    } finally {
+      permits.release();
+    }
+  }
+
+  int availablePermits(String host) {
+    var permits = hostPermits.get(host);
+    return permits == null ? maxRequestsPerHost : permits.availablePermits();
+  }
+
+  private void acquire(Semaphore permits, String host) throws InterruptedIOException {
+    try {
+      if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+        log.warn("acquire:: all {} connections to {} are busy for {} ms", maxRequestsPerHost, host, acquireTimeoutMs);
+        throw new InterruptedIOException("Timed out waiting for a free connection to " + host);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for a free connection to " + host);
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package org.folio.consortia.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.folio.spring.integration.XOkapiHeaders;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import feign.Client;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.okhttp3.OkHttpConnectionPoolMetrics;
+import io.micrometer.core.instrument.binder.okhttp3.OkHttpMetricsEventListener;
+import okhttp3.ConnectionPool;
+import okhttp3.EventListener;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+
+/**
+ * HTTP client shared by all Feign clients.
+ * <p>
+ * Connections are pooled and evicted after {@code keep-alive-ms} of idleness, requests waiting for a response
+ * from the same host are bounded by {@code max-requests-per-host}, and every request is limited by connect, read
+ * and total call timeouts. Request latency is published as {@code consortia.http.client.requests} tagged with
+ * the client (first path segment of the URL) and the tenant, connection pool usage as {@code consortia.http.client.pool.*}.
+ */
+@Configuration
+public class HttpClientConfig {
+
+  static final String REQUESTS_METRIC = "consortia.http.client.requests";
+  static final String POOL_METRIC_PREFIX = "consortia.http.client.pool";
+  static final String TENANT_TAG = "tenant";
+  private static final String NO_TENANT = "none";
+
+  @Bean
+  public ConnectionPool okHttpConnectionPool(@Value("${folio.http-client.max-idle-connections:20}") int maxIdleConnections,
+                                             @Value("${folio.http-client.keep-alive-ms:300000}") long keepAliveMs,
+                                             MeterRegistry meterRegistry) {
+    var connectionPool = new ConnectionPool(maxIdleConnections, keepAliveMs, TimeUnit.MILLISECONDS);
+    new OkHttpConnectionPoolMetrics(connectionPool, POOL_METRIC_PREFIX, Tags.empty(), maxIdleConnections).bindTo(meterRegistry);
+    return connectionPool;
+  }
+
+  @Bean
+  public OkHttpClient okHttpClient(ConnectionPool okHttpConnectionPool, MeterRegistry meterRegistry,
+                                   @Value("${folio.http-client.max-requests-per-host:64}") int maxRequestsPerHost,
+                                   @Value("${folio.http-client.acquire-timeout-ms:10000}") long acquireTimeoutMs,
+                                   @Value("${folio.http-client.connect-timeout-ms:5000}") long connectTimeoutMs,
+                                   @Value("${folio.http-client.read-timeout-ms:60000}") long readTimeoutMs,
+                                   @Value("${folio.http-client.call-timeout-ms:120000}") long callTimeoutMs) {
+    // the listener keeps state of calls in flight, so one listener per tenant can be shared by its calls
+    Map<String, EventListener> tenantMetricsListeners = new ConcurrentHashMap<>();
+    EventListener.Factory metricsListenerFactory = call -> tenantMetricsListeners.computeIfAbsent(toTenant(call.request()),
+      tenant -> OkHttpMetricsEventListener.builder(meterRegistry, REQUESTS_METRIC)
+        .uriMapper(HttpClientConfig::toClientName)
+        .tags(Tags.of(TENANT_TAG, tenant))
+        .build());
+    return new OkHttpClient.Builder()
+      .connectionPool(okHttpConnectionPool)
+      .addInterceptor(new HostConcurrencyLimitInterceptor(maxRequestsPerHost, acquireTimeoutMs))
+      .connectTimeout(connectTimeoutMs, TimeUnit.MILLISECONDS)
+      .readTimeout(readTimeoutMs, TimeUnit.MILLISECONDS)
+      .writeTimeout(readTimeoutMs, TimeUnit.MILLISECONDS)
+      .callTimeout(callTimeoutMs, TimeUnit.MILLISECONDS)
+      .eventListenerFactory(metricsListenerFactory)
+      .build();
+  }
+
+  /**
+   * Spring Cloud OpenFeign does not create its OkHttp client at all once an {@link OkHttpClient} bean exists, so Feign
+   * clients are bound to the shared one here, otherwise they would fall back to the JDK {@code HttpURLConnection}.
+   */
+  @Bean
+  public Client feignClient(OkHttpClient okHttpClient) {
+    return new feign.okhttp.OkHttpClient(okHttpClient);
+  }
+
+  /**
+   * Okapi routes requests by the first path segment, so it names the called module without creating a tag per URL.
+   */
+  static String toClientName(Request request) {
+    var pathSegments = request.url().pathSegments();
+    return pathSegments.isEmpty() || pathSegments.get(0).isEmpty() ? "root" : pathSegments.get(0);
+  }
+
+  private static String toTenant(Request request) {
+    var tenant = request.header(XOkapiHeaders.TENANT);
+    return tenant == null || tenant.isBlank() ? NO_TENANT : tenant;
+  }
+}
@@ -0,0 +1,198 @@
+package org.folio.consortia.config;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.context.ExecutionContextBuilder;
+import org.folio.spring.service.SystemUserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Per-tenant cache of system user execution contexts.
+ * <p>
+ * A context is built once per access token of the system user, concurrent requests for a tenant which is not cached
+ * yet wait for the same login. The token is refreshed in the background {@code refresh-before-expiry-ms} before it
+ * expires, so callers keep getting the cached context while the new token is obtained. Tenants which were not
+ * requested for {@code max-idle-ms} are not refreshed anymore and are dropped once their token expires.
+ */
+@Log4j2
+@Component
+public class SystemUserContextCache {
+
+  // a context is not handed out when its token is about to expire in this time
+  private static final Duration EXPIRATION_MARGIN = Duration.ofSeconds(5);
+
+  private final SystemUserService systemUserService;
+  private final ExecutionContextBuilder contextBuilder;
+  private final Clock clock;
+  private final Duration refreshBeforeExpiry;
+  private final Duration defaultTokenLifetime;
+  private final Duration maxIdle;
+  private final AsyncLoadingCache<String, SystemUserContext> contexts;
+  private final ExecutorService loginExecutor;
+  private final ScheduledExecutorService refreshScheduler;
+
+  @Autowired
+  public SystemUserContextCache(SystemUserService systemUserService, ExecutionContextBuilder contextBuilder,
+                                @Value("${folio.system-user-context.refresh-before-expiry-ms:60000}") long refreshBeforeExpiryMs,
+                                @Value("${folio.system-user-context.default-token-lifetime-ms:600000}") long defaultTokenLifetimeMs,
+                                @Value("${folio.system-user-context.max-idle-ms:1800000}") long maxIdleMs) {
+    this(systemUserService, contextBuilder, refreshBeforeExpiryMs, defaultTokenLifetimeMs, maxIdleMs, Clock.systemUTC());
+  }
+
+  SystemUserContextCache(SystemUserService systemUserService, ExecutionContextBuilder contextBuilder, long refreshBeforeExpiryMs,
+                         long defaultTokenLifetimeMs, long maxIdleMs, Clock clock) {
+    this.systemUserService = systemUserService;
+    this.contextBuilder = contextBuilder;
+    this.clock = clock;
+    this.refreshBeforeExpiry = Duration.ofMillis(refreshBeforeExpiryMs);
+    this.defaultTokenLifetime = Duration.ofMillis(defaultTokenLifetimeMs);
+    this.maxIdle = Duration.ofMillis(maxIdleMs);
+
+    var loginThreadFactory = new CustomizableThreadFactory("ConsortiaSystemUserLogin-");
+    loginThreadFactory.setDaemon(true);
+    this.loginExecutor = Executors.newCachedThreadPool(loginThreadFactory);
+    this.contexts = Caffeine.newBuilder()
+      .executor(loginExecutor)
+      .expireAfter(new TokenExpiry())
+      .buildAsync(new SystemUserLoader());
+
+    var refreshThreadFactory = new CustomizableThreadFactory("ConsortiaSystemUserRefresh-");
+    refreshThreadFactory.setDaemon(true);
+    this.refreshScheduler = Executors.newSingleThreadScheduledExecutor(refreshThreadFactory);
+    var refreshIntervalMs = Math.max(1, refreshBeforeExpiryMs / 4);
+    refreshScheduler.scheduleWithFixedDelay(this::refreshExpiring, refreshIntervalMs, refreshIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Returns execution context of the system user of the tenant, logs the system user in only when there is no valid
+   * cached token.
+   *
+   * @param tenantId tenant of the system user
+   * @return execution context of the system user
+   */
+  public FolioExecutionContext get(String tenantId) {
+    try {
+      var systemUserContext = contexts.get(tenantId).join();
+      systemUserContext.lastAccess.set(clock.instant());
+      return systemUserContext.context;
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Drops the cached context of the tenant, the next request logs the system user in again.
+   *
+   * @param tenantId tenant of the system user
+   */
+  public void invalidate(String tenantId) {
+    contexts.synchronous().invalidate(tenantId);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    refreshScheduler.shutdownNow();
+    loginExecutor.shutdownNow();
+  }
+
+  private void refreshExpiring() {
+    var now = clock.instant();
+    contexts.synchronous().asMap().forEach((tenantId, systemUserContext) -> {
+      if (now.isBefore(systemUserContext.refreshAt)) {
+        return;
+      }
+      if (systemUserContext.lastAccess.get().plus(maxIdle).isBefore(now)) {
+        log.debug("refreshExpiring:: tenant {} is idle, its system user token is not refreshed", tenantId);
+        return;
+      }
+      log.debug("refreshExpiring:: refreshing system user token of tenant {}", tenantId);
+      // refresh of a tenant which is already being refreshed returns the pending refresh
+      contexts.synchronous().refresh(tenantId);
+    });
+  }
+
+  private SystemUserContext login(String tenantId) {
+    log.info("login:: logging system user in for tenant {}", tenantId);
+    var systemUser = systemUserService.getAuthedSystemUser(tenantId);
+    var now = clock.instant();
+    var tokenExpiration = systemUser.token() != null && systemUser.token().accessTokenExpiration() != null
+      ? systemUser.token().accessTokenExpiration()
+      : now.plus(defaultTokenLifetime);
+    var expiresAt = max(now, tokenExpiration.minus(EXPIRATION_MARGIN));
+    var refreshAt = min(expiresAt, max(now, tokenExpiration.minus(refreshBeforeExpiry)));
+    return new SystemUserContext(contextBuilder.forSystemUser(systemUser), refreshAt, expiresAt, new AtomicReference<>(now));
+  }
+
+  private static Instant min(Instant first, Instant second) {
+    return first.isBefore(second) ? first : second;
+  }
+
+  private static Instant max(Instant first, Instant second) {
+    return first.isAfter(second) ? first : second;
+  }
+
+  private record SystemUserContext(FolioExecutionContext context, Instant refreshAt, Instant expiresAt,
+                                   AtomicReference<Instant> lastAccess) {
+  }
+
+  private class SystemUserLoader implements AsyncCacheLoader<String, SystemUserContext> {
+
+    @Override
+    public CompletableFuture<SystemUserContext> asyncLoad(String tenantId, Executor executor) {
+      return CompletableFuture.supplyAsync(() -> login(tenantId), executor);
+    }
+
+    @Override
+    public CompletableFuture<SystemUserContext> asyncReload(String tenantId, SystemUserContext oldValue, Executor executor) {
+      return CompletableFuture.supplyAsync(() -> {
+        var systemUserContext = login(tenantId);
+        // the tenant stays idle since its last request, not since the refresh
+        systemUserContext.lastAccess.set(oldValue.lastAccess.get());
+        return systemUserContext;
+      }, executor);
+    }
+  }
+
+  private class TokenExpiry implements Expiry<String, SystemUserContext> {
+
+    @Override
+    public long expireAfterCreate(String tenantId, SystemUserContext systemUserContext, long currentTime) {
+      return Math.max(0, Duration.between(clock.instant(), systemUserContext.expiresAt).toNanos());
+    }
+
+    @Override
+    public long expireAfterUpdate(String tenantId, SystemUserContext systemUserContext, long currentTime, long currentDuration) {
+      return expireAfterCreate(tenantId, systemUserContext, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String tenantId, SystemUserContext systemUserContext, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
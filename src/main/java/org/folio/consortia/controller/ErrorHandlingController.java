@@ -8,6 +8,7 @@ import static org.folio.consortia.utils.ErrorHelper.ErrorCode.DUPLICATE_ERROR;
 import static org.folio.consortia.utils.ErrorHelper.ErrorCode.NOT_FOUND_ERROR;
 import static org.folio.consortia.utils.ErrorHelper.ErrorCode.PERMISSION_REQUIRED;
 import static org.folio.consortia.utils.ErrorHelper.ErrorCode.PUBLICATION_ERROR;
+import static org.folio.consortia.utils.ErrorHelper.ErrorCode.TOO_MANY_REQUESTS;
 import static org.folio.consortia.utils.ErrorHelper.ErrorCode.UNAUTHORIZED;
 import static org.folio.consortia.utils.ErrorHelper.ErrorCode.VALIDATION_ERROR;
 
@@ -20,6 +21,7 @@ import org.folio.consortia.exception.ConsortiumClientException;
 import org.folio.consortia.exception.InvalidTokenException;
 import org.folio.consortia.exception.UserAffiliationException;
 import org.folio.consortia.exception.PublicationException;
+import org.folio.consortia.exception.PublicationQueueFullException;
 import org.folio.consortia.exception.ResourceAlreadyExistException;
 import org.folio.consortia.exception.ResourceNotFoundException;
 import org.folio.consortia.utils.ErrorHelper;
@@ -98,6 +100,13 @@ public class ErrorHandlingController {
     return createInternalError(e.getMessage(), PUBLICATION_ERROR);
   }
 
+  @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+  @ExceptionHandler(PublicationQueueFullException.class)
+  public Errors handlePublicationQueueFullException(PublicationQueueFullException e) {
+    log.warn("Handle publication queue full exception: {}", e.getMessage());
+    return createInternalError(e.getMessage(), TOO_MANY_REQUESTS);
+  }
+
   @ResponseStatus(HttpStatus.FORBIDDEN)
   @ExceptionHandler(ConsortiumClientException.class)
   public Errors handleConsortiumClientException(FeignException e) {
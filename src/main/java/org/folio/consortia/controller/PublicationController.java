@@ -1,18 +1,27 @@
 package org.folio.consortia.controller;
 
 import static org.springframework.http.HttpStatus.NO_CONTENT;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 
 import java.net.URI;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import org.folio.consortia.domain.dto.PublicationDetailsResponse;
 import org.folio.consortia.domain.dto.PublicationRequest;
 import org.folio.consortia.domain.dto.PublicationResponse;
 import org.folio.consortia.domain.dto.PublicationResultCollection;
+import org.folio.consortia.domain.dto.PublicationStatus;
 import org.folio.consortia.service.PublicationService;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import lombok.RequiredArgsConstructor;
 
@@ -30,13 +39,38 @@ public class PublicationController implements org.folio.consortia.rest.resource.
   }
 
   @Override
-  public ResponseEntity<PublicationDetailsResponse> getPublicationDetails(UUID consortiumId, UUID publicationId){
+  public ResponseEntity<PublicationDetailsResponse> getPublicationDetails(UUID consortiumId, UUID publicationId, Long waitMs){
     return ResponseEntity.ok(publishCoordinatorService.getPublicationDetails(consortiumId, publicationId));
   }
 
+  /**
+   * Returns publication details once the publication is finished or {@code waitMs} elapsed, the request thread is
+   * released meanwhile. Requests with {@code waitMs} are mapped here instead of the generated operation, as the
+   * generator has no asynchronous response type for a single operation.
+   */
+  @GetMapping(value = "/publications/{publicationId}", params = "waitMs", produces = MediaType.APPLICATION_JSON_VALUE)
+  public CompletableFuture<ResponseEntity<PublicationDetailsResponse>> getPublicationDetailsWhenCompleted(
+    @PathVariable UUID consortiumId, @PathVariable UUID publicationId, @RequestParam long waitMs) {
+    return publishCoordinatorService.getPublicationDetailsWhenCompleted(consortiumId, publicationId, waitMs)
+      .thenApply(ResponseEntity::ok);
+  }
+
   @Override
-  public ResponseEntity<PublicationResultCollection> getPublicationResults(UUID consortiumId, UUID publicationId) {
-    return ResponseEntity.ok(publishCoordinatorService.getPublicationResults(consortiumId, publicationId));
+  public ResponseEntity<PublicationResultCollection> getPublicationResults(UUID consortiumId, UUID publicationId,
+                                                                           List<PublicationStatus> status, Integer offset, Integer limit) {
+    return ResponseEntity.ok(publishCoordinatorService.getPublicationResults(consortiumId, publicationId, status, offset, limit));
+  }
+
+  /**
+   * Streams publication results as newline delimited JSON, one {@link org.folio.consortia.domain.dto.PublicationResult}
+   * per line. The endpoint is not generated from the API specification as the generator has no streaming response type.
+   */
+  @GetMapping(value = "/publications/{publicationId}/results/stream", produces = APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> streamPublicationResults(@PathVariable UUID consortiumId, @PathVariable UUID publicationId,
+                                                                        @RequestParam(required = false) List<PublicationStatus> status) {
+    return ResponseEntity.ok()
+      .contentType(MediaType.APPLICATION_NDJSON)
+      .body(publishCoordinatorService.streamPublicationResults(consortiumId, publicationId, status));
   }
 
   @Override
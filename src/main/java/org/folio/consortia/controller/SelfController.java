@@ -32,7 +32,7 @@ public class SelfController implements SelfApi {
       throw new InvalidTokenException();
     }
 
-    UserTenantCollection userTenantCollection = userTenantService.getByUserId(consortiumId, userId, 0, Integer.MAX_VALUE);
+    UserTenantCollection userTenantCollection = userTenantService.getAllByUserId(consortiumId, userId);
 
     return ResponseEntity.ok(userTenantCollection);
   }
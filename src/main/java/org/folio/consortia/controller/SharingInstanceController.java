@@ -8,6 +8,7 @@ import java.util.UUID;
 import org.folio.consortia.domain.dto.SharingInstance;
 import org.folio.consortia.domain.dto.SharingInstanceCollection;
 import org.folio.consortia.domain.dto.Status;
+import org.folio.consortia.domain.dto.TotalRecordsMode;
 import org.folio.consortia.rest.resource.InstancesApi;
 import org.folio.consortia.service.ConsortiaConfigurationService;
 import org.folio.consortia.service.SharingInstanceService;
@@ -52,11 +53,11 @@ public class SharingInstanceController implements InstancesApi {
 
   @Override
   public ResponseEntity<SharingInstanceCollection> getSharingInstances(UUID consortiumId, UUID instanceIdentifier,
-      String sourceTenantId, String targetTenantId, Status status, Integer offset, Integer limit) {
+      String sourceTenantId, String targetTenantId, Status status, Integer offset, Integer limit, String totalRecords) {
     var centralTenantId = configurationService.getCentralTenantId(folioExecutionContext.getTenantId());
     try (var ignored = new FolioExecutionContextSetter(prepareContextForTenant(centralTenantId, folioModuleMetadata, folioExecutionContext))) {
       return ResponseEntity.ok(sharingInstanceService.getSharingInstances(consortiumId, instanceIdentifier, sourceTenantId,
-        targetTenantId, status, offset, limit));
+        targetTenantId, status, offset, limit, TotalRecordsMode.fromValue(totalRecords)));
     }
   }
 }
@@ -13,10 +13,12 @@ import org.folio.consortia.domain.dto.Tenant;
 import org.folio.consortia.domain.dto.TenantCollection;
 import org.folio.consortia.domain.dto.TenantDetails;
 import org.folio.consortia.domain.dto.TenantDetails.SetupStatusEnum;
+import org.folio.consortia.domain.dto.TotalRecordsMode;
 import org.folio.consortia.rest.resource.TenantsApi;
 import org.folio.consortia.service.SyncPrimaryAffiliationService;
 import org.folio.consortia.service.TenantService;
 import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.scope.FolioExecutionContextSetter;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.http.HttpStatus;
@@ -39,7 +41,11 @@ public class TenantController implements TenantsApi {
   private final SyncPrimaryAffiliationService syncPrimaryAffiliationService;
   private final FolioExecutionContext folioExecutionContext;
   @Override
-  public ResponseEntity<TenantCollection> getTenants(UUID consortiumId, Integer offset, Integer limit) {
+  public ResponseEntity<TenantCollection> getTenants(UUID consortiumId, Integer offset, Integer limit, String cursor,
+                                                     String totalRecords) {
+    if (cursor != null) {
+      return ResponseEntity.ok(service.getByCursor(consortiumId, cursor, limit, TotalRecordsMode.fromValue(totalRecords)));
+    }
     return ResponseEntity.ok(service.get(consortiumId, offset, limit));
   }
 
@@ -82,8 +88,16 @@ public class TenantController implements TenantsApi {
       SyncPrimaryAffiliationBody syncPrimaryAffiliationBody) {
     try {
       var context = prepareContextForTenant(centralTenantId, folioExecutionContext.getFolioModuleMetadata(), folioExecutionContext);
-      asyncTaskExecutor.execute(getRunnableWithFolioContext(context,
-        () -> syncPrimaryAffiliationService.createPrimaryUserAffiliations(consortiumId, centralTenantId, syncPrimaryAffiliationBody)));
+      Runnable createPrimaryAffiliations =
+        () -> syncPrimaryAffiliationService.createPrimaryUserAffiliations(consortiumId, centralTenantId, syncPrimaryAffiliationBody);
+      if (syncPrimaryAffiliationBody.getPageNumber() == null) {
+        asyncTaskExecutor.execute(getRunnableWithFolioContext(context, createPrimaryAffiliations));
+      } else {
+        // pages of users are processed one by one in order, the sender waits for each page before reading the next one
+        try (var ignored = new FolioExecutionContextSetter(context)) {
+          createPrimaryAffiliations.run();
+        }
+      }
       return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
     } catch (Exception e) {
       log.error("createPrimaryAffiliations:: error creating user primary affiliations", e);
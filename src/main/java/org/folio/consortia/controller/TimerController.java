@@ -1,6 +1,8 @@
 package org.folio.consortia.controller;
 
 import org.folio.consortia.service.CleanupService;
+import org.folio.consortia.service.PublicationService;
+import org.folio.consortia.service.UserTenantService;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -13,10 +15,22 @@ import lombok.extern.log4j.Log4j2;
 public class TimerController {
 
   private final CleanupService cleanupService;
+  private final PublicationService publicationService;
+  private final UserTenantService userTenantService;
 
   @PostMapping(value = "/publications-cleanup")
   public void publicationsCleanup() {
     cleanupService.clearPublicationTables();
   }
 
+  @PostMapping(value = "/publications-resume")
+  public void publicationsResume() {
+    publicationService.resumeExpiredTenantRequests();
+  }
+
+  @PostMapping(value = "/shadow-users-cleanup")
+  public void shadowUsersCleanup() {
+    userTenantService.deleteOrphanedShadowUsers();
+  }
+
 }
@@ -2,7 +2,10 @@ package org.folio.consortia.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
+import org.folio.consortia.domain.dto.TotalRecordsMode;
 import org.folio.consortia.domain.dto.UserTenant;
+import org.folio.consortia.domain.dto.UserTenantBatch;
+import org.folio.consortia.domain.dto.UserTenantBatchResult;
 import org.folio.consortia.domain.dto.UserTenantCollection;
 import org.folio.consortia.rest.resource.UserTenantsApi;
 import org.folio.consortia.service.UserTenantService;
@@ -23,17 +26,23 @@ public class UserTenantController implements UserTenantsApi {
   private final UserTenantService userTenantService;
 
   @Override
-  public ResponseEntity<UserTenantCollection> getUserTenants(UUID consortiumId, UUID userId, String username, String tenantId, Integer offset, Integer limit) {
+  public ResponseEntity<UserTenantCollection> getUserTenants(UUID consortiumId, UUID userId, String username, String tenantId, Integer offset, Integer limit,
+                                                             String cursor, String totalRecords) {
     UserTenantCollection userTenantCollection;
+    var totalRecordsMode = TotalRecordsMode.fromValue(totalRecords);
     if (userId != null) {
-      userTenantCollection = userTenantService.getByUserId(consortiumId, userId, offset, limit);
+      userTenantCollection = cursor != null
+        ? userTenantService.getByUserIdAndCursor(consortiumId, userId, cursor, limit, totalRecordsMode)
+        : userTenantService.getByUserId(consortiumId, userId, offset, limit, totalRecordsMode);
     } else if (StringUtils.isNotBlank(username)) {
       if (StringUtils.isBlank(tenantId)) {
         throw new IllegalArgumentException("tenantId is required when username is provided");
       }
       userTenantCollection = userTenantService.getByUsernameAndTenantId(consortiumId, username, tenantId);
+    } else if (cursor != null) {
+      userTenantCollection = userTenantService.getByCursor(consortiumId, cursor, limit, totalRecordsMode);
     } else {
-      userTenantCollection = userTenantService.get(consortiumId, offset, limit);
+      userTenantCollection = userTenantService.get(consortiumId, offset, limit, totalRecordsMode);
     }
     return ResponseEntity.ok(userTenantCollection);
   }
@@ -48,6 +57,11 @@ public class UserTenantController implements UserTenantsApi {
     return ResponseEntity.ok(userTenantService.save(consortiumId, userTenant, false));
   }
 
+  @Override
+  public ResponseEntity<UserTenantBatchResult> postUserTenantsBatch(UUID consortiumId, UserTenantBatch userTenantBatch) {
+    return ResponseEntity.ok(userTenantService.saveBatch(consortiumId, userTenantBatch.getUserTenants()));
+  }
+
   @Override
   public ResponseEntity<Void> deleteUserTenant(UUID consortiumId, @NotNull String tenantId, UUID userId) {
     userTenantService.deleteByUserIdAndTenantId(consortiumId, tenantId, userId);
@@ -0,0 +1,28 @@
+package org.folio.consortia.domain.converter;
+
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Stores text attributes in {@code bytea} columns in the format of {@link PublicationContentCodec}.
+ */
+@Component
+@Converter
+@RequiredArgsConstructor
+public class CompressedTextConverter implements AttributeConverter<String, byte[]> {
+
+  private final PublicationContentCodec publicationContentCodec;
+
+  @Override
+  public byte[] convertToDatabaseColumn(String attribute) {
+    return publicationContentCodec.encode(attribute);
+  }
+
+  @Override
+  public String convertToEntityAttribute(byte[] dbData) {
+    return publicationContentCodec.decode(dbData);
+  }
+}
@@ -0,0 +1,84 @@
+package org.folio.consortia.domain.converter;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Storage format of publication payloads and responses.
+ * <p>
+ * Content of at least {@code compression-threshold-bytes} is stored gzip compressed, smaller content is stored as
+ * UTF-8 text. Both forms are told apart by the gzip header, which never starts valid UTF-8 text, so rows written before
+ * and after changing the threshold are read the same way. Responses longer than {@code max-response-length} characters
+ * are truncated before they are stored.
+ */
+@Log4j2
+@Component
+public class PublicationContentCodec {
+
+  static final String TRUNCATED_SUFFIX = "...[truncated]";
+
+  private final int compressionThresholdBytes;
+  private final int maxResponseLength;
+
+  public PublicationContentCodec(@Value("${folio.publication.storage.compression-threshold-bytes:1024}") int compressionThresholdBytes,
+                                 @Value("${folio.publication.storage.max-response-length:1048576}") int maxResponseLength) {
+    this.compressionThresholdBytes = compressionThresholdBytes;
+    this.maxResponseLength = maxResponseLength;
+  }
+
+  public byte[] encode(String content) {
+    if (content == null) {
+      return null;
+    }
+    var bytes = content.getBytes(UTF_8);
+    // negative threshold turns the compression off
+    if (compressionThresholdBytes < 0 || bytes.length < compressionThresholdBytes) {
+      return bytes;
+    }
+    var compressed = new ByteArrayOutputStream(bytes.length / 4);
+    try (var gzip = new GZIPOutputStream(compressed)) {
+      gzip.write(bytes);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return compressed.size() < bytes.length ? compressed.toByteArray() : bytes;
+  }
+
+  public String decode(byte[] content) {
+    if (content == null) {
+      return null;
+    }
+    if (!isCompressed(content)) {
+      return new String(content, UTF_8);
+    }
+    try (var gzip = new GZIPInputStream(new ByteArrayInputStream(content))) {
+      return new String(gzip.readAllBytes(), UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  public String truncateResponse(String response) {
+    if (response == null || maxResponseLength <= 0 || response.length() <= maxResponseLength) {
+      return response;
+    }
+    log.debug("truncateResponse:: response of {} characters is truncated to {}", response.length(), maxResponseLength);
+    return response.substring(0, maxResponseLength) + TRUNCATED_SUFFIX;
+  }
+
+  private static boolean isCompressed(byte[] content) {
+    return content.length >= 2 && (content[0] & 0xff) == (GZIPInputStream.GZIP_MAGIC & 0xff)
+      && (content[1] & 0xff) == (GZIPInputStream.GZIP_MAGIC >> 8);
+  }
+}
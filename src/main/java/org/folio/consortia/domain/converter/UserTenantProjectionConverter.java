@@ -0,0 +1,23 @@
+package org.folio.consortia.domain.converter;
+
+import org.folio.consortia.domain.dto.UserTenant;
+import org.folio.consortia.domain.projection.UserTenantProjection;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserTenantProjectionConverter implements Converter<UserTenantProjection, UserTenant> {
+
+  @Override
+  public UserTenant convert(UserTenantProjection source) {
+    UserTenant userTenant = new UserTenant();
+    userTenant.setId(source.id());
+    userTenant.setUserId(source.userId());
+    userTenant.setUsername(source.username());
+    userTenant.setTenantId(source.tenantId());
+    userTenant.setTenantName(source.tenantName());
+    userTenant.setIsPrimary(source.isPrimary());
+    return userTenant;
+  }
+
+}
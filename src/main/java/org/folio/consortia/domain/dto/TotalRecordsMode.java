@@ -0,0 +1,31 @@
+package org.folio.consortia.domain.dto;
+
+import java.util.Arrays;
+
+import lombok.Getter;
+
+/**
+ * How {@code totalRecords} of a collection response is calculated.
+ */
+@Getter
+public enum TotalRecordsMode {
+  EXACT("exact"),
+  ESTIMATED("estimated"),
+  NONE("none");
+
+  TotalRecordsMode(String value) {
+    this.value = value;
+  }
+
+  private final String value;
+
+  public static TotalRecordsMode fromValue(String value) {
+    if (value == null) {
+      return EXACT;
+    }
+    return Arrays.stream(values())
+      .filter(mode -> mode.value.equalsIgnoreCase(value))
+      .findFirst()
+      .orElseThrow(() -> new IllegalArgumentException("Unexpected totalRecords value: " + value));
+  }
+}
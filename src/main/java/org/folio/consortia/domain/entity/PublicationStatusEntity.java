@@ -2,9 +2,11 @@ package org.folio.consortia.domain.entity;
 
 import java.util.UUID;
 
+import org.folio.consortia.domain.converter.CompressedTextConverter;
 import org.folio.consortia.domain.dto.PublicationStatus;
 import org.folio.consortia.domain.entity.base.AuditableEntity;
 
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -29,4 +31,13 @@ public class PublicationStatusEntity extends AuditableEntity {
   private PublicationStatus status;
 
   private Integer totalRecords;
+
+  // incremented by the results write buffer, as tenant requests finish
+  private Integer completedCount;
+  private Integer failedCount;
+
+  // payload is the same for all tenants, so it is stored once per publication
+  @ToString.Exclude
+  @Convert(converter = CompressedTextConverter.class)
+  private String requestPayload;
 }
@@ -3,19 +3,26 @@ package org.folio.consortia.domain.entity;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+import org.folio.consortia.domain.converter.CompressedTextConverter;
 import org.folio.consortia.domain.dto.PublicationStatus;
 import org.folio.consortia.domain.entity.base.AuditableEntity;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.domain.Persistable;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
@@ -27,7 +34,7 @@ import lombok.ToString;
 @RequiredArgsConstructor
 @Entity
 @Table(name = "pc_tenant_request")
-public class PublicationTenantRequestEntity extends AuditableEntity {
+public class PublicationTenantRequestEntity extends AuditableEntity implements Persistable<UUID> {
   @Id
   private UUID id;
 
@@ -41,7 +48,10 @@ public class PublicationTenantRequestEntity extends AuditableEntity {
   private PublicationStatus status;
 
   private String requestUrl;
+  private String requestMethod;
+  @Convert(converter = CompressedTextConverter.class)
   private String requestPayload;
+  @Convert(converter = CompressedTextConverter.class)
   private String response;
   private Integer responseStatusCode;
 
@@ -49,4 +59,25 @@ public class PublicationTenantRequestEntity extends AuditableEntity {
   @Column(name = "completed_date")
   private LocalDateTime completedDate;
 
+  // module instance processing the tenant request, the lease is renewed while the request is in flight
+  private String leaseOwner;
+  private LocalDateTime leaseExpiresAt;
+
+  // id is assigned by the application, so new entities are persisted without checking the database first
+  @Transient
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  @ToString.Exclude
+  private boolean newEntity = true;
+
+  @Override
+  public boolean isNew() {
+    return newEntity;
+  }
+
+  @PostLoad
+  @PostPersist
+  void markNotNew() {
+    this.newEntity = false;
+  }
 }
@@ -4,12 +4,17 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 import org.folio.consortia.domain.entity.base.AuditableEntity;
+import org.springframework.data.domain.Persistable;
 
 import java.util.Objects;
 import java.util.UUID;
@@ -20,7 +25,7 @@ import java.util.UUID;
 @RequiredArgsConstructor
 @Entity
 @Table(name = "user_tenant")
-public class UserTenantEntity extends AuditableEntity {
+public class UserTenantEntity extends AuditableEntity implements Persistable<UUID> {
 
   @Id
   private UUID id;
@@ -32,6 +37,24 @@ public class UserTenantEntity extends AuditableEntity {
 
   private Boolean isPrimary;
 
+  // id is assigned by the application, so new entities are persisted without checking the database first
+  @Transient
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  @ToString.Exclude
+  private boolean newEntity = true;
+
+  @Override
+  public boolean isNew() {
+    return newEntity;
+  }
+
+  @PostLoad
+  @PostPersist
+  void markNotNew() {
+    this.newEntity = false;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
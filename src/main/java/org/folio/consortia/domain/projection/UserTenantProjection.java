@@ -0,0 +1,11 @@
+package org.folio.consortia.domain.projection;
+
+import java.util.UUID;
+
+/**
+ * Read-only view of a user tenant association joined with its tenant, read by a single query without building
+ * {@link org.folio.consortia.domain.entity.UserTenantEntity} and its tenant.
+ */
+public record UserTenantProjection(UUID id, UUID userId, String username, String tenantId, String tenantName,
+                                   Boolean isPrimary) {
+}
@@ -4,6 +4,7 @@ public class PublicationException extends RuntimeException {
 
   public static final String TENANT_LIST_EMPTY = "Tenant list is empty";
   public static final String PRIMARY_AFFILIATION_NOT_EXISTS = "User doesn't have primary affiliation";
+  public static final String CALLBACK_URL_NOT_RELATIVE = "Callback URL must be a path of Okapi starting with '/'";
   public PublicationException(String message) {
     super(message);
   }
@@ -0,0 +1,11 @@
+package org.folio.consortia.exception;
+
+public class PublicationQueueFullException extends RuntimeException {
+
+  public static final String PUBLICATION_QUEUE_FULL_MSG = "Publication queue is full: %s tenant requests are pending, " +
+    "%s more cannot be accepted. Please retry later";
+
+  public PublicationQueueFullException(int pendingRequests, int requestedRequests) {
+    super(String.format(PUBLICATION_QUEUE_FULL_MSG, pendingRequests, requestedRequests));
+  }
+}
@@ -0,0 +1,18 @@
+package org.folio.consortia.exception;
+
+import java.util.Map;
+
+public class TenantFanOutException extends RuntimeException {
+
+  public static final String TENANT_FAN_OUT_MSG = "%s failed in %s of %s tenants: %s";
+
+  /**
+   * @param action        description of the action run in each tenant
+   * @param failures      failures keyed by tenant, added to this exception as suppressed
+   * @param tenantsNumber number of tenants in which the action was run
+   */
+  public TenantFanOutException(String action, Map<String, Throwable> failures, int tenantsNumber) {
+    super(String.format(TENANT_FAN_OUT_MSG, action, failures.size(), tenantsNumber, failures.keySet()));
+    failures.values().forEach(this::addSuppressed);
+  }
+}
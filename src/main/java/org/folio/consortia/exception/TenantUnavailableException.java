@@ -0,0 +1,11 @@
+package org.folio.consortia.exception;
+
+public class TenantUnavailableException extends RuntimeException {
+
+  public static final String TENANT_UNAVAILABLE_MSG = "Requests to tenant %s are suspended after repeated failures, " +
+    "the circuit breaker is open";
+
+  public TenantUnavailableException(String tenantId) {
+    super(String.format(TENANT_UNAVAILABLE_MSG, tenantId));
+  }
+}
@@ -1,10 +1,13 @@
 package org.folio.consortia.repository;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 
+import org.folio.consortia.domain.dto.PublicationStatus;
 import org.folio.consortia.domain.entity.PublicationStatusEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -12,4 +15,7 @@ public interface PublicationStatusRepository extends JpaRepository<PublicationSt
 
   int deleteAllByCreatedDateBefore(LocalDateTime yesterday);
 
+  @Query("SELECT ps.status FROM PublicationStatusEntity ps WHERE ps.id= ?1")
+  Optional<PublicationStatus> findStatusById(UUID publicationId);
+
 }
@@ -1,18 +1,48 @@
 package org.folio.consortia.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.folio.consortia.domain.dto.PublicationStatus;
 import org.folio.consortia.domain.entity.PublicationTenantRequestEntity;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface PublicationTenantRequestRepository extends JpaRepository<PublicationTenantRequestEntity, UUID> {
 
   Page<PublicationTenantRequestEntity> findByPcStateId(UUID publicationId, Pageable pageable);
+  Page<PublicationTenantRequestEntity> findByPcStateIdAndStatusIn(UUID publicationId, Collection<PublicationStatus> statuses, Pageable pageable);
+  List<PublicationTenantRequestEntity> findByPcStateIdAndStatus(UUID publicationId, PublicationStatus status);
+
+  @Query("SELECT ptr.requestPayload FROM PublicationTenantRequestEntity ptr WHERE ptr.pcState.id = ?1")
+  List<String> findRequestPayloadsByPcStateId(UUID publicationId, Limit limit);
+
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("SELECT ptr FROM PublicationTenantRequestEntity ptr WHERE ptr.pcState.id = ?1 ORDER BY ptr.tenantId")
+  Stream<PublicationTenantRequestEntity> streamByPcStateId(UUID publicationId);
+
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("SELECT ptr FROM PublicationTenantRequestEntity ptr WHERE ptr.pcState.id = ?1 AND ptr.status IN ?2 ORDER BY ptr.tenantId")
+  Stream<PublicationTenantRequestEntity> streamByPcStateIdAndStatusIn(UUID publicationId, Collection<PublicationStatus> statuses);
+
   void deleteByPcStateId(UUID publicationId);
 
   int deleteAllByCreatedDateBefore(LocalDateTime yesterday);
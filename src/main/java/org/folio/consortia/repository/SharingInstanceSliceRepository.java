@@ -0,0 +1,18 @@
+package org.folio.consortia.repository;
+
+import org.folio.consortia.domain.entity.SharingInstanceEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface SharingInstanceSliceRepository {
+
+  /**
+   * Reads a slice of sharing instances matching the specification without counting all matching ones.
+   *
+   * @param specification sharing instance filter, {@code null} matches all
+   * @param pageable      offset and size of the slice
+   * @return slice of sharing instances
+   */
+  Slice<SharingInstanceEntity> findSlice(Specification<SharingInstanceEntity> specification, Pageable pageable);
+}
@@ -0,0 +1,36 @@
+package org.folio.consortia.repository;
+
+import org.folio.consortia.domain.entity.SharingInstanceEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class SharingInstanceSliceRepositoryImpl implements SharingInstanceSliceRepository {
+
+  @PersistenceContext
+  private final EntityManager entityManager;
+
+  @Override
+  public Slice<SharingInstanceEntity> findSlice(Specification<SharingInstanceEntity> specification, Pageable pageable) {
+    var criteriaBuilder = entityManager.getCriteriaBuilder();
+    var query = criteriaBuilder.createQuery(SharingInstanceEntity.class);
+    var root = query.from(SharingInstanceEntity.class);
+    var predicate = specification == null ? null : specification.toPredicate(root, query, criteriaBuilder);
+    if (predicate != null) {
+      query.where(predicate);
+    }
+    // one more sharing instance is read to find out whether there is a next slice
+    var content = entityManager.createQuery(query)
+      .setFirstResult((int) pageable.getOffset())
+      .setMaxResults(Math.min(pageable.getPageSize(), Integer.MAX_VALUE - 1) + 1)
+      .getResultList();
+    var hasNext = content.size() > pageable.getPageSize();
+    return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+  }
+}
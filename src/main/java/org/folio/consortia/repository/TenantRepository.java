@@ -17,6 +17,15 @@ public interface TenantRepository extends JpaRepository<TenantEntity, String> {
   @Query("SELECT t FROM TenantEntity t WHERE t.consortiumId = ?1 and t.isDeleted = FALSE")
   Page<TenantEntity> findByConsortiumId(UUID consortiumId, Pageable pageable);
 
+  @Query("SELECT t FROM TenantEntity t WHERE t.consortiumId = ?1 and t.isDeleted = FALSE ORDER BY t.id")
+  List<TenantEntity> findFirstKeysetPageByConsortiumId(UUID consortiumId, Pageable pageable);
+
+  @Query("SELECT t FROM TenantEntity t WHERE t.consortiumId = ?1 and t.isDeleted = FALSE and t.id > ?2 ORDER BY t.id")
+  List<TenantEntity> findKeysetPageByConsortiumIdAfterId(UUID consortiumId, String id, Pageable pageable);
+
+  @Query("SELECT count(t) FROM TenantEntity t WHERE t.consortiumId = ?1 and t.isDeleted = FALSE")
+  long countByConsortiumId(UUID consortiumId);
+
   @Query("SELECT t FROM TenantEntity t WHERE t.consortiumId = ?1 and t.isDeleted = FALSE")
   List<TenantEntity> findByConsortiumId(UUID consortiumId);
 
@@ -1,13 +1,17 @@
 package org.folio.consortia.repository;
 
 import org.folio.consortia.domain.entity.UserTenantEntity;
+import org.folio.consortia.domain.projection.UserTenantProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,17 +19,50 @@ import java.util.UUID;
 @Repository
 public interface UserTenantRepository extends JpaRepository<UserTenantEntity, UUID> {
 
-  @Query("SELECT ut FROM UserTenantEntity ut WHERE ut.tenant.isDeleted= FALSE")
-  Page<UserTenantEntity> getAll(Pageable pageable);
+  // associations are read joined with their tenants into projections, so tenants are not loaded by separate queries
+  String SELECT_USER_TENANT_PROJECTION = "SELECT new org.folio.consortia.domain.projection.UserTenantProjection("
+    + "ut.id, ut.userId, ut.username, t.id, t.name, ut.isPrimary) FROM UserTenantEntity ut JOIN ut.tenant t ";
 
-  @Query("SELECT ut FROM UserTenantEntity ut WHERE ut.userId= ?1 AND ut.tenant.isDeleted= FALSE")
-  Page<UserTenantEntity> findByUserId(UUID userId, Pageable pageable);
+  @Query(value = SELECT_USER_TENANT_PROJECTION + "WHERE t.isDeleted= FALSE",
+    countQuery = "SELECT count(ut) FROM UserTenantEntity ut JOIN ut.tenant t WHERE t.isDeleted= FALSE")
+  Page<UserTenantProjection> getAll(Pageable pageable);
+
+  @Query(SELECT_USER_TENANT_PROJECTION + "WHERE t.isDeleted= FALSE")
+  Slice<UserTenantProjection> getAllSlice(Pageable pageable);
+
+  @Query(value = SELECT_USER_TENANT_PROJECTION + "WHERE ut.userId= ?1 AND t.isDeleted= FALSE",
+    countQuery = "SELECT count(ut) FROM UserTenantEntity ut JOIN ut.tenant t WHERE ut.userId= ?1 AND t.isDeleted= FALSE")
+  Page<UserTenantProjection> findByUserId(UUID userId, Pageable pageable);
+
+  @Query(SELECT_USER_TENANT_PROJECTION + "WHERE ut.userId= ?1 AND t.isDeleted= FALSE")
+  Slice<UserTenantProjection> findSliceByUserId(UUID userId, Pageable pageable);
+
+  @Query(SELECT_USER_TENANT_PROJECTION + "WHERE t.isDeleted= FALSE ORDER BY ut.id")
+  List<UserTenantProjection> getFirstKeysetPage(Pageable pageable);
+
+  @Query(SELECT_USER_TENANT_PROJECTION + "WHERE ut.id > ?1 AND t.isDeleted= FALSE ORDER BY ut.id")
+  List<UserTenantProjection> getKeysetPageAfterId(UUID id, Pageable pageable);
+
+  @Query("SELECT count(ut) FROM UserTenantEntity ut WHERE ut.tenant.isDeleted= FALSE")
+  long countAll();
+
+  @Query(SELECT_USER_TENANT_PROJECTION + "WHERE ut.userId= ?1 AND t.isDeleted= FALSE ORDER BY t.id")
+  List<UserTenantProjection> findFirstKeysetPageByUserId(UUID userId, Pageable pageable);
+
+  @Query(SELECT_USER_TENANT_PROJECTION + "WHERE ut.userId= ?1 AND t.id > ?2 AND t.isDeleted= FALSE ORDER BY t.id")
+  List<UserTenantProjection> findKeysetPageByUserIdAfterTenantId(UUID userId, String tenantId, Pageable pageable);
+
+  @Query("SELECT count(ut) FROM UserTenantEntity ut WHERE ut.userId= ?1 AND ut.tenant.isDeleted= FALSE")
+  long countByUserId(UUID userId);
 
   @Query("SELECT ut FROM UserTenantEntity ut WHERE ut.userId= ?1")
   Page<UserTenantEntity> findAnyByUserId(UUID userId, Pageable pageable);
 
-  @Query("SELECT ut FROM UserTenantEntity ut WHERE ut.username= ?1 AND ut.tenant.id= ?2 AND ut.tenant.isDeleted= FALSE")
-  Optional<UserTenantEntity> findByUsernameAndTenantId(String username, String tenantId);
+  @Query("SELECT ut FROM UserTenantEntity ut WHERE ut.userId IN ?1")
+  List<UserTenantEntity> findAnyByUserIds(Collection<UUID> userIds);
+
+  @Query(SELECT_USER_TENANT_PROJECTION + "WHERE ut.username= ?1 AND t.id= ?2 AND t.isDeleted= FALSE")
+  Optional<UserTenantProjection> findByUsernameAndTenantId(String username, String tenantId);
 
   @Query("SELECT ut FROM UserTenantEntity ut WHERE ut.userId= ?1 AND ut.tenant.id= ?2")
   Optional<UserTenantEntity> findByUserIdAndTenantId(UUID userId, String tenantId);
@@ -36,6 +73,9 @@ public interface UserTenantRepository extends JpaRepository<UserTenantEntity, UU
   @Query("SELECT ut FROM UserTenantEntity ut WHERE ut.userId NOT IN (SELECT ut.userId FROM UserTenantEntity ut WHERE ut.userId= ?1 AND ut.isPrimary=true) AND ut.userId= ?1")
   List<UserTenantEntity> getOrphansByUserIdAndIsPrimaryFalse(UUID userId);
 
+  @Query("SELECT DISTINCT ut.userId FROM UserTenantEntity ut WHERE ut.isPrimary= false AND NOT EXISTS (SELECT p FROM UserTenantEntity p WHERE p.userId= ut.userId AND p.isPrimary= true)")
+  List<UUID> findOrphanedUserIds(Pageable pageable);
+
   @Query("SELECT ut FROM UserTenantEntity ut WHERE ut.userId= ?1 AND ut.isPrimary= false")
   List<UserTenantEntity> getByUserIdAndIsPrimaryFalse(UUID userId);
 
@@ -52,6 +92,7 @@ public interface UserTenantRepository extends JpaRepository<UserTenantEntity, UU
   int deleteByUserIdAndIsPrimaryTrue(UUID userId);
 
   @Modifying
-  @Query("DELETE FROM UserTenantEntity ut WHERE ut.userId NOT IN (SELECT ut.userId FROM UserTenantEntity ut WHERE ut.userId= ?1 AND ut.isPrimary=true) AND ut.userId= ?1")
-  void deleteOrphansByUserIdAndIsPrimaryFalse(UUID userId);
+  @Transactional
+  @Query("DELETE FROM UserTenantEntity ut WHERE ut.userId NOT IN (SELECT ut.userId FROM UserTenantEntity ut WHERE ut.userId= ?1 AND ut.isPrimary=true) AND ut.userId= ?1 AND ut.tenant.id IN ?2")
+  int deleteOrphansByUserIdAndTenantIds(UUID userId, Collection<String> tenantIds);
 }
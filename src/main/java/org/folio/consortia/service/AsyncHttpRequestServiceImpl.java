@@ -0,0 +1,123 @@
+package org.folio.consortia.service;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.apache.commons.lang3.StringUtils;
+import org.folio.consortia.domain.dto.PublicationHttpResponse;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.SneakyThrows;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Non-blocking {@link HttpRequestService} built on the JDK {@link HttpClient}.
+ * <p>
+ * All requests share the connection pool of a single client, connections are kept alive between requests.
+ * Responses are handled by a small executor of the client, so no thread waits for a tenant response.
+ * Response bodies are returned as they are read, unless {@code normalize-response-body} is enabled.
+ */
+@Log4j2
+@Service
+@ConditionalOnProperty(name = "folio.publication.http-client.engine", havingValue = "async")
+public class AsyncHttpRequestServiceImpl implements HttpRequestService {
+  private final HttpClient publicationHttpClient;
+  private final FolioExecutionContext folioExecutionContext;
+  private final ObjectMapper objectMapper;
+  private final Duration readTimeout;
+  private final boolean normalizeResponseBody;
+
+  public AsyncHttpRequestServiceImpl(HttpClient publicationHttpClient, FolioExecutionContext folioExecutionContext,
+                                     ObjectMapper objectMapper,
+                                     @Value("${folio.publication.http-client.read-timeout-ms:60000}") long readTimeoutMs,
+                                     @Value("${folio.publication.http-client.normalize-response-body:false}") boolean normalizeResponseBody) {
+    this.publicationHttpClient = publicationHttpClient;
+    this.folioExecutionContext = folioExecutionContext;
+    this.objectMapper = objectMapper;
+    this.readTimeout = Duration.ofMillis(readTimeoutMs);
+    this.normalizeResponseBody = normalizeResponseBody;
+  }
+
+  @Override
+  public PublicationHttpResponse performRequest(String url, HttpMethod httpMethod, Object payload) {
+    try {
+      return performRequestAsync(url, httpMethod, payload).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw e;
+    }
+  }
+
+  @Override
+  public CompletableFuture<PublicationHttpResponse> performRequestAsync(String url, HttpMethod httpMethod, Object payload) {
+    HttpRequest request;
+    try {
+      request = buildRequest(url, httpMethod, payload);
+    } catch (RuntimeException | JsonProcessingException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    log.debug("performRequestAsync:: sending {} '{}' request to tenant {}", httpMethod, url, folioExecutionContext.getTenantId());
+
+    return publicationHttpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+      .thenApply(response -> new PublicationHttpResponse(
+        toResponseBody(httpMethod, response), HttpStatusCode.valueOf(response.statusCode())));
+  }
+
+  private HttpRequest buildRequest(String url, HttpMethod httpMethod, Object payload) throws JsonProcessingException {
+    var bodyPublisher = switch (httpMethod.name()) {
+      case "GET", "DELETE" -> HttpRequest.BodyPublishers.noBody();
+      case "POST", "PUT" -> HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(payload));
+      default -> throw new IllegalStateException("Unexpected HTTP method value: " + httpMethod);
+    };
+
+    var requestBuilder = HttpRequest.newBuilder(URI.create(folioExecutionContext.getOkapiUrl() + url))
+      .timeout(readTimeout)
+      .method(httpMethod.name(), bodyPublisher)
+      .header(HttpHeaders.ACCEPT, MediaType.ALL_VALUE)
+      .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+    folioExecutionContext.getOkapiHeaders()
+      .forEach((name, values) -> values.forEach(value -> requestBuilder.header(name, value)));
+    return requestBuilder.build();
+  }
+
+  /**
+   * Keeps the response body in the same form as {@link HttpRequestServiceImpl} does: the body as it is read or,
+   * when normalized, successful JSON responses are re-serialized and body of DELETE response is serialized as JSON string.
+   */
+  @SneakyThrows
+  private String toResponseBody(HttpMethod httpMethod, HttpResponse<String> response) {
+    var body = StringUtils.defaultIfEmpty(response.body(), null);
+    if (!normalizeResponseBody) {
+      return body;
+    }
+    if (HttpMethod.DELETE.equals(httpMethod)) {
+      return objectMapper.writeValueAsString(body);
+    }
+    if (body == null || !HttpStatusCode.valueOf(response.statusCode()).is2xxSuccessful()) {
+      return body;
+    }
+    try {
+      return objectMapper.writeValueAsString(objectMapper.readValue(body, Object.class));
+    } catch (JsonProcessingException e) {
+      log.debug("toResponseBody:: response body is not a JSON, returning it as is");
+      return body;
+    }
+  }
+}
@@ -1,8 +1,27 @@
 package org.folio.consortia.service;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.folio.consortia.domain.dto.PublicationHttpResponse;
 import org.springframework.http.HttpMethod;
 
 public interface HttpRequestService {
   PublicationHttpResponse performRequest(String url, HttpMethod httpMethod, Object payload);
+
+  /**
+   * Performs the request to the tenant of current FOLIO execution context.
+   * Headers of the context are captured when the method is called, so the context may be changed right after that.
+   *
+   * @param url        relative url of the request
+   * @param httpMethod http method
+   * @param payload    request body
+   * @return future completed with the response
+   */
+  default CompletableFuture<PublicationHttpResponse> performRequestAsync(String url, HttpMethod httpMethod, Object payload) {
+    try {
+      return CompletableFuture.completedFuture(performRequest(url, httpMethod, payload));
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
 }
@@ -1,5 +1,6 @@
 package org.folio.consortia.service;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -8,6 +9,8 @@ import java.util.Map;
 import org.folio.consortia.domain.dto.PublicationHttpResponse;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.integration.XOkapiHeaders;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -17,17 +20,31 @@ import org.springframework.web.client.RestTemplate;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.log4j.Log4j2;
 
+/**
+ * Blocking {@link HttpRequestService} built on {@link RestTemplate}.
+ * <p>
+ * Response bodies are read once as bytes and returned as they are. With {@code normalize-response-body} enabled,
+ * responses are parsed and serialized back to JSON instead, which costs a full parse of every response.
+ */
 @Service
-@RequiredArgsConstructor
 @Log4j2
+@ConditionalOnProperty(name = "folio.publication.http-client.engine", havingValue = "blocking", matchIfMissing = true)
 public class HttpRequestServiceImpl implements HttpRequestService {
   private final RestTemplate restTemplate;
   private final FolioExecutionContext folioExecutionContext;
   private final ObjectMapper objectMapper;
+  private final boolean normalizeResponseBody;
+
+  public HttpRequestServiceImpl(RestTemplate restTemplate, FolioExecutionContext folioExecutionContext, ObjectMapper objectMapper,
+                                @Value("${folio.publication.http-client.normalize-response-body:false}") boolean normalizeResponseBody) {
+    this.restTemplate = restTemplate;
+    this.folioExecutionContext = folioExecutionContext;
+    this.objectMapper = objectMapper;
+    this.normalizeResponseBody = normalizeResponseBody;
+  }
 
   @SneakyThrows
   @Override
@@ -40,6 +57,9 @@ public class HttpRequestServiceImpl implements HttpRequestService {
     var absUrl = folioExecutionContext.getOkapiUrl() + url;
     log.debug("performRequest:: folio context header TENANT = {}", folioExecutionContext.getOkapiHeaders().get(XOkapiHeaders.TENANT).iterator().next());
 
+    if (!normalizeResponseBody) {
+      return performRawRequest(absUrl, httpMethod, httpEntity);
+    }
     var responseEntity = switch (httpMethod.toString()) {
       case "GET", "POST", "PUT" -> restTemplate.exchange(absUrl, httpMethod, httpEntity, Object.class);
       case "DELETE" -> restTemplate.exchange(absUrl, httpMethod, httpEntity, String.class);
@@ -49,6 +69,21 @@ public class HttpRequestServiceImpl implements HttpRequestService {
     return new PublicationHttpResponse(objectMapper.writeValueAsString(responseEntity.getBody()), responseEntity.getStatusCode());
   }
 
+  private PublicationHttpResponse performRawRequest(String absUrl, HttpMethod httpMethod, HttpEntity<Object> httpEntity) {
+    var responseEntity = switch (httpMethod.toString()) {
+      case "GET", "POST", "PUT", "DELETE" -> restTemplate.exchange(absUrl, httpMethod, httpEntity, byte[].class);
+      default -> throw new IllegalStateException("Unexpected HTTP method value: " + httpMethod);
+    };
+
+    var body = responseEntity.getBody();
+    if (body == null || body.length == 0) {
+      return new PublicationHttpResponse(null, responseEntity.getStatusCode());
+    }
+    var contentType = responseEntity.getHeaders().getContentType();
+    var charset = contentType != null && contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+    return new PublicationHttpResponse(new String(body, charset), responseEntity.getStatusCode());
+  }
+
   private HttpHeaders convertHeadersToMultiMap(Map<String, Collection<String>> contextHeaders) {
     HttpHeaders multimapHeaders = new HttpHeaders();
     contextHeaders.forEach((key, value) -> multimapHeaders.put(key, new ArrayList<>(value)));
@@ -1,20 +1,55 @@
 package org.folio.consortia.service;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import org.folio.consortia.domain.dto.PublicationDetailsResponse;
 import org.folio.consortia.domain.dto.PublicationRequest;
 import org.folio.consortia.domain.dto.PublicationResponse;
 import org.folio.consortia.domain.dto.PublicationResultCollection;
+import org.folio.consortia.domain.dto.PublicationStatus;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 public interface PublicationService {
   PublicationResponse publishRequest(UUID consortiumId, PublicationRequest publication);
 
   PublicationDetailsResponse getPublicationDetails(UUID consortiumId, UUID publicationId);
 
-  PublicationResultCollection getPublicationResults(UUID consortiumId, UUID publicationId);
+  PublicationResultCollection getPublicationResults(UUID consortiumId, UUID publicationId, List<PublicationStatus> statuses,
+                                                    Integer offset, Integer limit);
+
+  StreamingResponseBody streamPublicationResults(UUID consortiumId, UUID publicationId, List<PublicationStatus> statuses);
 
   boolean checkPublicationDetailsExists(UUID consortiumId, UUID publicationId);
 
+  /**
+   * Returns completion of the publication, it can be used to react on the finished publication without polling.
+   *
+   * @param consortiumId  id of the consortium
+   * @param publicationId id of the publication
+   * @return future completed with the final status of the publication
+   */
+  CompletableFuture<PublicationStatus> getPublicationCompletion(UUID consortiumId, UUID publicationId);
+
+  /**
+   * Returns details of the publication once it is finished, but no later than after given time. No thread waits
+   * for the publication meanwhile.
+   *
+   * @param consortiumId  id of the consortium
+   * @param publicationId id of the publication
+   * @param waitMs        maximum time to wait in milliseconds, limited by {@code folio.publication.completion.max-wait-ms}
+   * @return future completed with details of the publication
+   */
+  CompletableFuture<PublicationDetailsResponse> getPublicationDetailsWhenCompleted(UUID consortiumId, UUID publicationId, long waitMs);
+
   void deletePublicationById(UUID consortiumId, UUID publicationId);
+
+  /**
+   * Claims tenant requests of the current tenant, which leases expired because the module instance processing them
+   * is gone, and dispatches them again.
+   *
+   * @return number of resumed tenant requests
+   */
+  int resumeExpiredTenantRequests();
 }
@@ -5,6 +5,7 @@ import java.util.UUID;
 import org.folio.consortia.domain.dto.SharingInstance;
 import org.folio.consortia.domain.dto.SharingInstanceCollection;
 import org.folio.consortia.domain.dto.Status;
+import org.folio.consortia.domain.dto.TotalRecordsMode;
 
 public interface SharingInstanceService {
 
@@ -33,10 +34,11 @@ public interface SharingInstanceService {
    * @param status             the status of the sharing instance
    * @param offset             the offset
    * @param limit              the limit
+   * @param totalRecordsMode   how total records are calculated
    * @return the sharing instance collection
    */
   SharingInstanceCollection getSharingInstances(UUID consortiumId, UUID instanceIdentifier, String sourceTenantId,
-      String targetTenantId, Status status, Integer offset, Integer limit);
+      String targetTenantId, Status status, Integer offset, Integer limit, TotalRecordsMode totalRecordsMode);
 
   /**
    * Update 'status' and 'error' fields of sharingInstance according to Kafka message payload
@@ -7,7 +7,8 @@ import java.util.UUID;
 public interface SyncPrimaryAffiliationService {
 
   /**
-   * Sync primary affiliation for user
+   * Sync primary affiliation for user.
+   * Users of the tenant are read and sent to create primary affiliations page by page.
    * @param consortiumId               - consortium unique identifier
    * @param centralTenantId            - central tenant unique identifier
    * @param syncPrimaryAffiliationBody - consortia tenant record
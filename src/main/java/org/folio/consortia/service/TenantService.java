@@ -7,6 +7,7 @@ import org.folio.consortia.domain.dto.Tenant;
 import org.folio.consortia.domain.dto.TenantCollection;
 import org.folio.consortia.domain.dto.TenantDetails;
 import org.folio.consortia.domain.dto.TenantDetails.SetupStatusEnum;
+import org.folio.consortia.domain.dto.TotalRecordsMode;
 import org.folio.consortia.domain.entity.TenantEntity;
 import org.folio.consortia.exception.ResourceNotFoundException;
 
@@ -22,6 +23,17 @@ public interface TenantService {
    */
   TenantCollection get(UUID consortiumId, Integer offset, Integer limit);
 
+  /**
+   * Gets a page of tenant collection based on consortiumId by keyset pagination, tenants are sorted by id.
+   *
+   * @param consortiumId     the consortiumId
+   * @param cursor           {@code *} for the first page or next cursor of the previous page
+   * @param limit            the limit
+   * @param totalRecordsMode how total records are calculated
+   * @return tenant collection with the next cursor
+   */
+  TenantCollection getByCursor(UUID consortiumId, String cursor, Integer limit, TotalRecordsMode totalRecordsMode);
+
   /**
    * Gets all tenant collection based on consortiumId.
    *
@@ -2,7 +2,9 @@ package org.folio.consortia.service;
 
 import org.folio.consortia.domain.dto.User;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -59,4 +61,14 @@ public interface UserService {
    * return user.
    */
   User prepareShadowUser(UUID userId, String tenantId);
+
+  /**
+   * Prepare shadow users from real users fetched in bulk from their home tenant.
+   *
+   * @param userIds ids of "real" users.
+   * @param tenantId id of home tenant of the users.
+   *
+   * @return shadow users by id, users not found in the tenant are missing.
+   */
+  Map<UUID, User> prepareShadowUsers(Collection<UUID> userIds, String tenantId);
 }
@@ -1,8 +1,11 @@
 package org.folio.consortia.service;
 
+import java.util.List;
 import java.util.UUID;
 
+import org.folio.consortia.domain.dto.TotalRecordsMode;
 import org.folio.consortia.domain.dto.UserTenant;
+import org.folio.consortia.domain.dto.UserTenantBatchResult;
 import org.folio.consortia.domain.dto.UserTenantCollection;
 import org.folio.consortia.domain.entity.TenantEntity;
 import org.folio.consortia.domain.entity.UserTenantEntity;
@@ -20,21 +23,62 @@ public interface UserTenantService {
   /**
    * Get user tenant associations collection by query based on consortiumId.
    *
-   * @param consortiumId the consortiumId
-   * @param offset       the offset
-   * @param limit        the limit
+   * @param consortiumId     the consortiumId
+   * @param offset           the offset
+   * @param limit            the limit
+   * @param totalRecordsMode how total records are calculated
    * @return the user tenant associations collection
    */
-  UserTenantCollection get(UUID consortiumId, Integer offset, Integer limit);
+  UserTenantCollection get(UUID consortiumId, Integer offset, Integer limit, TotalRecordsMode totalRecordsMode);
 
   /**
    * Get user tenant associations collection by user id based on consortiumId.
    *
+   * @param consortiumId     the consortiumId
+   * @param userId           the user id
+   * @param offset           the offset
+   * @param limit            the limit
+   * @param totalRecordsMode how total records are calculated
+   * @return the user tenant associations collection
+   */
+  UserTenantCollection getByUserId(UUID consortiumId, UUID userId, Integer offset, Integer limit,
+                                   TotalRecordsMode totalRecordsMode);
+
+  /**
+   * Get a page of user tenant associations collection based on consortiumId by keyset pagination.
+   * Associations are sorted by id.
+   *
+   * @param consortiumId     the consortiumId
+   * @param cursor           {@code *} for the first page or next cursor of the previous page
+   * @param limit            the limit
+   * @param totalRecordsMode how total records are calculated
+   * @return the user tenant associations collection with the next cursor
+   */
+  UserTenantCollection getByCursor(UUID consortiumId, String cursor, Integer limit, TotalRecordsMode totalRecordsMode);
+
+  /**
+   * Get a page of user tenant associations collection by user id based on consortiumId by keyset pagination.
+   * Associations are sorted by tenant id.
+   *
+   * @param consortiumId     the consortiumId
+   * @param userId           the user id
+   * @param cursor           {@code *} for the first page or next cursor of the previous page
+   * @param limit            the limit
+   * @param totalRecordsMode how total records are calculated
+   * @return the user tenant associations collection with the next cursor
+   */
+  UserTenantCollection getByUserIdAndCursor(UUID consortiumId, UUID userId, String cursor, Integer limit,
+                                            TotalRecordsMode totalRecordsMode);
+
+  /**
+   * Get all user tenant associations of the user based on consortiumId.
+   * Associations are cached until they are changed, so repeated requests of the same user do not query the database.
+   *
    * @param consortiumId the consortiumId
    * @param userId       the user id
    * @return the user tenant associations collection
    */
-  UserTenantCollection getByUserId(UUID consortiumId, UUID userId, Integer offset, Integer limit);
+  UserTenantCollection getAllByUserId(UUID consortiumId, UUID userId);
 
   /**
    * Get a user tenant associations collection by username based on consortiumId.
@@ -73,6 +117,17 @@ public interface UserTenantService {
    */
   UserTenant save(UUID consortiumId, UserTenant userTenantDto, boolean isSystemUserContextRequired);
 
+  /**
+   * Inserts batch of user_tenant based on consortiumId.
+   * Primary affiliations of all users are resolved at once, shadow users are created in the affiliated tenants
+   * concurrently and user_tenant records are inserted in a single batch. A failure of an item does not fail the others.
+   *
+   * @param consortiumId   the consortiumId
+   * @param userTenantDtos the user tenants to insert
+   * @return result of each item in the order of the batch
+   */
+  UserTenantBatchResult saveBatch(UUID consortiumId, List<UserTenant> userTenantDtos);
+
   /**
    * Inserts single user_tenant based on kafka userEventDto.
    *
@@ -111,6 +166,8 @@ public interface UserTenantService {
 
   /**
    * Check if user has primary affiliation.
+   * Users without primary affiliation are recognized by an in-memory index without querying user_tenant while the index
+   * receives changes made by all module instances.
    *
    * @param userId id of user in user_tenant table
    * @return true if user has primary affiliation
@@ -127,8 +184,19 @@ public interface UserTenantService {
 
   /**
    * Deletes orphaned shadow_users.
+   * Tenants are processed concurrently, affiliations are removed only for tenants where the shadow user was removed,
+   * the others are kept to be retried by {@link #deleteOrphanedShadowUsers()}.
    *
    * @param userId id of user.
    */
   void deleteShadowUsers(UUID userId);
+
+  /**
+   * Retries removal of shadow users which affiliations were left after their primary affiliation was deleted.
+   * Use <em>_timer</em> interface configuration in <em>ModuleDescriptor.json</em> to define interval of the job execution.
+   * Affiliations of each user are committed as soon as their shadow users are removed.
+   *
+   * @return number of users which shadow users removal was retried
+   */
+  int deleteOrphanedShadowUsers();
 }
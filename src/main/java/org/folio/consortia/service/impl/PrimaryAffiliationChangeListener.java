@@ -0,0 +1,106 @@
+package org.folio.consortia.service.impl;
+
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Receives changes of primary affiliations signalled by the {@code notify_primary_affiliation_change} trigger of
+ * {@code user_tenant} in all schemas and applies them to {@link PrimaryAffiliationIndex}.
+ * <p>
+ * The listener holds one connection of the pool. While the connection is lost the index is not current and lookups
+ * fall through to the database until the listener connects again.
+ */
+@Log4j2
+@Component
+public class PrimaryAffiliationChangeListener {
+  static final String CHANNEL = "primary_affiliation_changed";
+
+  private final DataSource dataSource;
+  private final PrimaryAffiliationIndex primaryAffiliationIndex;
+  private final int pollTimeoutMs;
+  private final long reconnectDelayMs;
+  private final ExecutorService listenerExecutor;
+  private volatile boolean running = true;
+
+  public PrimaryAffiliationChangeListener(DataSource dataSource, PrimaryAffiliationIndex primaryAffiliationIndex,
+                                          @Value("${folio.primary-affiliation-index.poll-timeout-ms:1000}") int pollTimeoutMs,
+                                          @Value("${folio.primary-affiliation-index.reconnect-delay-ms:5000}") long reconnectDelayMs) {
+    this.dataSource = dataSource;
+    this.primaryAffiliationIndex = primaryAffiliationIndex;
+    this.pollTimeoutMs = pollTimeoutMs;
+    this.reconnectDelayMs = reconnectDelayMs;
+    var threadFactory = new CustomizableThreadFactory("ConsortiaPrimaryAffiliationListener-");
+    threadFactory.setDaemon(true);
+    this.listenerExecutor = Executors.newSingleThreadExecutor(threadFactory);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    listenerExecutor.execute(this::listen);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    running = false;
+    listenerExecutor.shutdownNow();
+  }
+
+  private void listen() {
+    while (running) {
+      try (var connection = dataSource.getConnection()) {
+        var pgConnection = connection.unwrap(PGConnection.class);
+        try (var statement = connection.createStatement()) {
+          statement.execute("LISTEN " + CHANNEL);
+        }
+        log.info("listen:: listening to changes of primary affiliations");
+        primaryAffiliationIndex.listeningStarted();
+        while (running) {
+          var notifications = pgConnection.getNotifications(pollTimeoutMs);
+          if (notifications != null) {
+            for (var notification : notifications) {
+              apply(notification);
+            }
+          }
+        }
+      } catch (SQLException | RuntimeException e) {
+        log.warn("listen:: failed to listen to changes of primary affiliations, lookups query the database", e);
+      } finally {
+        primaryAffiliationIndex.listeningStopped();
+      }
+      awaitReconnect();
+    }
+  }
+
+  /**
+   * Applies a notification with payload {@code <schema>,<user id>,<is primary>}.
+   */
+  void apply(PGNotification notification) {
+    var parts = notification.getParameter().split(",");
+    primaryAffiliationIndex.apply(parts[0], UUID.fromString(parts[1]), Boolean.parseBoolean(parts[2]));
+  }
+
+  private void awaitReconnect() {
+    try {
+      TimeUnit.MILLISECONDS.sleep(reconnectDelayMs);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      running = false;
+    }
+  }
+}
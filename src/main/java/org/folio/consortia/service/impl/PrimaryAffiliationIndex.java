@@ -0,0 +1,120 @@
+package org.folio.consortia.service.impl;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * In-memory index of users having a primary affiliation, kept per schema of the tenant of the context.
+ * <p>
+ * Changes of {@code user_tenant} made by any module instance are signalled by a database trigger and applied by
+ * {@link PrimaryAffiliationChangeListener}. The index is current only while the listener receives the signals, so a
+ * user missing from the index is known to have no primary affiliation only while the listener is connected, otherwise
+ * every lookup answers that the user may have one and callers query the database. A user found in the index may have
+ * lost the affiliation, callers confirm positive lookups in the database.
+ * <p>
+ * Indexes of all schemas are loaded when the listener connects, an index of a schema created later is loaded on first
+ * use. The write paths of this instance add a user as soon as the affiliation is written, so positive lookups do not
+ * wait for the signal.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class PrimaryAffiliationIndex {
+  private static final String SELECT_SCHEMAS_SQL =
+    "SELECT table_schema FROM information_schema.tables WHERE table_name = 'user_tenant'";
+  private static final String SELECT_PRIMARY_USER_IDS_SQL = "SELECT user_id FROM %s.user_tenant WHERE is_primary = TRUE";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final FolioExecutionContext folioExecutionContext;
+  private final ConcurrentMap<String, Set<UUID>> schemaIndexes = new ConcurrentHashMap<>();
+  private volatile boolean current;
+
+  /**
+   * @param userId user to look up
+   * @return {@code false} when the user has no primary affiliation in the tenant of the context, {@code true} when
+   * the user may have one
+   */
+  public boolean mightContain(UUID userId) {
+    if (!current) {
+      return true;
+    }
+    var schema = folioExecutionContext.getFolioModuleMetadata().getDBSchemaName(folioExecutionContext.getTenantId());
+    // loading holds the lock of the schema entry, so signalled changes wait for the loaded index
+    return schemaIndexes.computeIfAbsent(schema, this::load).contains(userId);
+  }
+
+  /**
+   * Adds the user whose primary affiliation is being created in the tenant of the context.
+   *
+   * @param userId user with a new primary affiliation
+   */
+  public void add(UUID userId) {
+    var schema = folioExecutionContext.getFolioModuleMetadata().getDBSchemaName(folioExecutionContext.getTenantId());
+    Runnable addition = () -> apply(schema, userId, true);
+    addition.run();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          addition.run();
+        }
+      });
+    }
+  }
+
+  /**
+   * Applies a committed change of a primary affiliation signalled by the database.
+   *
+   * @param schema  schema of the changed affiliation
+   * @param userId  user of the changed affiliation
+   * @param primary whether the user has the primary affiliation after the change
+   */
+  void apply(String schema, UUID userId, boolean primary) {
+    schemaIndexes.computeIfPresent(schema, (key, userIds) -> {
+      if (primary) {
+        userIds.add(userId);
+      } else {
+        userIds.remove(userId);
+      }
+      return userIds;
+    });
+  }
+
+  /**
+   * Called by the listener once it receives the signals, loads indexes of all schemas.
+   */
+  void listeningStarted() {
+    schemaIndexes.clear();
+    current = true;
+    jdbcTemplate.queryForList(SELECT_SCHEMAS_SQL, String.class)
+      .forEach(schema -> schemaIndexes.computeIfAbsent(schema, this::load));
+  }
+
+  /**
+   * Called by the listener when signals may be missed, drops the indexes until the listener connects again.
+   */
+  void listeningStopped() {
+    current = false;
+    schemaIndexes.clear();
+  }
+
+  private Set<UUID> load(String schema) {
+    Collection<UUID> primaryUserIds = jdbcTemplate.queryForList(SELECT_PRIMARY_USER_IDS_SQL.formatted(schema), UUID.class);
+    Set<UUID> userIds = ConcurrentHashMap.newKeySet(primaryUserIds.size());
+    userIds.addAll(primaryUserIds);
+    log.info("load:: {} users with primary affiliation were loaded for schema {}", userIds.size(), schema);
+    return userIds;
+  }
+}
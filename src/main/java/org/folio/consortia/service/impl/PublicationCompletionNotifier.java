@@ -0,0 +1,109 @@
+package org.folio.consortia.service.impl;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.folio.consortia.domain.dto.PublicationStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Notifies listeners about finished publications.
+ * <p>
+ * Publications processed by this module instance are completed in place, once their final status is saved.
+ * Publications processed by other instances are watched by re-reading their status with {@code remote-check-interval-ms},
+ * for at most {@code watch-timeout-ms}.
+ */
+@Log4j2
+@Component
+public class PublicationCompletionNotifier {
+
+  private final Map<UUID, CompletableFuture<PublicationStatus>> completions = new ConcurrentHashMap<>();
+  private final ScheduledExecutorService remoteCheckScheduler;
+  private final long remoteCheckIntervalMs;
+  private final long watchTimeoutMs;
+
+  public PublicationCompletionNotifier(@Value("${folio.publication.completion.remote-check-interval-ms:1000}") long remoteCheckIntervalMs,
+                                       @Value("${folio.publication.completion.watch-timeout-ms:3600000}") long watchTimeoutMs) {
+    this.remoteCheckIntervalMs = remoteCheckIntervalMs;
+    this.watchTimeoutMs = watchTimeoutMs;
+
+    var threadFactory = new CustomizableThreadFactory("ConsortiaPublicationWatch-");
+    threadFactory.setDaemon(true);
+    this.remoteCheckScheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+  }
+
+  public void register(UUID publicationId) {
+    completions.put(publicationId, new CompletableFuture<>());
+  }
+
+  /**
+   * Returns completion of the publication processed by this module instance.
+   *
+   * @param publicationId id of the publication
+   * @return future completed with the final publication status, or empty if the publication is not processed here
+   */
+  public Optional<CompletableFuture<PublicationStatus>> find(UUID publicationId) {
+    // a copy is returned, so listeners cannot complete the publication
+    return Optional.ofNullable(completions.get(publicationId)).map(CompletableFuture::copy);
+  }
+
+  public void complete(UUID publicationId, PublicationStatus status) {
+    var completion = completions.remove(publicationId);
+    if (completion != null) {
+      completion.complete(status);
+      log.debug("complete:: listeners of publication {} were notified with status {}", publicationId, status);
+    }
+  }
+
+  public void fail(UUID publicationId, Throwable throwable) {
+    var completion = completions.remove(publicationId);
+    if (completion != null) {
+      completion.completeExceptionally(throwable);
+      log.debug("fail:: listeners of publication {} were notified with failure: {}", publicationId, throwable.getMessage());
+    }
+  }
+
+  /**
+   * Watches the publication processed by another module instance.
+   *
+   * @param publicationId id of the publication
+   * @param statusReader  reads current status of the publication
+   * @return future completed with the final publication status, or with {@link java.util.concurrent.TimeoutException}
+   * if the publication is not finished within {@code watch-timeout-ms}
+   */
+  public CompletableFuture<PublicationStatus> watch(UUID publicationId, Supplier<PublicationStatus> statusReader) {
+    var completion = new CompletableFuture<PublicationStatus>();
+    var check = remoteCheckScheduler.scheduleWithFixedDelay(() -> {
+      try {
+        var status = statusReader.get();
+        if (status != PublicationStatus.IN_PROGRESS) {
+          completion.complete(status);
+        }
+      } catch (RuntimeException e) {
+        log.error("watch:: failed to check status of publication {}", publicationId, e);
+        completion.completeExceptionally(e);
+      }
+    }, remoteCheckIntervalMs, remoteCheckIntervalMs, TimeUnit.MILLISECONDS);
+    // checks are stopped once the publication is finished, the listener is not interested anymore or the time is over
+    completion.orTimeout(watchTimeoutMs, TimeUnit.MILLISECONDS)
+      .whenComplete((status, throwable) -> check.cancel(false));
+    return completion;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    remoteCheckScheduler.shutdownNow();
+  }
+}
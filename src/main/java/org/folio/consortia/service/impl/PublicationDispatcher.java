@@ -0,0 +1,267 @@
+package org.folio.consortia.service.impl;
+
+import static org.folio.spring.scope.FolioExecutionScopeExecutionContextManager.getRunnableWithCurrentFolioContext;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.folio.consortia.exception.PublicationQueueFullException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Long-lived executor shared by all publications.
+ * <p>
+ * Tenant requests are queued per publication and started by a fixed set of workers in round-robin order, so:
+ * <ul>
+ *   <li>the number of tenant requests in flight is capped by {@code max-in-flight} for the whole module instance,
+ *   a worker is released as soon as an asynchronous tenant request is started;</li>
+ *   <li>a single publication never runs more than {@code folio.max-active-threads} tenant requests at once,
+ *   so a big publication cannot starve the small ones;</li>
+ *   <li>the number of pending tenant requests is capped by {@code max-queue-depth}, publications that do not fit
+ *   are rejected by {@link #admit(int)} with {@link PublicationQueueFullException}.</li>
+ * </ul>
+ * Tasks are executed in the FOLIO execution context of the thread that dispatched them.
+ */
+@Log4j2
+@Component
+public class PublicationDispatcher {
+
+  private final int maxActivePerPublication;
+  private final int maxInFlight;
+  private final int maxQueueDepth;
+  private final ExecutorService workers;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition queueReady = lock.newCondition();
+  private final Deque<PublicationQueue> readyQueues = new ArrayDeque<>();
+  private final Map<UUID, PublicationQueue> queues = new HashMap<>();
+  // tenant requests admitted by publications but not started yet
+  private int pendingTasks;
+  // tenant requests started but not completed yet
+  private int inFlightTasks;
+
+  public PublicationDispatcher(@Value("${folio.publication.dispatcher.pool-size:10}") int poolSize,
+                               @Value("${folio.max-active-threads:5}") int maxActivePerPublication,
+                               @Value("${folio.publication.dispatcher.max-in-flight:100}") int maxInFlight,
+                               @Value("${folio.publication.dispatcher.max-queue-depth:2000}") int maxQueueDepth) {
+    this.maxActivePerPublication = maxActivePerPublication;
+    this.maxInFlight = maxInFlight;
+    this.maxQueueDepth = maxQueueDepth;
+
+    var threadFactory = new CustomizableThreadFactory("ConsortiaPublication-");
+    threadFactory.setDaemon(true);
+    this.workers = Executors.newFixedThreadPool(poolSize, threadFactory);
+    for (int i = 0; i < poolSize; i++) {
+      workers.execute(this::runWorker);
+    }
+    log.info("PublicationDispatcher:: started with poolSize={}, maxActivePerPublication={}, maxInFlight={}, maxQueueDepth={}",
+      poolSize, maxActivePerPublication, maxInFlight, maxQueueDepth);
+  }
+
+  /**
+   * Reserves queue capacity for tenant requests of a new publication.
+   *
+   * @param taskCount number of tenant requests that will be dispatched later
+   * @throws PublicationQueueFullException if the queue cannot accept given number of tenant requests
+   */
+  public void admit(int taskCount) {
+    lock.lock();
+    try {
+      if (pendingTasks + taskCount > maxQueueDepth) {
+        log.warn("admit:: rejecting {} tenant requests, {} of {} queue slots are taken", taskCount, pendingTasks, maxQueueDepth);
+        throw new PublicationQueueFullException(pendingTasks, taskCount);
+      }
+      pendingTasks += taskCount;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Reserves as much queue capacity as is free, but no more than requested. Used for background work which must not
+   * push away publications submitted by users.
+   *
+   * @param maxTaskCount maximum number of tenant requests that will be dispatched later
+   * @return number of reserved queue slots, zero if the queue is full
+   */
+  public int admitUpTo(int maxTaskCount) {
+    lock.lock();
+    try {
+      var admitted = Math.max(0, Math.min(maxTaskCount, maxQueueDepth - pendingTasks));
+      pendingTasks += admitted;
+      return admitted;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Gives back queue capacity reserved by {@link #admit(int)} for tenant requests that will not be dispatched.
+   *
+   * @param taskCount number of tenant requests
+   */
+  public void release(int taskCount) {
+    if (taskCount <= 0) {
+      return;
+    }
+    lock.lock();
+    try {
+      pendingTasks = Math.max(0, pendingTasks - taskCount);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Queues tenant requests of the publication. Capacity for them must be reserved with {@link #admit(int)} beforehand.
+   *
+   * @param publicationId id of publication
+   * @param tasks         tenant requests, executed by the worker thread
+   * @return futures completed with results of the tasks, in the order of the tasks
+   */
+  public <T> List<CompletableFuture<T>> dispatch(UUID publicationId, List<Supplier<T>> tasks) {
+    List<Supplier<CompletableFuture<T>>> asyncTasks = tasks.stream()
+      .<Supplier<CompletableFuture<T>>>map(task -> () -> CompletableFuture.completedFuture(task.get()))
+      .toList();
+    return dispatchAsync(publicationId, asyncTasks);
+  }
+
+  /**
+   * Queues asynchronous tenant requests of the publication. A tenant request occupies a worker only while it is being
+   * started and counts towards the concurrency limits until the returned future is completed.
+   * Capacity for them must be reserved with {@link #admit(int)} beforehand.
+   *
+   * @param publicationId id of publication
+   * @param tasks         tenant requests, started by the worker thread
+   * @return futures completed with results of the tasks, in the order of the tasks
+   */
+  public <T> List<CompletableFuture<T>> dispatchAsync(UUID publicationId, List<Supplier<CompletableFuture<T>>> tasks) {
+    List<CompletableFuture<T>> futures = new ArrayList<>(tasks.size());
+    if (tasks.isEmpty()) {
+      return futures;
+    }
+    lock.lock();
+    try {
+      var queue = queues.computeIfAbsent(publicationId, PublicationQueue::new);
+      for (Supplier<CompletableFuture<T>> task : tasks) {
+        var future = new CompletableFuture<T>();
+        queue.tasks.add(new QueuedTask(getRunnableWithCurrentFolioContext(() -> start(future, task)), future));
+        futures.add(future);
+      }
+      markReady(queue);
+    } finally {
+      lock.unlock();
+    }
+    log.debug("dispatchAsync:: {} tenant requests of publication {} were queued", tasks.size(), publicationId);
+    return futures;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    workers.shutdownNow();
+  }
+
+  private void runWorker() {
+    while (!Thread.currentThread().isInterrupted()) {
+      PublicationQueue queue;
+      QueuedTask task;
+      lock.lock();
+      try {
+        while (readyQueues.isEmpty() || inFlightTasks >= maxInFlight) {
+          queueReady.await();
+        }
+        queue = readyQueues.pollFirst();
+        queue.ready = false;
+        task = queue.tasks.poll();
+        queue.active++;
+        inFlightTasks++;
+        pendingTasks = Math.max(0, pendingTasks - 1);
+        // put the publication back to the tail, so other publications get their turn first
+        markReady(queue);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } finally {
+        lock.unlock();
+      }
+
+      try {
+        task.start.run();
+      } catch (RuntimeException e) {
+        log.error("runWorker:: tenant request of publication {} failed", queue.publicationId, e);
+        task.completion.completeExceptionally(e);
+      } finally {
+        task.completion.whenComplete((result, throwable) -> onTaskFinished(queue));
+      }
+    }
+  }
+
+  private void onTaskFinished(PublicationQueue queue) {
+    lock.lock();
+    try {
+      queue.active--;
+      inFlightTasks--;
+      if (queue.tasks.isEmpty() && queue.active == 0) {
+        queues.remove(queue.publicationId);
+      } else {
+        markReady(queue);
+      }
+      queueReady.signal();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void markReady(PublicationQueue queue) {
+    if (!queue.ready && !queue.tasks.isEmpty() && queue.active < maxActivePerPublication) {
+      queue.ready = true;
+      readyQueues.addLast(queue);
+      queueReady.signal();
+    }
+  }
+
+  private static <T> void start(CompletableFuture<T> future, Supplier<CompletableFuture<T>> task) {
+    try {
+      task.get().whenComplete((result, throwable) -> {
+        if (throwable != null) {
+          future.completeExceptionally(throwable);
+        } else {
+          future.complete(result);
+        }
+      });
+    } catch (Exception e) {
+      future.completeExceptionally(e);
+    }
+  }
+
+  private record QueuedTask(Runnable start, CompletableFuture<?> completion) {
+  }
+
+  private static class PublicationQueue {
+    private final UUID publicationId;
+    private final Queue<QueuedTask> tasks = new ArrayDeque<>();
+    private int active;
+    private boolean ready;
+
+    PublicationQueue(UUID publicationId) {
+      this.publicationId = publicationId;
+    }
+  }
+}
@@ -0,0 +1,175 @@
+package org.folio.consortia.service.impl;
+
+import static org.folio.consortia.utils.TenantContextUtils.prepareContextForTenant;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.folio.consortia.domain.converter.PublicationContentCodec;
+import org.folio.consortia.domain.dto.PublicationStatus;
+import org.folio.consortia.domain.entity.PublicationStatusEntity;
+import org.folio.consortia.domain.entity.PublicationTenantRequestEntity;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Leases of publication tenant requests, which make {@code pc_tenant_request} a durable work queue.
+ * <p>
+ * A tenant request is leased by the module instance that processes it for {@code lease-duration-ms}. Leases of tenant
+ * requests in flight are renewed three times per duration, so they expire only when the instance is gone.
+ * Tenant requests with expired leases are claimed by {@link #claimExpired(int)} on any instance, instances claiming
+ * at the same time skip rows locked by each other.
+ */
+@Log4j2
+@Component
+public class PublicationLeaseManager {
+
+  private static final String RENEW_LEASES_SQL = "UPDATE pc_tenant_request SET lease_expires_at = ? " +
+    "WHERE lease_owner = ? AND status = 'IN_PROGRESS'";
+  // payload is stored once per publication, tenant requests saved before that keep their own copy
+  private static final String CLAIM_EXPIRED_LEASES_SQL = "UPDATE pc_tenant_request ptr SET lease_owner = ?, lease_expires_at = ? " +
+    "FROM pc_state ps WHERE ps.id = ptr.pc_id AND ptr.id IN (SELECT id FROM pc_tenant_request " +
+    "WHERE status = 'IN_PROGRESS' AND lease_expires_at < ? ORDER BY lease_expires_at LIMIT ? FOR UPDATE SKIP LOCKED) " +
+    "RETURNING ptr.id, ptr.pc_id, ptr.tenant_id, ptr.request_url, ptr.request_method, " +
+    "COALESCE(ps.request_payload, ptr.request_payload) AS request_payload, ptr.lease_owner, ptr.lease_expires_at";
+
+  @Getter
+  private final String instanceId = UUID.randomUUID().toString();
+  private final JdbcTemplate jdbcTemplate;
+  private final FolioExecutionContext folioExecutionContext;
+  private final FolioModuleMetadata folioModuleMetadata;
+  private final PublicationContentCodec publicationContentCodec;
+  private final long leaseDurationMs;
+  private final ScheduledExecutorService renewScheduler;
+  private final Map<String, TenantLeases> tenantLeases = new ConcurrentHashMap<>();
+
+  public PublicationLeaseManager(JdbcTemplate jdbcTemplate, FolioExecutionContext folioExecutionContext,
+                                 FolioModuleMetadata folioModuleMetadata, PublicationContentCodec publicationContentCodec,
+                                 @Value("${folio.publication.queue.lease-duration-ms:300000}") long leaseDurationMs) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.folioExecutionContext = folioExecutionContext;
+    this.folioModuleMetadata = folioModuleMetadata;
+    this.publicationContentCodec = publicationContentCodec;
+    this.leaseDurationMs = leaseDurationMs;
+
+    var threadFactory = new CustomizableThreadFactory("ConsortiaPublicationLease-");
+    threadFactory.setDaemon(true);
+    this.renewScheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    var renewIntervalMs = Math.max(1, leaseDurationMs / 3);
+    renewScheduler.scheduleWithFixedDelay(this::renewAll, renewIntervalMs, renewIntervalMs, TimeUnit.MILLISECONDS);
+    log.info("PublicationLeaseManager:: started instance {} with leaseDurationMs={}", instanceId, leaseDurationMs);
+  }
+
+  public LocalDateTime nextLeaseExpiration() {
+    return LocalDateTime.now().plus(leaseDurationMs, ChronoUnit.MILLIS);
+  }
+
+  /**
+   * Starts renewing leases of tenant requests taken by this instance in the schema of the current tenant.
+   *
+   * @param count number of leased tenant requests
+   */
+  public void hold(int count) {
+    if (count <= 0) {
+      return;
+    }
+    tenantLeases.computeIfAbsent(folioExecutionContext.getTenantId(),
+        tenantId -> new TenantLeases(prepareContextForTenant(tenantId, folioModuleMetadata, folioExecutionContext)))
+      .held.addAndGet(count);
+  }
+
+  /**
+   * Stops renewing the lease of the tenant request once its result is written.
+   *
+   * @param tenantId tenant which schema holds the tenant request
+   */
+  public void release(String tenantId) {
+    var leases = tenantLeases.get(tenantId);
+    if (leases != null) {
+      leases.held.updateAndGet(held -> Math.max(0, held - 1));
+    }
+  }
+
+  /**
+   * Claims tenant requests with expired leases in the schema of the current tenant.
+   *
+   * @param limit maximum number of tenant requests to claim
+   * @return claimed tenant requests, leased by this instance
+   */
+  public List<PublicationTenantRequestEntity> claimExpired(int limit) {
+    if (limit <= 0) {
+      return List.of();
+    }
+    var claimed = jdbcTemplate.query(CLAIM_EXPIRED_LEASES_SQL, this::toClaimedTenantRequest,
+      instanceId, nextLeaseExpiration(), LocalDateTime.now(), limit);
+    if (!claimed.isEmpty()) {
+      log.info("claimExpired:: {} tenant requests with expired leases were claimed for tenant {}", claimed.size(), folioExecutionContext.getTenantId());
+    }
+    return claimed;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    renewScheduler.shutdownNow();
+  }
+
+  private void renewAll() {
+    tenantLeases.values().forEach(leases -> {
+      if (leases.held.get() == 0) {
+        return;
+      }
+      try (var ignored = new FolioExecutionContextSetter(leases.context)) {
+        var renewed = jdbcTemplate.update(RENEW_LEASES_SQL, nextLeaseExpiration(), instanceId);
+        log.debug("renewAll:: {} leases were renewed for tenant {}", renewed, leases.context.getTenantId());
+      } catch (RuntimeException e) {
+        log.error("renewAll:: failed to renew leases for tenant {}", leases.context.getTenantId(), e);
+      }
+    });
+  }
+
+  private PublicationTenantRequestEntity toClaimedTenantRequest(ResultSet resultSet, int rowNum) throws SQLException {
+    var pcState = new PublicationStatusEntity();
+    pcState.setId(resultSet.getObject("pc_id", UUID.class));
+
+    var ptrEntity = new PublicationTenantRequestEntity();
+    ptrEntity.setId(resultSet.getObject("id", UUID.class));
+    ptrEntity.setPcState(pcState);
+    ptrEntity.setTenantId(resultSet.getString("tenant_id"));
+    ptrEntity.setRequestUrl(resultSet.getString("request_url"));
+    ptrEntity.setRequestMethod(resultSet.getString("request_method"));
+    ptrEntity.setRequestPayload(publicationContentCodec.decode(resultSet.getBytes("request_payload")));
+    ptrEntity.setStatus(PublicationStatus.IN_PROGRESS);
+    ptrEntity.setLeaseOwner(resultSet.getString("lease_owner"));
+    ptrEntity.setLeaseExpiresAt(resultSet.getObject("lease_expires_at", LocalDateTime.class));
+    return ptrEntity;
+  }
+
+  private static class TenantLeases {
+    // used to renew leases in the schema of the tenant
+    private final FolioExecutionContext context;
+    private final AtomicInteger held = new AtomicInteger();
+
+    TenantLeases(FolioExecutionContext context) {
+      this.context = context;
+    }
+  }
+}
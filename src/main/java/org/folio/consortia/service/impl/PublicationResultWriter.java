@@ -0,0 +1,64 @@
+package org.folio.consortia.service.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.UUID;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.folio.consortia.domain.dto.PublicationResult;
+import org.folio.consortia.domain.dto.PublicationStatus;
+import org.folio.consortia.repository.PublicationTenantRequestRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Writes publication results as newline delimited JSON while reading them from a database cursor,
+ * so only a single tenant request is kept in memory at a time.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class PublicationResultWriter {
+  private static final int NEW_LINE = '\n';
+
+  private final PublicationTenantRequestRepository publicationTenantRequestRepository;
+  private final EntityManager entityManager;
+  private final ObjectMapper objectMapper;
+
+  @Transactional(readOnly = true)
+  public int write(UUID publicationId, Collection<PublicationStatus> statuses, OutputStream outputStream) {
+    var ptrEntities = CollectionUtils.isEmpty(statuses)
+      ? publicationTenantRequestRepository.streamByPcStateId(publicationId)
+      : publicationTenantRequestRepository.streamByPcStateIdAndStatusIn(publicationId, statuses);
+
+    int written = 0;
+    try (ptrEntities) {
+      var iterator = ptrEntities.iterator();
+      while (iterator.hasNext()) {
+        var ptrEntity = iterator.next();
+        var publicationResult = new PublicationResult()
+          .tenantId(ptrEntity.getTenantId())
+          .statusCode(ptrEntity.getResponseStatusCode())
+          .response(ptrEntity.getResponse());
+        entityManager.detach(ptrEntity);
+
+        outputStream.write(objectMapper.writeValueAsBytes(publicationResult));
+        outputStream.write(NEW_LINE);
+        written++;
+      }
+      outputStream.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    log.info("write:: {} results of publication {} were streamed", written, publicationId);
+    return written;
+  }
+}
@@ -1,23 +1,30 @@
 package org.folio.consortia.service.impl;
 
+import static org.folio.consortia.exception.PublicationException.CALLBACK_URL_NOT_RELATIVE;
 import static org.folio.consortia.exception.PublicationException.PRIMARY_AFFILIATION_NOT_EXISTS;
 import static org.folio.consortia.exception.PublicationException.TENANT_LIST_EMPTY;
 import static org.folio.consortia.utils.TenantContextUtils.prepareContextForTenant;
 import static org.folio.spring.scope.FolioExecutionScopeExecutionContextManager.getRunnableWithCurrentFolioContext;
 
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpException;
+import org.folio.consortia.config.FolioExecutionContextHelper;
+import org.folio.consortia.domain.converter.PublicationContentCodec;
 import org.folio.consortia.domain.dto.PublicationDetailsResponse;
 import org.folio.consortia.domain.dto.PublicationHttpResponse;
 import org.folio.consortia.domain.dto.PublicationRequest;
@@ -30,6 +37,7 @@ import org.folio.consortia.domain.entity.PublicationStatusEntity;
 import org.folio.consortia.domain.entity.PublicationTenantRequestEntity;
 import org.folio.consortia.exception.PublicationException;
 import org.folio.consortia.exception.ResourceNotFoundException;
+import org.folio.consortia.exception.TenantUnavailableException;
 import org.folio.consortia.repository.PublicationStatusRepository;
 import org.folio.consortia.repository.PublicationTenantRequestRepository;
 import org.folio.consortia.service.ConsortiumService;
@@ -43,15 +51,20 @@ import org.folio.spring.data.OffsetRequest;
 import org.folio.spring.scope.FolioExecutionContextSetter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.task.TaskExecutor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
 
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
@@ -62,6 +75,7 @@ import lombok.extern.log4j.Log4j2;
 @RequiredArgsConstructor
 public class PublicationServiceImpl implements PublicationService {
   private static final String PUBLICATION_ID_FIELD = "publicationId";
+  private static final String TENANT_ID_FIELD = "tenantId";
 
   private final TenantService tenantService;
   private final UserTenantService userTenantService;
@@ -74,19 +88,38 @@ public class PublicationServiceImpl implements PublicationService {
   private final PublicationTenantRequestRepository publicationTenantRequestRepository;
   private final ObjectMapper objectMapper;
   private final ConsortiumService consortiumService;
-
-  @Value("${folio.max-active-threads:5}")
-  private int maxActiveThreads;
+  private final PublicationDispatcher publicationDispatcher;
+  private final PublicationTenantRequestBuffer publicationTenantRequestBuffer;
+  private final PublicationResultWriter publicationResultWriter;
+  private final PublicationCompletionNotifier publicationCompletionNotifier;
+  private final PublicationLeaseManager publicationLeaseManager;
+  private final FolioExecutionContextHelper folioExecutionContextHelper;
+  private final PublicationTenantLimiter publicationTenantLimiter;
+  private final PublicationContentCodec publicationContentCodec;
+
+  @Value("${folio.publication.completion.max-wait-ms:30000}")
+  private long maxCompletionWaitMs;
+  @Value("${folio.publication.queue.claim-batch-size:100}")
+  private int claimBatchSize;
 
   @Override
   @SneakyThrows
   public PublicationResponse publishRequest(UUID consortiumId, PublicationRequest publicationRequest) {
     validatePublicationRequest(consortiumId, publicationRequest, folioExecutionContext);
 
-    PublicationStatusEntity createdPublicationEntity = createPublicationStatusEntity(publicationRequest.getTenants().size());
-
-    asyncTaskExecutor.execute(getRunnableWithCurrentFolioContext(
-      () -> processTenantRequests(publicationRequest, createdPublicationEntity)));
+    int tenantsCount = publicationRequest.getTenants().size();
+    // reserve dispatcher capacity before accepting the publication, so an overloaded dispatcher is reported to the caller
+    publicationDispatcher.admit(tenantsCount);
+    var createdPublicationEntity = createPublicationStatusEntity(tenantsCount);
+    publicationCompletionNotifier.register(createdPublicationEntity.getId());
+    try {
+      asyncTaskExecutor.execute(getRunnableWithCurrentFolioContext(
+        () -> processTenantRequests(publicationRequest, createdPublicationEntity)));
+    } catch (RuntimeException e) {
+      publicationDispatcher.release(tenantsCount);
+      publicationCompletionNotifier.complete(createdPublicationEntity.getId(), PublicationStatus.ERROR);
+      throw e;
+    }
 
     return buildPublicationResponse(createdPublicationEntity.getId());
   }
@@ -95,38 +128,82 @@ public class PublicationServiceImpl implements PublicationService {
   public PublicationDetailsResponse getPublicationDetails(UUID consortiumId, UUID publicationId) {
     log.debug("getPublicationDetails:: Trying to retrieve publication details by consortiumId: {} and publicationId id: {}", consortiumId, publicationId);
 
-    consortiumService.checkConsortiumExistsOrThrow(consortiumId);
-    var publicationStatusEntity = publicationStatusRepository.findById(publicationId)
-      .orElseThrow(() -> new ResourceNotFoundException(PUBLICATION_ID_FIELD, String.valueOf(publicationId)));
+    var publicationStatusEntity = getPublicationStatusEntity(consortiumId, publicationId);
 
-    var ptrEntities = publicationTenantRequestRepository.findByPcStateId(publicationId, OffsetRequest.of(0, Integer.MAX_VALUE));
-    log.info("getPublicationDetails:: Found {} of {} expected tenant request records", ptrEntities.getTotalElements(), publicationStatusEntity.getTotalRecords());
+    // failed tenant requests are queried only when the counter shows there are some
+    List<PublicationStatusError> errorList = List.of();
+    if (publicationStatusEntity.getFailedCount() > 0) {
+      var failedPtrEntities = publicationTenantRequestRepository.findByPcStateIdAndStatus(publicationId, PublicationStatus.ERROR);
+      errorList = buildErrorListFromPublicationTenantRequestEntities(failedPtrEntities);
+    }
+    log.info("getPublicationDetails:: Publication {} has {} completed and {} failed of {} tenant requests", publicationId,
+      publicationStatusEntity.getCompletedCount(), publicationStatusEntity.getFailedCount(), publicationStatusEntity.getTotalRecords());
 
-    var errorList = buildErrorListFromPublicationTenantRequestEntities(ptrEntities);
-    var tenantRequestPayload = getPayloadFromPublicationTenantRequestEntities(ptrEntities);
+    // publications created before the payload was stored on the publication keep it in their tenant requests
+    var tenantRequestPayload = publicationStatusEntity.getRequestPayload() != null
+      ? publicationStatusEntity.getRequestPayload()
+      : publicationTenantRequestRepository.findRequestPayloadsByPcStateId(publicationId, Limit.of(1)).stream().findFirst().orElse(null);
 
     var pdr = new PublicationDetailsResponse()
       .id(publicationStatusEntity.getId())
       .status(publicationStatusEntity.getStatus())
       .dateTime(publicationStatusEntity.getCreatedDate().toString())
       .request(tenantRequestPayload)
+      .totalRecords(publicationStatusEntity.getTotalRecords())
+      .completedRecords(publicationStatusEntity.getCompletedCount())
+      .failedRecords(publicationStatusEntity.getFailedCount())
+      .inProgressRecords(publicationStatusEntity.getTotalRecords() - publicationStatusEntity.getCompletedCount() - publicationStatusEntity.getFailedCount())
       .errors(errorList);
     log.info("getPublicationDetails:: Prepared publication details response with id={}, status={}", pdr.getId(), pdr.getStatus());
     return pdr;
   }
 
-  private String getPayloadFromPublicationTenantRequestEntities(Page<PublicationTenantRequestEntity> publicationTenantRequestEntity) {
-    return publicationTenantRequestEntity.getContent()
-      .stream()
-      .map(PublicationTenantRequestEntity::getRequestPayload)
-      .findFirst()
-      .orElse(null);
+  @Override
+  public CompletableFuture<PublicationStatus> getPublicationCompletion(UUID consortiumId, UUID publicationId) {
+    consortiumService.checkConsortiumExistsOrThrow(consortiumId);
+    var localCompletion = publicationCompletionNotifier.find(publicationId);
+    if (localCompletion.isPresent()) {
+      return localCompletion.get();
+    }
+
+    var publicationStatus = publicationStatusRepository.findStatusById(publicationId)
+      .orElseThrow(() -> new ResourceNotFoundException(PUBLICATION_ID_FIELD, String.valueOf(publicationId)));
+    if (publicationStatus != PublicationStatus.IN_PROGRESS) {
+      return CompletableFuture.completedFuture(publicationStatus);
+    }
+
+    log.info("getPublicationCompletion:: publication {} is processed by another module instance, watching its status", publicationId);
+    var context = prepareContextForTenant(folioExecutionContext.getTenantId(), folioModuleMetadata, folioExecutionContext);
+    return publicationCompletionNotifier.watch(publicationId, () -> readPublicationStatus(publicationId, context));
+  }
+
+  private PublicationStatus readPublicationStatus(UUID publicationId, FolioExecutionContext context) {
+    try (var ignored = new FolioExecutionContextSetter(context)) {
+      return publicationStatusRepository.findStatusById(publicationId)
+        .orElseThrow(() -> new ResourceNotFoundException(PUBLICATION_ID_FIELD, String.valueOf(publicationId)));
+    }
+  }
+
+  @Override
+  public CompletableFuture<PublicationDetailsResponse> getPublicationDetailsWhenCompleted(UUID consortiumId, UUID publicationId,
+                                                                                         long waitMs) {
+    var context = prepareContextForTenant(folioExecutionContext.getTenantId(), folioModuleMetadata, folioExecutionContext);
+    return getPublicationCompletion(consortiumId, publicationId)
+      .completeOnTimeout(PublicationStatus.IN_PROGRESS, Math.min(waitMs, maxCompletionWaitMs), TimeUnit.MILLISECONDS)
+      .exceptionally(throwable -> {
+        // current state of the publication is returned to the caller anyway
+        log.debug("getPublicationDetailsWhenCompleted:: failed to wait for publication {}", publicationId, throwable);
+        return PublicationStatus.IN_PROGRESS;
+      })
+      .thenApplyAsync(status -> {
+        try (var ignored = new FolioExecutionContextSetter(context)) {
+          return getPublicationDetails(consortiumId, publicationId);
+        }
+      }, asyncTaskExecutor);
   }
 
-  private List<PublicationStatusError> buildErrorListFromPublicationTenantRequestEntities(Page<PublicationTenantRequestEntity> publicationTenantRequestEntity) {
-    return publicationTenantRequestEntity.getContent()
-      .stream()
-      .filter(ptrEntity -> ptrEntity.getStatus() == PublicationStatus.ERROR)
+  private List<PublicationStatusError> buildErrorListFromPublicationTenantRequestEntities(List<PublicationTenantRequestEntity> failedPtrEntities) {
+    return failedPtrEntities.stream()
       .map(ptrEntity -> new PublicationStatusError()
         .errorMessage(ptrEntity.getResponse())
         .errorCode(ptrEntity.getResponseStatusCode())
@@ -135,72 +212,177 @@ public class PublicationServiceImpl implements PublicationService {
   }
 
   void processTenantRequests(PublicationRequest publicationRequest, PublicationStatusEntity createdPublicationEntity) {
-    List<Future<PublicationTenantRequestEntity>> futures = new ArrayList<>();
-
-    ExecutorService executor = Executors.newFixedThreadPool(maxActiveThreads);
-
-    for (String tenantId : publicationRequest.getTenants()) {
-      try {
-        PublicationTenantRequestEntity ptrEntity = buildPublicationRequestEntity(publicationRequest, createdPublicationEntity, tenantId);
-        var savedPublicationTenantRequest = savePublicationTenantRequest(ptrEntity);
-        var future = executor.submit(() -> executeAndUpdatePublicationTenantRequest(publicationRequest, tenantId, savedPublicationTenantRequest));
-        futures.add(future);
-      } catch (RuntimeException | JsonProcessingException e) {
-        log.error("processTenantRequests:: failed to save publication tenant request", e);
-        futures.add(CompletableFuture.failedFuture(e));
-      }
+    List<CompletableFuture<PublicationTenantRequestEntity>> futures = new ArrayList<>();
+    List<PublicationTenantRequestEntity> ptrEntities = new ArrayList<>();
+    PublicationRequest tenantRequest = null;
+
+    try {
+      // payload is serialized once and saved with the publication, tenant requests refer to it
+      var requestPayload = objectMapper.writeValueAsString(publicationRequest.getPayload());
+      createdPublicationEntity.setRequestPayload(requestPayload);
+      // tenant requests send the serialized payload as it is instead of serializing it again for every tenant
+      tenantRequest = new PublicationRequest()
+        .url(publicationRequest.getUrl())
+        .method(publicationRequest.getMethod())
+        .payload(new RawValue(requestPayload));
+      publicationRequest.getTenants()
+        .forEach(tenantId -> ptrEntities.add(buildPublicationRequestEntity(publicationRequest, createdPublicationEntity, tenantId)));
+    } catch (JsonProcessingException e) {
+      log.error("processTenantRequests:: failed to serialize publication payload", e);
+      publicationRequest.getTenants().forEach(tenantId -> futures.add(CompletableFuture.failedFuture(e)));
+    }
+
+    List<Supplier<CompletableFuture<PublicationTenantRequestEntity>>> tasks = new ArrayList<>();
+    var serializedRequest = tenantRequest;
+    try {
+      savePublicationTenantRequests(ptrEntities);
+      publicationLeaseManager.hold(ptrEntities.size());
+      ptrEntities.forEach(ptrEntity ->
+        tasks.add(() -> executeAndUpdatePublicationTenantRequest(serializedRequest, ptrEntity.getTenantId(), ptrEntity)));
+    } catch (PublicationException e) {
+      ptrEntities.forEach(ptrEntity -> futures.add(CompletableFuture.failedFuture(e)));
+    }
+
+    // queue slots reserved for tenant requests that failed before dispatching are not needed anymore
+    publicationDispatcher.release(publicationRequest.getTenants().size() - tasks.size());
+    // tenant requests are completed by threads of the HTTP client, which have no FOLIO context of their own
+    var centralTenantContext = prepareContextForTenant(folioExecutionContext.getTenantId(), folioModuleMetadata, folioExecutionContext);
+    publicationDispatcher.dispatchAsync(createdPublicationEntity.getId(), tasks)
+      .forEach(future -> futures.add(future.thenCompose(ptrEntity -> writePublicationTenantRequest(ptrEntity, centralTenantContext))));
+
+    // status is updated once results of all tenant requests are written, no thread is blocked while waiting for it
+    var updateStatusTask = getRunnableWithCurrentFolioContext(() -> updatePublicationsStatus(futures, publicationRequest, createdPublicationEntity));
+    CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+      .whenComplete((result, throwable) -> updateStatusTask.run());
+  }
+
+  CompletableFuture<PublicationTenantRequestEntity> executeAndUpdatePublicationTenantRequest(PublicationRequest publicationRequest,
+    String tenantId, PublicationTenantRequestEntity savedPublicationTenantRequest) {
+    return executeHttpRequest(publicationRequest, tenantId, folioExecutionContext)
+      .handle((response, throwable) -> throwable == null
+        ? updateSucceedPublicationTenantRequest(response, savedPublicationTenantRequest)
+        : updateFailedPublicationTenantRequest(throwable, savedPublicationTenantRequest));
+  }
+
+  private CompletableFuture<PublicationTenantRequestEntity> writePublicationTenantRequest(PublicationTenantRequestEntity ptrEntity,
+                                                                                        FolioExecutionContext centralTenantContext) {
+    try (var ignored = new FolioExecutionContextSetter(centralTenantContext)) {
+      return publicationTenantRequestBuffer.write(ptrEntity)
+        .whenComplete((result, throwable) -> publicationLeaseManager.release(centralTenantContext.getTenantId()));
     }
+  }
 
-    executor.shutdown();
+  @Override
+  public int resumeExpiredTenantRequests() {
+    // only free queue capacity is claimed, so resumed tenant requests never cause rejection of new publications
+    var capacity = publicationDispatcher.admitUpTo(claimBatchSize);
+    var dispatched = 0;
     try {
-      if (executor.awaitTermination(300, TimeUnit.SECONDS)) {
-        updatePublicationsStatus(futures, createdPublicationEntity);
-        executor.shutdownNow();
+      var claimed = publicationLeaseManager.claimExpired(capacity);
+      if (!claimed.isEmpty()) {
+        // tenant requests claimed but not dispatched are picked up again once their leases expire
+        dispatchClaimedTenantRequests(claimed);
+        dispatched = claimed.size();
       }
-    } catch (InterruptedException ie) {
-      log.error("processTenantRequests:: failed to shutdown executor", ie);
-      Thread.currentThread().interrupt();
+      return dispatched;
+    } finally {
+      publicationDispatcher.release(capacity - dispatched);
     }
+  }
 
+  private void dispatchClaimedTenantRequests(List<PublicationTenantRequestEntity> claimed) {
+    var centralTenantContext = prepareContextForTenant(folioExecutionContext.getTenantId(), folioModuleMetadata, folioExecutionContext);
+    // the user who published the request is not around anymore, so tenant requests are sent on behalf of the system user
+    try (var ignored = new FolioExecutionContextSetter(
+      folioExecutionContextHelper.getSystemUserFolioExecutionContext(folioExecutionContext.getTenantId()))) {
+      publicationLeaseManager.hold(claimed.size());
+      claimed.stream()
+        .collect(Collectors.groupingBy(ptrEntity -> ptrEntity.getPcState().getId()))
+        .forEach((publicationId, ptrEntities) -> {
+          List<Supplier<CompletableFuture<PublicationTenantRequestEntity>>> tasks = ptrEntities.stream()
+            .<Supplier<CompletableFuture<PublicationTenantRequestEntity>>>map(ptrEntity -> () -> resumePublicationTenantRequest(ptrEntity))
+            .toList();
+          publicationDispatcher.dispatchAsync(publicationId, tasks)
+            .forEach(future -> future.thenCompose(ptrEntity -> writePublicationTenantRequest(ptrEntity, centralTenantContext)));
+          log.info("dispatchClaimedTenantRequests:: {} tenant requests of publication {} were resumed", ptrEntities.size(), publicationId);
+        });
+    }
   }
 
-  PublicationTenantRequestEntity executeAndUpdatePublicationTenantRequest(PublicationRequest publicationRequest, String tenantId,
-    PublicationTenantRequestEntity savedPublicationTenantRequest) {
-    PublicationTenantRequestEntity updatedPtre;
+  CompletableFuture<PublicationTenantRequestEntity> resumePublicationTenantRequest(PublicationTenantRequestEntity ptrEntity) {
+    PublicationRequest publicationRequest;
     try {
-      var response = executeHttpRequest(publicationRequest, tenantId, folioExecutionContext);
-      updatedPtre = updateSucceedPublicationTenantRequest(response, savedPublicationTenantRequest);
-    } catch (Exception e) {
-      updatedPtre = updateFailedPublicationTenantRequest(e, savedPublicationTenantRequest);
+      publicationRequest = new PublicationRequest()
+        .url(ptrEntity.getRequestUrl())
+        .method(ptrEntity.getRequestMethod())
+        .payload(objectMapper.readValue(ptrEntity.getRequestPayload(), Object.class));
+    } catch (JsonProcessingException | RuntimeException e) {
+      // a missing or corrupt payload fails the tenant request, otherwise it would be resumed again and again
+      log.error("resumePublicationTenantRequest:: failed to read payload of tenant request {}", ptrEntity.getId(), e);
+      return CompletableFuture.completedFuture(updateFailedPublicationTenantRequest(e, ptrEntity));
     }
-    return updatedPtre;
+    return executeAndUpdatePublicationTenantRequest(publicationRequest, ptrEntity.getTenantId(), ptrEntity);
   }
 
-  private PublicationTenantRequestEntity savePublicationTenantRequest(PublicationTenantRequestEntity ptrEntity) {
-   try {
-      log.info("savePublicationTenantRequest:: PublicationTenantRequest with id '{}' and PublicationStatus with id '{} and status '{} was saved",
-        ptrEntity.getId(), ptrEntity.getPcState().getId(), ptrEntity.getPcState().getStatus());
-      return publicationTenantRequestRepository.save(ptrEntity);
+  private void savePublicationTenantRequests(List<PublicationTenantRequestEntity> ptrEntities) {
+    try {
+      publicationTenantRequestRepository.saveAll(ptrEntities);
+      log.info("savePublicationTenantRequests:: {} publication tenant requests were saved", ptrEntities.size());
     } catch (RuntimeException e) {
-      log.error("savePublicationTenantRequest:: error saving publication tenant request {}", ptrEntity.getId(), e);
+      log.error("savePublicationTenantRequests:: error saving {} publication tenant requests", ptrEntities.size(), e);
       throw new PublicationException(e);
     }
   }
 
-  PublicationHttpResponse executeHttpRequest(PublicationRequest publicationRequest, String tenantId, FolioExecutionContext centralTenantContext) {
-    try (var ignored = new FolioExecutionContextSetter(prepareContextForTenant(tenantId, folioModuleMetadata, centralTenantContext))) {
-      var response = httpRequestService.performRequest(publicationRequest.getUrl(), HttpMethod.valueOf(publicationRequest.getMethod()), publicationRequest.getPayload());
+  CompletableFuture<PublicationHttpResponse> executeHttpRequest(PublicationRequest publicationRequest, String tenantId,
+                                                                FolioExecutionContext centralTenantContext) {
+    CompletableFuture<PublicationHttpResponse> responseFuture;
+    try {
+      var delay = publicationTenantLimiter.acquire(tenantId);
+      var tenantContext = prepareContextForTenant(tenantId, folioModuleMetadata, centralTenantContext);
+      // requests delayed by the rate limit of the tenant do not hold the dispatcher worker, they are sent by the async
+      // executor of the module within the context of the tenant once the delay is over
+      responseFuture = delay.isZero()
+        ? sendTenantRequest(publicationRequest, tenantContext)
+        : CompletableFuture.supplyAsync(() -> sendTenantRequest(publicationRequest, tenantContext),
+            CompletableFuture.delayedExecutor(delay.toNanos(), TimeUnit.NANOSECONDS, asyncTaskExecutor))
+          .thenCompose(Function.identity());
+    } catch (TenantUnavailableException e) {
+      log.warn("executeHttpRequest:: {} '{}' request on tenant {} is rejected: {}", publicationRequest.getMethod(), publicationRequest.getUrl(), tenantId, e.getMessage());
+      return CompletableFuture.failedFuture(e);
+    } catch (RuntimeException e) {
+      responseFuture = CompletableFuture.failedFuture(e);
+    }
+
+    return responseFuture.handle((response, throwable) -> {
+      var cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+      // only failures of the tenant itself count towards its circuit breaker, rejected requests are not its fault
+      publicationTenantLimiter.recordResult(tenantId, cause == null ? !response.getStatusCode().is5xxServerError()
+        : cause instanceof HttpClientErrorException);
+      if (cause instanceof HttpClientErrorException e) {
+        log.error("executeHttpRequest:: error making {} '{}' request on tenant {}", publicationRequest.getMethod(), publicationRequest.getUrl(), tenantId, e);
+        throw new HttpClientErrorException(e.getStatusCode(), e.getMessage());
+      } else if (cause != null) {
+        throw new CompletionException(cause);
+      }
       if (response.getStatusCode().is2xxSuccessful()) {
         log.info("executeHttpRequest:: successfully called {} on tenant {}", publicationRequest.getUrl(), tenantId);
         return response;
-      } else {
-        var errMessage = response.getBody() != null ? response.getBody() : "Generic Error";
-        log.error("executeHttpRequest:: error making {} '{}' request on tenant {}", publicationRequest.getMethod(), publicationRequest.getUrl(), tenantId, new HttpException(errMessage));
-        throw new HttpClientErrorException(response.getStatusCode(), errMessage);
       }
-    } catch (HttpClientErrorException e) {
-      log.error("executeHttpRequest:: error making {} '{}' request on tenant {}", publicationRequest.getMethod(), publicationRequest.getUrl(), tenantId, e);
-      throw new HttpClientErrorException(e.getStatusCode(), e.getMessage());
+      var errMessage = response.getBody() != null ? response.getBody() : "Generic Error";
+      log.error("executeHttpRequest:: error making {} '{}' request on tenant {}", publicationRequest.getMethod(), publicationRequest.getUrl(), tenantId, new HttpException(errMessage));
+      throw response.getStatusCode().is5xxServerError()
+        ? new HttpServerErrorException(response.getStatusCode(), errMessage)
+        : new HttpClientErrorException(response.getStatusCode(), errMessage);
+    });
+  }
+
+  private CompletableFuture<PublicationHttpResponse> sendTenantRequest(PublicationRequest publicationRequest,
+                                                                      FolioExecutionContext tenantContext) {
+    try (var ignored = new FolioExecutionContextSetter(tenantContext)) {
+      return httpRequestService.performRequestAsync(publicationRequest.getUrl(), HttpMethod.valueOf(publicationRequest.getMethod()), publicationRequest.getPayload());
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
     }
   }
 
@@ -209,38 +391,45 @@ public class PublicationServiceImpl implements PublicationService {
     ptrEntity.setCompletedDate(currentLocalDateTime);
 
     ptrEntity.setResponseStatusCode(responseEntity.getStatusCode().value());
-    ptrEntity.setResponse(responseEntity.getBody());
+    ptrEntity.setResponse(publicationContentCodec.truncateResponse(responseEntity.getBody()));
     ptrEntity.setStatus(PublicationStatus.COMPLETE);
 
-    return savePublicationTenantRequest(ptrEntity);
+    return ptrEntity;
   }
 
   PublicationTenantRequestEntity updateFailedPublicationTenantRequest(Throwable t, PublicationTenantRequestEntity ptrEntity) {
     var currentLocalDateTime = LocalDateTime.now();
     ptrEntity.setCompletedDate(currentLocalDateTime);
     ptrEntity.setStatus(PublicationStatus.ERROR);
-    if (t.getCause() instanceof HttpClientErrorException httpClientErrorException) {
-      ptrEntity.setResponseStatusCode(httpClientErrorException.getStatusCode().value());
-      ptrEntity.setResponse(httpClientErrorException.getStatusText());
+    var cause = t instanceof CompletionException ? t.getCause() : t;
+    if (cause instanceof TenantUnavailableException) {
+      // the request was not sent, the tenant is skipped until its circuit breaker lets requests through again
+      ptrEntity.setResponseStatusCode(HttpStatus.SERVICE_UNAVAILABLE.value());
+      ptrEntity.setResponse(cause.getMessage());
+    } else if (cause instanceof HttpStatusCodeException httpStatusCodeException) {
+      // both client and server errors keep the status code returned by the tenant
+      ptrEntity.setResponseStatusCode(httpStatusCodeException.getStatusCode().value());
+      ptrEntity.setResponse(publicationContentCodec.truncateResponse(httpStatusCodeException.getStatusText()));
     } else {
       ptrEntity.setResponseStatusCode(HttpStatus.BAD_REQUEST.value());
-      ptrEntity.setResponse(t.getMessage());
+      ptrEntity.setResponse(publicationContentCodec.truncateResponse(cause.getMessage()));
     }
 
-    return savePublicationTenantRequest(ptrEntity);
+    return ptrEntity;
   }
 
   private PublicationTenantRequestEntity buildPublicationRequestEntity(PublicationRequest publicationRequest,
-      PublicationStatusEntity savedPublicationEntity, String tenantId) throws JsonProcessingException {
+      PublicationStatusEntity savedPublicationEntity, String tenantId) {
     PublicationTenantRequestEntity ptrEntity = new PublicationTenantRequestEntity();
-    String payload = objectMapper.writeValueAsString(publicationRequest.getPayload());
 
     ptrEntity.setId(UUID.randomUUID());
     ptrEntity.setRequestUrl(publicationRequest.getUrl());
-    ptrEntity.setRequestPayload(payload);
+    ptrEntity.setRequestMethod(publicationRequest.getMethod());
     ptrEntity.setTenantId(tenantId);
     ptrEntity.setStatus(PublicationStatus.IN_PROGRESS);
     ptrEntity.setPcState(savedPublicationEntity);
+    ptrEntity.setLeaseOwner(publicationLeaseManager.getInstanceId());
+    ptrEntity.setLeaseExpiresAt(publicationLeaseManager.nextLeaseExpiration());
 
     return ptrEntity;
   }
@@ -250,39 +439,96 @@ public class PublicationServiceImpl implements PublicationService {
     publicationStatusEntity.setId(UUID.randomUUID());
     publicationStatusEntity.setStatus(PublicationStatus.IN_PROGRESS);
     publicationStatusEntity.setTotalRecords(totalRecords);
+    publicationStatusEntity.setCompletedCount(0);
+    publicationStatusEntity.setFailedCount(0);
     return publicationStatusEntity;
   }
 
-  private void updatePublicationsStatus(List<Future<PublicationTenantRequestEntity>> futures, PublicationStatusEntity publicationStatusEntity) {
-    List<PublicationTenantRequestEntity> ptreList = new ArrayList<>();
-    futures.forEach(future -> {
-      try {
-        var ptre = future.get();
-        ptreList.add(ptre);
-      } catch (InterruptedException e) {
-        // Will never occur. All executor threads are safely completed at this point
-        Thread.currentThread().interrupt();
-      } catch (ExecutionException e) {
-        log.error("updatePublicationsStatus:: publication tenant request failed", e);
+  private void updatePublicationsStatus(List<CompletableFuture<PublicationTenantRequestEntity>> futures, PublicationRequest publicationRequest,
+                                        PublicationStatusEntity publicationStatusEntity) {
+    var publicationId = publicationStatusEntity.getId();
+    var notWritten = futures.stream().filter(CompletableFuture::isCompletedExceptionally).count();
+    if (notWritten > 0) {
+      // their leases are not renewed anymore, so they are resumed once the leases expire
+      log.warn("updatePublicationsStatus:: {} tenant requests of publication {} were not written", notWritten, publicationId);
+    }
+
+    Optional<PublicationStatus> savedStatus;
+    try {
+      // status is switched by the results write buffer once all tenant requests are counted, so tenant requests
+      // reclaimed by another module instance are taken into account
+      savedStatus = publicationStatusRepository.findStatusById(publicationId);
+      if (savedStatus.isEmpty()) {
+        // publication state is saved together with tenant requests, so it is missing when none of them were saved
+        publicationStatusEntity.setStatus(PublicationStatus.ERROR);
+        publicationStatusEntity.setFailedCount(publicationStatusEntity.getTotalRecords());
+        publicationStatusRepository.save(publicationStatusEntity);
       }
-    });
-    var isCompletedWithExceptions = futures.size() != ptreList.size();
-    var hasErrorStatus = ptreList.stream()
-      .map(PublicationTenantRequestEntity::getStatus)
-      .anyMatch(status -> status.equals(PublicationStatus.ERROR));
-    var isErrorStatus = isCompletedWithExceptions || hasErrorStatus || futures.isEmpty();
+    } catch (RuntimeException e) {
+      log.error("updatePublicationsStatus:: failed to update status of publication {}", publicationId, e);
+      publicationCompletionNotifier.fail(publicationId, e);
+      return;
+    }
 
-    var updateStatus = isErrorStatus ? PublicationStatus.ERROR : PublicationStatus.COMPLETE;
-    publicationStatusEntity.setStatus(updateStatus);
+    var status = savedStatus.orElse(PublicationStatus.ERROR);
+    if (status != PublicationStatus.IN_PROGRESS) {
+      finishPublication(publicationRequest, publicationId, status);
+      return;
+    }
+    log.info("updatePublicationsStatus:: tenant requests of publication {} are finished by another module instance, watching its status",
+      publicationId);
+    var context = prepareContextForTenant(folioExecutionContext.getTenantId(), folioModuleMetadata, folioExecutionContext);
+    publicationCompletionNotifier.watch(publicationId, () -> readPublicationStatus(publicationId, context))
+      .whenComplete((finalStatus, throwable) -> {
+        if (throwable != null) {
+          log.warn("updatePublicationsStatus:: stopped watching status of publication {}: {}", publicationId, throwable.toString());
+          publicationCompletionNotifier.fail(publicationId, throwable);
+          return;
+        }
+        try (var ignored = new FolioExecutionContextSetter(context)) {
+          finishPublication(publicationRequest, publicationId, finalStatus);
+        }
+      });
+  }
 
-    publicationStatusRepository.save(publicationStatusEntity);
-    log.info("updatePublicationsStatus:: updated publication record {} with status {}", publicationStatusEntity.getId(), publicationStatusEntity.getStatus());
+  private void finishPublication(PublicationRequest publicationRequest, UUID publicationId, PublicationStatus status) {
+    log.info("finishPublication:: publication {} is finished with status {}", publicationId, status);
+    publicationCompletionNotifier.complete(publicationId, status);
+    notifyCallback(publicationRequest, publicationId, status);
+  }
+
+  private void notifyCallback(PublicationRequest publicationRequest, UUID publicationId, PublicationStatus status) {
+    if (StringUtils.isBlank(publicationRequest.getCallbackUrl())) {
+      return;
+    }
+    if (!isOkapiPath(publicationRequest.getCallbackUrl())) {
+      log.warn("notifyCallback:: callback '{}' of publication {} is not a path of Okapi, skipping it",
+        publicationRequest.getCallbackUrl(), publicationId);
+      return;
+    }
+    var payload = buildPublicationResponse(publicationId).status(status);
+    CompletableFuture<PublicationHttpResponse> callback;
+    // the callback is sent within the context of the publisher, so it reaches only what the publisher is permitted to call
+    try {
+      callback = httpRequestService.performRequestAsync(publicationRequest.getCallbackUrl(), HttpMethod.POST, payload);
+    } catch (RuntimeException e) {
+      callback = CompletableFuture.failedFuture(e);
+    }
+    callback.whenComplete((response, throwable) -> {
+        if (throwable != null || !response.getStatusCode().is2xxSuccessful()) {
+          log.warn("notifyCallback:: callback '{}' of publication {} failed: {}", publicationRequest.getCallbackUrl(), publicationId,
+            throwable != null ? throwable.getMessage() : response.getStatusCode());
+        }
+      });
   }
 
   private void validatePublicationRequest(UUID consortiumId, PublicationRequest publication, FolioExecutionContext context) {
     if (CollectionUtils.isEmpty(publication.getTenants())) {
       throw new PublicationException(TENANT_LIST_EMPTY);
     }
+    if (StringUtils.isNotBlank(publication.getCallbackUrl()) && !isOkapiPath(publication.getCallbackUrl())) {
+      throw new PublicationException(CALLBACK_URL_NOT_RELATIVE);
+    }
     tenantService.checkTenantsAndConsortiumExistsOrThrow(consortiumId, List.copyOf(publication.getTenants()));
     var userAffiliated = userTenantService.checkUserIfHasPrimaryAffiliationByUserId(consortiumId, context.getUserId().toString());
     if (!userAffiliated) {
@@ -290,6 +536,21 @@ public class PublicationServiceImpl implements PublicationService {
     }
   }
 
+  /**
+   * Accepts only paths which are resolved against the Okapi URL, so a callback cannot reach another host.
+   */
+  static boolean isOkapiPath(String url) {
+    if (!url.startsWith("/") || url.startsWith("//") || StringUtils.containsAny(url, '@', '\\')) {
+      return false;
+    }
+    try {
+      var uri = new URI(url);
+      return uri.getScheme() == null && uri.getAuthority() == null;
+    } catch (URISyntaxException e) {
+      return false;
+    }
+  }
+
   private PublicationResponse buildPublicationResponse(UUID publicationId) {
     return new PublicationResponse()
       .id(publicationId)
@@ -298,14 +559,17 @@ public class PublicationServiceImpl implements PublicationService {
 
 
   @Override
-  public PublicationResultCollection getPublicationResults(UUID consortiumId, UUID publicationId){
-    log.info("getPublicationResults:: Trying to retrieve publication results by consortiumId: {} and publicationId id: {}", consortiumId, publicationId);
+  public PublicationResultCollection getPublicationResults(UUID consortiumId, UUID publicationId, List<PublicationStatus> statuses,
+                                                           Integer offset, Integer limit) {
+    log.info("getPublicationResults:: Trying to retrieve publication results by consortiumId: {}, publicationId: {}, statuses: {}, offset: {}, limit: {}",
+      consortiumId, publicationId, statuses, offset, limit);
 
-    consortiumService.checkConsortiumExistsOrThrow(consortiumId);
-    var publicationStatusEntity = publicationStatusRepository.findById(publicationId)
-      .orElseThrow(() -> new ResourceNotFoundException(PUBLICATION_ID_FIELD, String.valueOf(publicationId)));
+    var publicationStatusEntity = getPublicationStatusEntity(consortiumId, publicationId);
 
-    var ptrEntities = publicationTenantRequestRepository.findByPcStateId(publicationId, OffsetRequest.of(0, Integer.MAX_VALUE));
+    var pageable = OffsetRequest.of(offset, limit, Sort.by(TENANT_ID_FIELD));
+    var ptrEntities = CollectionUtils.isEmpty(statuses)
+      ? publicationTenantRequestRepository.findByPcStateId(publicationId, pageable)
+      : publicationTenantRequestRepository.findByPcStateIdAndStatusIn(publicationId, statuses, pageable);
     log.info("getPublicationResults:: Found {} of {} expected tenant request records for publication {}", ptrEntities.getTotalElements(), publicationStatusEntity.getTotalRecords(), publicationId);
 
     var resultList = ptrEntities.stream()
@@ -317,7 +581,28 @@ public class PublicationServiceImpl implements PublicationService {
 
     return new PublicationResultCollection()
       .publicationResults(resultList)
-      .totalRecords(resultList.size());
+      .totalRecords((int) ptrEntities.getTotalElements());
+  }
+
+  @Override
+  public StreamingResponseBody streamPublicationResults(UUID consortiumId, UUID publicationId, List<PublicationStatus> statuses) {
+    log.info("streamPublicationResults:: Trying to stream publication results by consortiumId: {}, publicationId: {}, statuses: {}",
+      consortiumId, publicationId, statuses);
+
+    getPublicationStatusEntity(consortiumId, publicationId);
+    // response body is written by another thread once the request is handled, so the tenant context is captured here
+    var context = prepareContextForTenant(folioExecutionContext.getTenantId(), folioModuleMetadata, folioExecutionContext);
+    return outputStream -> {
+      try (var ignored = new FolioExecutionContextSetter(context)) {
+        publicationResultWriter.write(publicationId, statuses, outputStream);
+      }
+    };
+  }
+
+  private PublicationStatusEntity getPublicationStatusEntity(UUID consortiumId, UUID publicationId) {
+    consortiumService.checkConsortiumExistsOrThrow(consortiumId);
+    return publicationStatusRepository.findById(publicationId)
+      .orElseThrow(() -> new ResourceNotFoundException(PUBLICATION_ID_FIELD, String.valueOf(publicationId)));
   }
 
   @Override
@@ -0,0 +1,182 @@
+package org.folio.consortia.service.impl;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.folio.consortia.exception.TenantUnavailableException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Protects member tenants from publication requests, and publications from a slow or failing member tenant.
+ * <p>
+ * Every tenant has its own:
+ * <ul>
+ *   <li>token bucket, which spreads requests to the tenant so that no more than {@code requests-per-second} are sent,
+ *   short bursts of the same size are allowed;</li>
+ *   <li>circuit breaker, which is opened after {@code failure-threshold} consecutive failures (server errors and
+ *   timeouts) and rejects requests to the tenant for {@code open-duration-ms}. Then a single trial request is let
+ *   through, its result either closes the circuit or opens it again.</li>
+ * </ul>
+ * State of circuit breakers and number of rejected requests are published as metrics tagged with the tenant.
+ */
+@Log4j2
+@Component
+public class PublicationTenantLimiter {
+
+  static final String CIRCUIT_STATE_METRIC = "consortia.publication.tenant.circuit.state";
+  static final String REJECTED_REQUESTS_METRIC = "consortia.publication.tenant.requests.rejected";
+
+  private final long requestIntervalNanos;
+  private final int burstSize;
+  private final int failureThreshold;
+  private final long openDurationNanos;
+  private final MeterRegistry meterRegistry;
+  private final LongSupplier nanoClock;
+  private final Map<String, TenantLimit> tenantLimits = new ConcurrentHashMap<>();
+
+  @Autowired
+  public PublicationTenantLimiter(@Value("${folio.publication.tenant-limits.requests-per-second:50}") double requestsPerSecond,
+                                  @Value("${folio.publication.tenant-limits.failure-threshold:5}") int failureThreshold,
+                                  @Value("${folio.publication.tenant-limits.open-duration-ms:30000}") long openDurationMs,
+                                  MeterRegistry meterRegistry) {
+    this(requestsPerSecond, failureThreshold, openDurationMs, meterRegistry, System::nanoTime);
+  }
+
+  PublicationTenantLimiter(double requestsPerSecond, int failureThreshold, long openDurationMs,
+                           MeterRegistry meterRegistry, LongSupplier nanoClock) {
+    // zero rate turns the rate limiting off
+    this.requestIntervalNanos = requestsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond) : 0;
+    this.burstSize = Math.max(1, (int) requestsPerSecond);
+    this.failureThreshold = failureThreshold;
+    this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(openDurationMs);
+    this.meterRegistry = meterRegistry;
+    this.nanoClock = nanoClock;
+  }
+
+  /**
+   * Reserves a request to the tenant.
+   *
+   * @param tenantId target tenant of the request
+   * @return delay after which the request can be sent
+   * @throws TenantUnavailableException if the circuit breaker of the tenant is open
+   */
+  public Duration acquire(String tenantId) {
+    var tenantLimit = getTenantLimit(tenantId);
+    var now = nanoClock.getAsLong();
+    if (!tenantLimit.allowRequest(now)) {
+      tenantLimit.rejected.increment();
+      throw new TenantUnavailableException(tenantId);
+    }
+    return Duration.ofNanos(tenantLimit.reserve(now));
+  }
+
+  /**
+   * Records result of the request to the tenant, which was reserved with {@link #acquire(String)}.
+   *
+   * @param tenantId  target tenant of the request
+   * @param succeeded false if the tenant failed to handle the request
+   */
+  public void recordResult(String tenantId, boolean succeeded) {
+    var tenantLimit = getTenantLimit(tenantId);
+    if (succeeded) {
+      tenantLimit.onSuccess();
+    } else if (tenantLimit.onFailure(nanoClock.getAsLong())) {
+      log.warn("recordResult:: circuit breaker of tenant {} is open for {} ms", tenantId, TimeUnit.NANOSECONDS.toMillis(openDurationNanos));
+    }
+  }
+
+  CircuitState getCircuitState(String tenantId) {
+    return getTenantLimit(tenantId).state;
+  }
+
+  private TenantLimit getTenantLimit(String tenantId) {
+    return tenantLimits.computeIfAbsent(tenantId, this::createTenantLimit);
+  }
+
+  private TenantLimit createTenantLimit(String tenantId) {
+    var rejected = Counter.builder(REJECTED_REQUESTS_METRIC)
+      .description("Publication requests rejected because the circuit breaker of the tenant is open")
+      .tag("tenant", tenantId)
+      .register(meterRegistry);
+    var tenantLimit = new TenantLimit(rejected);
+    Gauge.builder(CIRCUIT_STATE_METRIC, tenantLimit, limit -> limit.state.ordinal())
+      .description("Circuit breaker state of the tenant: 0 - closed, 1 - open, 2 - half-open")
+      .tag("tenant", tenantId)
+      .register(meterRegistry);
+    return tenantLimit;
+  }
+
+  enum CircuitState {
+    CLOSED, OPEN, HALF_OPEN
+  }
+
+  private class TenantLimit {
+    private final Counter rejected;
+    private volatile CircuitState state = CircuitState.CLOSED;
+    private int consecutiveFailures;
+    private long openUntil;
+    private boolean trialInFlight;
+    // time when the next request can be sent without delay
+    private long nextFreeSlot = Long.MIN_VALUE;
+
+    TenantLimit(Counter rejected) {
+      this.rejected = rejected;
+    }
+
+    private synchronized boolean allowRequest(long now) {
+      if (state == CircuitState.OPEN && now - openUntil >= 0) {
+        state = CircuitState.HALF_OPEN;
+        trialInFlight = false;
+      }
+      if (state == CircuitState.OPEN || state == CircuitState.HALF_OPEN && trialInFlight) {
+        return false;
+      }
+      trialInFlight = state == CircuitState.HALF_OPEN;
+      return true;
+    }
+
+    private synchronized long reserve(long now) {
+      if (requestIntervalNanos == 0) {
+        return 0;
+      }
+      // unused slots are accumulated while the tenant is idle, but no more than the burst size
+      var earliestSlot = now - (burstSize - 1) * requestIntervalNanos;
+      if (nextFreeSlot == Long.MIN_VALUE || nextFreeSlot - earliestSlot < 0) {
+        nextFreeSlot = earliestSlot;
+      }
+      var delay = Math.max(0, nextFreeSlot - now);
+      nextFreeSlot += requestIntervalNanos;
+      return delay;
+    }
+
+    private synchronized void onSuccess() {
+      consecutiveFailures = 0;
+      trialInFlight = false;
+      state = CircuitState.CLOSED;
+    }
+
+    /**
+     * @return true if the circuit has been opened by this failure
+     */
+    private synchronized boolean onFailure(long now) {
+      consecutiveFailures++;
+      if (state == CircuitState.HALF_OPEN || state == CircuitState.CLOSED && consecutiveFailures >= failureThreshold) {
+        state = CircuitState.OPEN;
+        openUntil = now + openDurationNanos;
+        trialInFlight = false;
+        return true;
+      }
+      return false;
+    }
+  }
+}
@@ -0,0 +1,204 @@
+package org.folio.consortia.service.impl;
+
+import static org.folio.consortia.utils.TenantContextUtils.prepareContextForTenant;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.folio.consortia.domain.converter.PublicationContentCodec;
+import org.folio.consortia.domain.dto.PublicationStatus;
+import org.folio.consortia.domain.entity.PublicationTenantRequestEntity;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Write-behind buffer for results of publication tenant requests.
+ * <p>
+ * Results are collected per tenant and written to {@code pc_tenant_request} with a single JDBC batch
+ * once {@code batch-size} of them are gathered or {@code flush-interval-ms} has passed, whichever comes first.
+ * Progress counters of the publications are updated in the same transaction.
+ */
+@Log4j2
+@Component
+public class PublicationTenantRequestBuffer {
+
+  // only the current lease owner may finish the tenant request, so a request reclaimed by another instance is counted once
+  private static final String UPDATE_TENANT_REQUEST_SQL = "UPDATE pc_tenant_request SET status = ?, response = ?, " +
+    "response_status_code = ?, completed_date = ?, updated_date = ?, updated_by = ? " +
+    "WHERE id = ? AND status = 'IN_PROGRESS' AND lease_owner IS NOT DISTINCT FROM ?";
+  // counters are incremented in place, status is switched by the update which counts the last tenant request
+  private static final String UPDATE_PUBLICATION_PROGRESS_SQL = "UPDATE pc_state SET completed_count = completed_count + ?, " +
+    "failed_count = failed_count + ?, status = CASE WHEN completed_count + failed_count + ? < total_records THEN status " +
+    "WHEN failed_count + ? > 0 THEN 'ERROR' ELSE 'COMPLETE' END, updated_date = ?, updated_by = ? WHERE id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final FolioExecutionContext folioExecutionContext;
+  private final FolioModuleMetadata folioModuleMetadata;
+  private final PublicationContentCodec publicationContentCodec;
+  private final int batchSize;
+  private final ScheduledExecutorService flushScheduler;
+  private final Map<String, TenantBuffer> tenantBuffers = new ConcurrentHashMap<>();
+
+  public PublicationTenantRequestBuffer(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                        FolioExecutionContext folioExecutionContext,
+                                        FolioModuleMetadata folioModuleMetadata,
+                                        PublicationContentCodec publicationContentCodec,
+                                        @Value("${folio.publication.write-buffer.batch-size:100}") int batchSize,
+                                        @Value("${folio.publication.write-buffer.flush-interval-ms:500}") long flushIntervalMs) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = transactionTemplate;
+    this.folioExecutionContext = folioExecutionContext;
+    this.folioModuleMetadata = folioModuleMetadata;
+    this.publicationContentCodec = publicationContentCodec;
+    this.batchSize = batchSize;
+
+    var threadFactory = new CustomizableThreadFactory("ConsortiaPublicationFlush-");
+    threadFactory.setDaemon(true);
+    this.flushScheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    flushScheduler.scheduleWithFixedDelay(this::flushAll, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Buffers result of the publication tenant request.
+   *
+   * @param ptrEntity completed publication tenant request
+   * @return future completed with given entity once it is written to the database
+   */
+  public CompletableFuture<PublicationTenantRequestEntity> write(PublicationTenantRequestEntity ptrEntity) {
+    var pendingUpdate = new PendingUpdate(ptrEntity, folioExecutionContext.getUserId(), LocalDateTime.now(), new CompletableFuture<>());
+    var tenantBuffer = tenantBuffers.computeIfAbsent(folioExecutionContext.getTenantId(),
+      tenantId -> new TenantBuffer(prepareContextForTenant(tenantId, folioModuleMetadata, folioExecutionContext)));
+
+    List<PendingUpdate> fullBatch = null;
+    synchronized (tenantBuffer) {
+      tenantBuffer.updates.add(pendingUpdate);
+      if (tenantBuffer.updates.size() >= batchSize) {
+        fullBatch = tenantBuffer.drain();
+      }
+    }
+    if (fullBatch != null) {
+      flush(tenantBuffer, fullBatch);
+    }
+    return pendingUpdate.future;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    flushScheduler.shutdown();
+    flushAll();
+  }
+
+  private void flushAll() {
+    tenantBuffers.values().forEach(tenantBuffer -> {
+      List<PendingUpdate> batch;
+      synchronized (tenantBuffer) {
+        batch = tenantBuffer.drain();
+      }
+      if (!batch.isEmpty()) {
+        flush(tenantBuffer, batch);
+      }
+    });
+  }
+
+  private void flush(TenantBuffer tenantBuffer, List<PendingUpdate> batch) {
+    try (var ignored = new FolioExecutionContextSetter(tenantBuffer.context)) {
+      List<Object[]> batchArgs = batch.stream()
+        .map(update -> update.toSqlArgs(publicationContentCodec))
+        .toList();
+      transactionTemplate.executeWithoutResult(status -> {
+        var updateCounts = jdbcTemplate.batchUpdate(UPDATE_TENANT_REQUEST_SQL, batchArgs);
+        var progressArgs = buildProgressArgs(batch, updateCounts);
+        if (!progressArgs.isEmpty()) {
+          jdbcTemplate.batchUpdate(UPDATE_PUBLICATION_PROGRESS_SQL, progressArgs);
+        }
+      });
+      log.debug("flush:: {} publication tenant requests were written for tenant {}", batch.size(), tenantBuffer.context.getTenantId());
+    } catch (RuntimeException e) {
+      log.error("flush:: failed to write {} publication tenant requests", batch.size(), e);
+      batch.forEach(update -> update.future.completeExceptionally(e));
+      return;
+    }
+    batch.forEach(update -> update.future.complete(update.ptrEntity));
+  }
+
+  /**
+   * Sums finished tenant requests per publication. Tenant requests that were not updated are already finished by
+   * another lease owner and are not counted. Publications are sorted by id, so concurrent flushes lock
+   * {@code pc_state} rows in the same order.
+   */
+  private static List<Object[]> buildProgressArgs(List<PendingUpdate> batch, int[] updateCounts) {
+    Map<UUID, PublicationProgress> progress = new TreeMap<>();
+    for (int i = 0; i < batch.size(); i++) {
+      var ptrEntity = batch.get(i).ptrEntity;
+      if (updateCounts[i] == 0) {
+        log.debug("buildProgressArgs:: tenant request {} is not leased by this module instance anymore", ptrEntity.getId());
+        continue;
+      }
+      progress.computeIfAbsent(ptrEntity.getPcState().getId(), id -> new PublicationProgress()).add(ptrEntity.getStatus());
+    }
+
+    var lastUpdate = batch.get(batch.size() - 1);
+    List<Object[]> progressArgs = new ArrayList<>();
+    progress.forEach((publicationId, publicationProgress) -> progressArgs.add(new Object[] {publicationProgress.completed,
+      publicationProgress.failed, publicationProgress.completed + publicationProgress.failed, publicationProgress.failed,
+      lastUpdate.updatedDate, lastUpdate.updatedBy, publicationId}));
+    return progressArgs;
+  }
+
+  private static class PublicationProgress {
+    private int completed;
+    private int failed;
+
+    private void add(PublicationStatus status) {
+      if (status == PublicationStatus.ERROR) {
+        failed++;
+      } else {
+        completed++;
+      }
+    }
+  }
+
+  private static class TenantBuffer {
+    // used to write results to the schema of the tenant
+    private final FolioExecutionContext context;
+    private List<PendingUpdate> updates = new ArrayList<>();
+
+    TenantBuffer(FolioExecutionContext context) {
+      this.context = context;
+    }
+
+    private List<PendingUpdate> drain() {
+      var drained = updates;
+      updates = new ArrayList<>();
+      return drained;
+    }
+  }
+
+  private record PendingUpdate(PublicationTenantRequestEntity ptrEntity, UUID updatedBy, LocalDateTime updatedDate,
+                               CompletableFuture<PublicationTenantRequestEntity> future) {
+
+    private Object[] toSqlArgs(PublicationContentCodec publicationContentCodec) {
+      return new Object[] {ptrEntity.getStatus().name(), publicationContentCodec.encode(ptrEntity.getResponse()), ptrEntity.getResponseStatusCode(),
+        ptrEntity.getCompletedDate(), updatedDate, updatedBy, ptrEntity.getId(), ptrEntity.getLeaseOwner()};
+    }
+  }
+}
@@ -6,6 +6,8 @@ import static org.folio.consortia.utils.HelperUtils.CONSORTIUM_LINKED_DATA_INSTA
 import static org.folio.consortia.utils.HelperUtils.CONSORTIUM_MARC_INSTANCE_SOURCE;
 import static org.folio.consortia.utils.TenantContextUtils.prepareContextForTenant;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -19,11 +21,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.folio.consortia.client.InventoryClient;
 import org.folio.consortia.config.kafka.KafkaService;
 import org.folio.consortia.domain.dto.SharingInstance;
 import org.folio.consortia.domain.dto.SharingInstanceCollection;
 import org.folio.consortia.domain.dto.Status;
+import org.folio.consortia.domain.dto.TotalRecordsMode;
 import org.folio.consortia.domain.entity.SharingInstanceEntity;
 import org.folio.consortia.exception.ResourceNotFoundException;
 import org.folio.consortia.repository.SharingInstanceRepository;
@@ -44,6 +48,7 @@ import org.springframework.stereotype.Service;
 public class SharingInstanceServiceImpl implements SharingInstanceService {
   private static final String GET_INSTANCE_EXCEPTION_MSG = "Failed to get inventory instance with reason: %s";
   private static final String POST_INSTANCE_EXCEPTION_MSG = "Failed to post inventory instance with reason: %s";
+  private static final String ESTIMATE_SHARING_INSTANCES_SQL = "SELECT 1 FROM sharing_instance WHERE TRUE";
   private final SharingInstanceRepository sharingInstanceRepository;
   private final ConsortiumService consortiumService;
   private final TenantService tenantService;
@@ -53,6 +58,7 @@ public class SharingInstanceServiceImpl implements SharingInstanceService {
   private final FolioExecutionContext folioExecutionContext;
   private final ObjectMapper objectMapper;
   private final KafkaService kafkaService;
+  private final TotalRecordsCounter totalRecordsCounter;
 
   @Override
   public SharingInstance getById(UUID consortiumId, UUID actionId) {
@@ -140,20 +146,56 @@ public class SharingInstanceServiceImpl implements SharingInstanceService {
 
   @Override
   public SharingInstanceCollection getSharingInstances(UUID consortiumId, UUID instanceIdentifier, String sourceTenantId,
-                                                       String targetTenantId, Status status, Integer offset, Integer limit) {
+                                                       String targetTenantId, Status status, Integer offset, Integer limit,
+                                                       TotalRecordsMode totalRecordsMode) {
     log.debug("getSharingInstances:: parameters consortiumId: {}, instanceIdentifier: {}, sourceTenantId: {}, targetTenantId: {}, status: {}.",
       consortiumId, instanceIdentifier, sourceTenantId, targetTenantId, status);
     consortiumService.checkConsortiumExistsOrThrow(consortiumId);
     var specification = constructSpecification(instanceIdentifier, sourceTenantId, targetTenantId, status);
 
-    var sharingInstancePage = sharingInstanceRepository.findAll(specification, OffsetRequest.of(offset, limit));
     var result = new SharingInstanceCollection();
-    result.setSharingInstances(sharingInstancePage.stream().map(o -> converter.convert(o, SharingInstance.class)).toList());
-    result.setTotalRecords((int) sharingInstancePage.getTotalElements());
+    if (totalRecordsMode == TotalRecordsMode.EXACT) {
+      var sharingInstancePage = sharingInstanceRepository.findAll(specification, OffsetRequest.of(offset, limit));
+      result.setSharingInstances(sharingInstancePage.stream().map(o -> converter.convert(o, SharingInstance.class)).toList());
+      result.setTotalRecords((int) sharingInstancePage.getTotalElements());
+    } else {
+      var sharingInstanceSlice = sharingInstanceRepository.findSlice(specification, OffsetRequest.of(offset, limit));
+      result.setSharingInstances(sharingInstanceSlice.stream().map(o -> converter.convert(o, SharingInstance.class)).toList());
+      var estimateArgs = new ArrayList<>();
+      var estimateSql = buildEstimateSql(estimateArgs, instanceIdentifier, sourceTenantId, targetTenantId, status);
+      result.setTotalRecords(totalRecordsCounter.count(totalRecordsMode, sharingInstanceSlice,
+        () -> sharingInstanceRepository.count(specification), estimateSql, estimateArgs.toArray()));
+    }
     log.info("getSharingInstances:: total number of matched sharingInstances: {}.", result.getTotalRecords());
     return result;
   }
 
+  /**
+   * Builds a native query with the same filters as {@link SharingInstanceRepository.Specifications}, so the planner
+   * estimates the number of matched sharing instances.
+   */
+  private static String buildEstimateSql(List<Object> args, UUID instanceIdentifier, String sourceTenantId,
+                                         String targetTenantId, Status status) {
+    var sql = new StringBuilder(ESTIMATE_SHARING_INSTANCES_SQL);
+    if (Objects.nonNull(instanceIdentifier)) {
+      sql.append(" AND instance_id = ?");
+      args.add(instanceIdentifier);
+    }
+    if (StringUtils.isNotEmpty(sourceTenantId)) {
+      sql.append(" AND source_tenant_id = ?");
+      args.add(sourceTenantId);
+    }
+    if (StringUtils.isNotEmpty(targetTenantId)) {
+      sql.append(" AND target_tenant_id = ?");
+      args.add(targetTenantId);
+    }
+    if (Objects.nonNull(status)) {
+      sql.append(" AND status = ?");
+      args.add(status.name());
+    }
+    return sql.toString();
+  }
+
   @Override
   @Transactional
   public void completePromotingLocalInstance(String eventPayload) {
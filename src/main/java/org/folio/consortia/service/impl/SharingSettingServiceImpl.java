@@ -17,8 +17,7 @@ import org.apache.commons.lang3.ObjectUtils;
 import org.folio.consortia.config.FolioExecutionContextHelper;
 import org.folio.consortia.domain.dto.PublicationDetailsResponse;
 import org.folio.consortia.domain.dto.PublicationRequest;
-import org.folio.consortia.domain.dto.PublicationResult;
-import org.folio.consortia.domain.dto.PublicationStatus;
+import org.folio.consortia.domain.dto.PublicationStatusError;
 import org.folio.consortia.domain.dto.SharingSettingDeleteResponse;
 import org.folio.consortia.domain.dto.SharingSettingRequest;
 import org.folio.consortia.domain.dto.SharingSettingResponse;
@@ -33,10 +32,8 @@ import org.folio.consortia.service.SharingSettingService;
 import org.folio.consortia.service.TenantService;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.scope.FolioExecutionContextSetter;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -55,11 +52,6 @@ import lombok.extern.log4j.Log4j2;
 public class SharingSettingServiceImpl implements SharingSettingService {
   private static final String SOURCE = "source";
 
-  @Value("${folio.sharing.setting.interval:200}")
-  private int interval;
-  @Value("${folio.sharing.setting.max-tries:20}")
-  private int maxTries;
-
   private final SharingSettingRepository sharingSettingRepository;
   private final TenantService tenantService;
   private final ConsortiumService consortiumService;
@@ -146,15 +138,16 @@ public class SharingSettingServiceImpl implements SharingSettingService {
     try (var ignored = new FolioExecutionContextSetter(contextHelper.getSystemUserFolioExecutionContext(folioExecutionContext.getTenantId()))) {
       var pcId = publishRequest(consortiumId, publicationDeleteRequest);
       var sharingSettingDeleteResponse = new SharingSettingDeleteResponse().pcId(pcId);
-      // update sources of failed requests
-      asyncTaskExecutor.execute(getRunnableWithCurrentFolioContext(() -> {
-        try {
-          updateSettingsForFailedTenants(consortiumId, pcId, sharingSettingRequest);
-        } catch (InterruptedException e) {
-          log.error("Thread sleep was interrupted", e);
-          Thread.currentThread().interrupt();
-        }
-      }));
+      // update sources of failed requests once the publication is finished
+      if (pcId != null) {
+        publicationService.getPublicationCompletion(consortiumId, pcId)
+          .thenRunAsync(getRunnableWithCurrentFolioContext(
+            () -> updateSettingsForFailedTenants(consortiumId, pcId, sharingSettingRequest)), asyncTaskExecutor)
+          .exceptionally(throwable -> {
+            log.error("delete:: failed to update settings for failed tenants of publication {}", pcId, throwable);
+            return null;
+          });
+      }
       return sharingSettingDeleteResponse;
     }
   }
@@ -167,29 +160,19 @@ public class SharingSettingServiceImpl implements SharingSettingService {
     return null;
   }
 
-  private void updateSettingsForFailedTenants(UUID consortiumId, UUID publicationId, SharingSettingRequest sharingSettingRequest) throws InterruptedException {
+  private void updateSettingsForFailedTenants(UUID consortiumId, UUID publicationId, SharingSettingRequest sharingSettingRequest) {
     log.debug("updateSettingsForFailedTenants:: Trying to update settings for failed tenants for consortiumId={} publicationId={} and sharingSettingRequestId={}", consortiumId, publicationId, sharingSettingRequest.getSettingId());
-    boolean isPublicationStatusReady = false;
-    int i = 0;
-    while (Boolean.FALSE.equals(isPublicationStatusReady) && i++ < maxTries) {
-      Thread.sleep(interval);
-      boolean isPublicationStatusExists = publicationService.checkPublicationDetailsExists(consortiumId, publicationId);
-      if (isPublicationStatusExists) {
-        PublicationDetailsResponse publicationDetails = publicationService.getPublicationDetails(consortiumId, publicationId);
-        if (ObjectUtils.notEqual(publicationDetails.getStatus(), PublicationStatus.IN_PROGRESS)) {
-          isPublicationStatusReady = true;
-          log.info("updateSettingsForFailedTenants:: publication status '{}' for sharing setting '{}'", publicationDetails.getId(), sharingSettingRequest.getSettingId());
-
-          Set<String> failedTenantList = publicationService.getPublicationResults(consortiumId, publicationId).getPublicationResults()
-            .stream().filter(publicationResult -> HttpStatus.valueOf(publicationResult.getStatusCode()).isError())
-            .map(PublicationResult::getTenantId).collect(Collectors.toSet());
-          log.info("updateSettingsForFailedTenants:: '{}' tenant(s) failed ", failedTenantList.size());
-
-          if (ObjectUtils.isNotEmpty(failedTenantList)) {
-            updateFailedSettingsToLocalSource(consortiumId, sharingSettingRequest, failedTenantList);
-          }
-        }
-      }
+    PublicationDetailsResponse publicationDetails = publicationService.getPublicationDetails(consortiumId, publicationId);
+    log.info("updateSettingsForFailedTenants:: publication '{}' finished with status '{}' for sharing setting '{}'",
+      publicationDetails.getId(), publicationDetails.getStatus(), sharingSettingRequest.getSettingId());
+
+    // details carry failed tenant requests already, no need to load the results
+    Set<String> failedTenantList = publicationDetails.getErrors().stream()
+      .map(PublicationStatusError::getTenantId).collect(Collectors.toSet());
+    log.info("updateSettingsForFailedTenants:: '{}' tenant(s) failed ", failedTenantList.size());
+
+    if (ObjectUtils.isNotEmpty(failedTenantList)) {
+      updateFailedSettingsToLocalSource(consortiumId, sharingSettingRequest, failedTenantList);
     }
   }
 
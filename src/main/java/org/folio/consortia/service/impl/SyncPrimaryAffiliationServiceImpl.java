@@ -1,11 +1,9 @@
 package org.folio.consortia.service.impl;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
-import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.folio.consortia.client.SyncPrimaryAffiliationClient;
 import org.folio.consortia.domain.dto.Personal;
@@ -23,6 +21,7 @@ import org.folio.consortia.service.SyncPrimaryAffiliationService;
 import org.folio.consortia.service.TenantService;
 import org.folio.consortia.service.UserService;
 import org.folio.spring.data.OffsetRequest;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,6 +33,7 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 @RequiredArgsConstructor
 public class SyncPrimaryAffiliationServiceImpl implements SyncPrimaryAffiliationService {
+  private static final String SYNC_USERS_QUERY = "(cql.allRecords=1 NOT type=\"patron\" NOT type=\"dcb\" NOT type=\"shadow\")";
   private final UserService userService;
   private final TenantService tenantService;
   private final UserTenantRepository userTenantRepository;
@@ -41,29 +41,53 @@ public class SyncPrimaryAffiliationServiceImpl implements SyncPrimaryAffiliation
   private final LockService lockService;
   private final PrimaryAffiliationService createPrimaryAffiliationService;
 
+  @Value("${folio.sync-primary-affiliations.page-size:100}")
+  private int syncPageSize;
+
   @Override
   public void syncPrimaryAffiliations(UUID consortiumId, String tenantId, String centralTenantId) {
     log.info("Start syncing user primary affiliations for tenant {}", tenantId);
-    List<User> users = new ArrayList<>();
-    try {
-      users = userService.getUsersByQuery("(cql.allRecords=1 NOT type=\"patron\" NOT type=\"dcb\" NOT type=\"shadow\")", 0, Integer.MAX_VALUE);
-    } catch (Exception e) {
-      log.error("syncPrimaryAffiliations:: failed to retrieve '{}' users", tenantId, e);
-      tenantService.updateTenantSetupStatus(tenantId, centralTenantId, SetupStatusEnum.FAILED);
-    }
+    String lastUserId = null;
+    for (int pageNumber = 0; ; pageNumber++) {
+      List<User> users;
+      try {
+        users = userService.getUsersByQuery(buildSyncUsersQuery(lastUserId), 0, syncPageSize);
+      } catch (Exception e) {
+        log.error("syncPrimaryAffiliations:: failed to retrieve '{}' users", tenantId, e);
+        tenantService.updateTenantSetupStatus(tenantId, centralTenantId, SetupStatusEnum.FAILED);
+        return;
+      }
+      if (users.isEmpty() && lastUserId == null) {
+        return;
+      }
 
-    try {
-      if (CollectionUtils.isNotEmpty(users)) {
-        SyncPrimaryAffiliationBody spab = buildSyncPrimaryAffiliationBody(tenantId, users);
+      // an empty last page is still sent when users of the previous page were partial, to complete the setup
+      var lastPage = users.size() < syncPageSize;
+      try {
+        log.info("syncPrimaryAffiliations:: sending {} users of tenant {}", users.size(), tenantId);
+        SyncPrimaryAffiliationBody spab = buildSyncPrimaryAffiliationBody(tenantId, users)
+          .pageNumber(pageNumber)
+          .partial(!lastPage);
+        // the page is processed before the response is returned, so only one page of users is held at a time
         syncPrimaryAffiliationClient.savePrimaryAffiliations(spab, consortiumId.toString(), tenantId, centralTenantId);
+      } catch (Exception e) {
+        log.error("syncPrimaryAffiliations:: error syncing user primary affiliations", e);
+        tenantService.updateTenantSetupStatus(tenantId, centralTenantId, SetupStatusEnum.FAILED);
+        throw e;
       }
-    } catch (Exception e) {
-      log.error("syncPrimaryAffiliations:: error syncing user primary affiliations", e);
-      tenantService.updateTenantSetupStatus(tenantId, centralTenantId, SetupStatusEnum.FAILED);
-      throw e;
+      if (lastPage) {
+        return;
+      }
+      lastUserId = users.get(users.size() - 1).getId();
     }
   }
 
+  private static String buildSyncUsersQuery(String lastUserId) {
+    return lastUserId == null
+      ? SYNC_USERS_QUERY + " sortBy id"
+      : SYNC_USERS_QUERY + " and id>\"" + lastUserId + "\" sortBy id";
+  }
+
   private SyncPrimaryAffiliationBody buildSyncPrimaryAffiliationBody(String tenantId, List<User> users) {
     return new SyncPrimaryAffiliationBody()
       .tenantId(tenantId)
@@ -102,7 +126,8 @@ public class SyncPrimaryAffiliationServiceImpl implements SyncPrimaryAffiliation
       var tenantId = syncPrimaryAffiliationBody.getTenantId();
       var userList = syncPrimaryAffiliationBody.getUsers();
       TenantEntity tenantEntity = tenantService.getByTenantId(tenantId);
-      createPrimaryUserAffiliations(consortiumId, centralTenantId, tenantId, userList, tenantEntity);
+      var partial = Boolean.TRUE.equals(syncPrimaryAffiliationBody.getPartial());
+      createPrimaryUserAffiliations(consortiumId, centralTenantId, tenantId, userList, tenantEntity, partial);
     } catch (Exception e) {
       log.error("createPrimaryUserAffiliations:: error creating user primary affiliations", e);
       tenantService.updateTenantSetupStatus(syncPrimaryAffiliationBody.getTenantId(), centralTenantId, SetupStatusEnum.FAILED);
@@ -111,7 +136,7 @@ public class SyncPrimaryAffiliationServiceImpl implements SyncPrimaryAffiliation
   }
 
   private void createPrimaryUserAffiliations(UUID consortiumId, String centralTenantId, String tenantId,
-    List<SyncUser> userList, TenantEntity tenantEntity) {
+    List<SyncUser> userList, TenantEntity tenantEntity, boolean partial) {
     var affiliatedUsersCount = 0;
     var hasFailedAffiliations = false;
     for (int idx = 0; idx < userList.size(); idx++) {
@@ -134,12 +159,25 @@ public class SyncPrimaryAffiliationServiceImpl implements SyncPrimaryAffiliation
           " and error message: {}", user.getId(), tenantId, e.getMessage(), e);
       }
     }
-    tenantService.updateTenantSetupStatus(tenantId, centralTenantId, hasFailedAffiliations ?
-      SetupStatusEnum.COMPLETED_WITH_ERRORS : SetupStatusEnum.COMPLETED);
+    updateTenantSetupStatus(consortiumId, centralTenantId, tenantId, hasFailedAffiliations, partial);
     log.info("createPrimaryUserAffiliations:: Successfully created {} of {} primary affiliations for tenant {}",
       affiliatedUsersCount, userList.size(), tenantId);
   }
 
+  /**
+   * Users of a tenant can be sent in several requests, failures of a partial request are kept in the setup status
+   * and the last request completes the setup only when no earlier request failed.
+   */
+  private void updateTenantSetupStatus(UUID consortiumId, String centralTenantId, String tenantId,
+    boolean hasFailedAffiliations, boolean partial) {
+    if (hasFailedAffiliations) {
+      tenantService.updateTenantSetupStatus(tenantId, centralTenantId, SetupStatusEnum.COMPLETED_WITH_ERRORS);
+    } else if (!partial && tenantService.getTenantDetailsById(consortiumId, tenantId).getSetupStatus()
+      != SetupStatusEnum.COMPLETED_WITH_ERRORS) {
+      tenantService.updateTenantSetupStatus(tenantId, centralTenantId, SetupStatusEnum.COMPLETED);
+    }
+  }
+
   private PrimaryAffiliationEvent createPrimaryAffiliationEvent(SyncUser user,
                                                                 String tenantId,
                                                                 String centralTenantId,
@@ -0,0 +1,120 @@
+package org.folio.consortia.service.impl;
+
+import static org.folio.consortia.utils.TenantContextUtils.prepareContextForTenant;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+import org.folio.consortia.exception.TenantFanOutException;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Runs the same task in many tenants concurrently on the shared {@code asyncTaskExecutor}.
+ * <p>
+ * No more than {@code folio.tenant-fan-out.max-concurrency} tasks of a single fan-out run at once, the caller waits for
+ * a free slot before submitting the next task and runs the task itself when the executor is saturated. Every task
+ * runs in its own context of the tenant, prepared from the context of the caller. A failing tenant does not stop the
+ * others, failures of all tenants are collected into the {@link Result}.
+ */
+@Log4j2
+@Component
+public class TenantFanOutExecutor {
+
+  private final TaskExecutor asyncTaskExecutor;
+  private final FolioExecutionContext folioExecutionContext;
+  private final FolioModuleMetadata folioModuleMetadata;
+  private final int maxConcurrency;
+
+  public TenantFanOutExecutor(TaskExecutor asyncTaskExecutor, FolioExecutionContext folioExecutionContext,
+                              FolioModuleMetadata folioModuleMetadata,
+                              @Value("${folio.tenant-fan-out.max-concurrency:5}") int maxConcurrency) {
+    this.asyncTaskExecutor = asyncTaskExecutor;
+    this.folioExecutionContext = folioExecutionContext;
+    this.folioModuleMetadata = folioModuleMetadata;
+    this.maxConcurrency = Math.max(1, maxConcurrency);
+  }
+
+  /**
+   * Runs the task in each tenant and waits until all tasks are finished.
+   *
+   * @param tenantIds tenants to run the task in
+   * @param task      task accepting the tenant, which context is set for the task
+   * @return succeeded tenants and failures of the others
+   */
+  public Result runInEachTenant(Collection<String> tenantIds, Consumer<String> task) {
+    var permits = new Semaphore(maxConcurrency);
+    var futures = new LinkedHashMap<String, CompletableFuture<Void>>();
+    for (var tenantId : tenantIds) {
+      var tenantContext = prepareContextForTenant(tenantId, folioModuleMetadata, folioExecutionContext);
+      Runnable tenantTask = () -> {
+        try (var ignored = new FolioExecutionContextSetter(tenantContext)) {
+          task.accept(tenantId);
+        }
+      };
+      permits.acquireUninterruptibly();
+      var future = submit(tenantTask);
+      future.whenComplete((result, throwable) -> permits.release());
+      futures.put(tenantId, future);
+    }
+    return collectResult(futures);
+  }
+
+  private CompletableFuture<Void> submit(Runnable tenantTask) {
+    try {
+      return CompletableFuture.runAsync(tenantTask, asyncTaskExecutor);
+    } catch (RejectedExecutionException e) {
+      log.debug("submit:: executor is saturated, running tenant task in the caller thread");
+      return CompletableFuture.runAsync(tenantTask, Runnable::run);
+    }
+  }
+
+  private static Result collectResult(Map<String, CompletableFuture<Void>> futures) {
+    var succeeded = new ArrayList<String>();
+    var failures = new LinkedHashMap<String, Throwable>();
+    futures.forEach((tenantId, future) -> {
+      try {
+        future.join();
+        succeeded.add(tenantId);
+      } catch (CompletionException e) {
+        failures.put(tenantId, e.getCause() != null ? e.getCause() : e);
+      }
+    });
+    return new Result(succeeded, failures);
+  }
+
+  /**
+   * @param succeededTenants tenants in which the task succeeded
+   * @param failures         failures of the task keyed by tenant
+   */
+  public record Result(List<String> succeededTenants, Map<String, Throwable> failures) {
+
+    public boolean hasFailures() {
+      return !failures.isEmpty();
+    }
+
+    /**
+     * @param action description of the task used in the exception message
+     * @throws TenantFanOutException if the task failed in any tenant
+     */
+    public void throwIfFailed(String action) {
+      if (hasFailures()) {
+        throw new TenantFanOutException(action, failures, succeededTenants.size() + failures.size());
+      }
+    }
+  }
+}
@@ -22,6 +22,7 @@ import org.folio.consortia.domain.dto.Tenant;
 import org.folio.consortia.domain.dto.TenantCollection;
 import org.folio.consortia.domain.dto.TenantDetails;
 import org.folio.consortia.domain.dto.TenantDetails.SetupStatusEnum;
+import org.folio.consortia.domain.dto.TotalRecordsMode;
 import org.folio.consortia.domain.dto.User;
 import org.folio.consortia.domain.dto.UserTenant;
 import org.folio.consortia.domain.entity.TenantDetailsEntity;
@@ -38,6 +39,7 @@ import org.folio.consortia.service.LockService;
 import org.folio.consortia.service.PermissionUserService;
 import org.folio.consortia.service.TenantService;
 import org.folio.consortia.service.UserService;
+import org.folio.consortia.utils.KeysetPage;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.data.OffsetRequest;
 import org.folio.spring.scope.FolioExecutionContextSetter;
@@ -58,6 +60,7 @@ public class TenantServiceImpl implements TenantService {
   private static final String TENANTS_IDS_NOT_MATCHED_ERROR_MSG = "Request body tenantId and path param tenantId should be identical";
 
   private static final String DUMMY_USERNAME = "dummy_user";
+  private static final String ESTIMATE_TENANTS_SQL = "SELECT 1 FROM tenant WHERE consortium_id = ? AND is_deleted = FALSE";
   @Value("${folio.system-user.username}")
   private String systemUserUsername;
 
@@ -75,6 +78,8 @@ public class TenantServiceImpl implements TenantService {
   private final SyncPrimaryAffiliationClient syncPrimaryAffiliationClient;
   private final CleanupService cleanupService;
   private final LockService lockService;
+  private final UserTenantsCache userTenantsCache;
+  private final TotalRecordsCounter totalRecordsCounter;
 
   @Override
   public TenantCollection get(UUID consortiumId, Integer offset, Integer limit) {
@@ -86,6 +91,20 @@ public class TenantServiceImpl implements TenantService {
     return result;
   }
 
+  @Override
+  public TenantCollection getByCursor(UUID consortiumId, String cursor, Integer limit, TotalRecordsMode totalRecordsMode) {
+    consortiumService.checkConsortiumExistsOrThrow(consortiumId);
+    var page = KeysetPage.fetch(cursor, limit, TenantEntity::getId,
+      pageable -> tenantRepository.findFirstKeysetPageByConsortiumId(consortiumId, pageable),
+      (id, pageable) -> tenantRepository.findKeysetPageByConsortiumIdAfterId(consortiumId, id, pageable));
+    var result = new TenantCollection();
+    result.setTenants(page.content().stream().map(o -> converter.convert(o, Tenant.class)).toList());
+    result.setNextCursor(page.nextCursor());
+    result.setTotalRecords(totalRecordsCounter.count(totalRecordsMode,
+      () -> tenantRepository.countByConsortiumId(consortiumId), ESTIMATE_TENANTS_SQL, consortiumId));
+    return result;
+  }
+
   @Override
   public TenantCollection getAll(UUID consortiumId) {
     TenantCollection result = new TenantCollection();
@@ -126,6 +145,8 @@ public class TenantServiceImpl implements TenantService {
     validateCodeAndNameUniqueness(tenantDto);
 
     var existingTenant = tenantRepository.findById(tenantDto.getId());
+    // associations of users with the tenant are returned again and shadow users are affiliated with the tenant
+    userTenantsCache.clear();
 
     // checked whether tenant exists or not.
     return existingTenant.isPresent() ? reAddSoftDeletedTenant(consortiumId, existingTenant.get(), tenantDto)
@@ -203,6 +224,8 @@ public class TenantServiceImpl implements TenantService {
     validateTenantForUpdateOperation(consortiumId, tenantId, tenantDto, existedTenant);
     // isDeleted flag cannot be changed by put request
     tenantDto.setIsDeleted(existedTenant.getIsDeleted());
+    // associations of users contain the name of the tenant
+    userTenantsCache.clear();
     return updateTenant(consortiumId, tenantDto);
   }
 
@@ -233,6 +256,8 @@ public class TenantServiceImpl implements TenantService {
     // clean publish coordinator tables first, because after tenant removal it will be ignored by cleanup service
     cleanupService.clearPublicationTables();
     tenantRepository.save(softDeletedTenant);
+    // associations of users with a soft deleted tenant are not returned
+    userTenantsCache.clear();
 
     try (var ignored = new FolioExecutionContextSetter(contextHelper.getSystemUserFolioExecutionContext(tenantId))) {
       userTenantsClient.deleteUserTenants();
@@ -0,0 +1,83 @@
+package org.folio.consortia.service.impl;
+
+import java.util.function.LongSupplier;
+
+import org.folio.consortia.domain.dto.TotalRecordsMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Calculates {@code totalRecords} of a collection response according to {@link TotalRecordsMode}.
+ * <p>
+ * The estimated mode reads the number of rows the Postgres planner expects the query to return from its statistics,
+ * which costs the same regardless of the table size. Estimates below
+ * {@code folio.total-records.exact-count-threshold} are replaced by the exact count, which is cheap for so few rows
+ * and avoids visibly wrong totals of small collections.
+ */
+@Log4j2
+@Component
+public class TotalRecordsCounter {
+  private static final String EXPLAIN_SQL_PREFIX = "EXPLAIN (FORMAT JSON) ";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ObjectMapper objectMapper;
+  private final long exactCountThreshold;
+
+  public TotalRecordsCounter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                             @Value("${folio.total-records.exact-count-threshold:1000}") long exactCountThreshold) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.objectMapper = objectMapper;
+    this.exactCountThreshold = exactCountThreshold;
+  }
+
+  /**
+   * @param mode        how total records are calculated
+   * @param exactCount  counts the records exactly
+   * @param estimateSql native query selecting the counted records, its plan is used for the estimation
+   * @param args        arguments of the native query
+   * @return total records, {@code null} when counting is skipped
+   */
+  public Integer count(TotalRecordsMode mode, LongSupplier exactCount, String estimateSql, Object... args) {
+    return switch (mode) {
+      case EXACT -> (int) exactCount.getAsLong();
+      case ESTIMATED -> {
+        var estimate = estimate(estimateSql, args);
+        yield (int) (estimate < exactCountThreshold ? exactCount.getAsLong() : estimate);
+      }
+      case NONE -> null;
+    };
+  }
+
+  /**
+   * Same as {@link #count(TotalRecordsMode, LongSupplier, String, Object...)}, but does not query the database when
+   * the slice is the last one, as total records are known then.
+   *
+   * @param slice slice of the counted records read for the response
+   */
+  public Integer count(TotalRecordsMode mode, Slice<?> slice, LongSupplier exactCount, String estimateSql,
+                       Object... args) {
+    var offset = slice.getPageable().isPaged() ? slice.getPageable().getOffset() : 0;
+    if (mode != TotalRecordsMode.NONE && !slice.hasNext() && (slice.hasContent() || offset == 0)) {
+      return (int) (offset + slice.getNumberOfElements());
+    }
+    return count(mode, exactCount, estimateSql, args);
+  }
+
+  private long estimate(String sql, Object... args) {
+    var plan = jdbcTemplate.queryForObject(EXPLAIN_SQL_PREFIX + sql, String.class, args);
+    try {
+      var estimate = objectMapper.readTree(plan).path(0).path("Plan").path("Plan Rows").asLong();
+      log.debug("estimate:: planner estimates {} rows for query: {}", estimate, sql);
+      return estimate;
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to parse query plan: " + plan, e);
+    }
+  }
+}
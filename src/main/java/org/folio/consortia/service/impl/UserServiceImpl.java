@@ -2,12 +2,17 @@ package org.folio.consortia.service.impl;
 
 import static org.folio.consortia.utils.TenantContextUtils.prepareContextForTenant;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+import org.apache.commons.collections4.ListUtils;
 import org.folio.consortia.client.UsersClient;
 import org.folio.consortia.domain.dto.Personal;
 import org.folio.consortia.domain.dto.User;
@@ -36,6 +41,8 @@ public class UserServiceImpl implements UserService {
   private final FolioModuleMetadata folioModuleMetadata;
   private static final Integer RANDOM_STRING_COUNT = 5;
   private static final String ORIGINAL_TENANT_ID_REF_ID = "originaltenantid";
+  // keeps CQL queries of users fetched by ids within URL length limits
+  private static final int USERS_QUERY_BATCH_SIZE = 50;
 
   @Override
   public User createUser(User user) {
@@ -91,25 +98,43 @@ public class UserServiceImpl implements UserService {
         log.warn("Could not find real user with id: {} in his home tenant: {}", userId.toString(), tenantId);
         throw new ResourceNotFoundException(USER_ID, userId.toString());
       }
+      return toShadowUser(realUser, tenantId);
+    }
+  }
 
-      var shadowUser = new User();
-      shadowUser.setId(userId.toString());
-      shadowUser.setUsername(String.format("%s_%s", realUser.getUsername(), HelperUtils.randomString(RANDOM_STRING_COUNT)));
-      shadowUser.setType(UserType.SHADOW.getName());
-      shadowUser.setActive(true);
-
-      if (Objects.nonNull(realUser.getPersonal())) {
-        // these firstname, lastname fields needed to correctly build UI metadata objects
-        shadowUser.setPersonal(new Personal()
-          .firstName(realUser.getPersonal().getFirstName())
-          .lastName(realUser.getPersonal().getLastName())
-          .email(realUser.getPersonal().getEmail())
-          .preferredContactTypeId(realUser.getPersonal().getPreferredContactTypeId())
-        );
-      }
+  @Override
+  public Map<UUID, User> prepareShadowUsers(Collection<UUID> userIds, String tenantId) {
+    try (var ignored = new FolioExecutionContextSetter(prepareContextForTenant(tenantId, folioModuleMetadata, folioExecutionContext))) {
+      log.info("prepareShadowUsers:: Try to get {} users of tenant={} ", userIds.size(), folioExecutionContext.getTenantId());
+
+      var shadowUsers = new HashMap<UUID, User>(userIds.size());
+      ListUtils.partition(new ArrayList<>(userIds), USERS_QUERY_BATCH_SIZE).forEach(batch -> {
+        var query = batch.stream().map(UUID::toString).collect(Collectors.joining(" or ", "id==(", ")"));
+        usersClient.getUserCollection(query, 0, batch.size()).getUsers()
+          .forEach(realUser -> shadowUsers.put(UUID.fromString(realUser.getId()), toShadowUser(realUser, tenantId)));
+      });
+      return shadowUsers;
+    }
+  }
 
-      shadowUser.setCustomFields(Map.of(ORIGINAL_TENANT_ID_REF_ID, tenantId));
-      return shadowUser;
+  private User toShadowUser(User realUser, String tenantId) {
+    var shadowUser = new User();
+    shadowUser.setId(realUser.getId());
+    shadowUser.setUsername(String.format("%s_%s", realUser.getUsername(), HelperUtils.randomString(RANDOM_STRING_COUNT)));
+    shadowUser.setType(UserType.SHADOW.getName());
+    shadowUser.setActive(true);
+
+    if (Objects.nonNull(realUser.getPersonal())) {
+      // these firstname, lastname fields needed to correctly build UI metadata objects
+      shadowUser.setPersonal(new Personal()
+        .firstName(realUser.getPersonal().getFirstName())
+        .lastName(realUser.getPersonal().getLastName())
+        .email(realUser.getPersonal().getEmail())
+        .preferredContactTypeId(realUser.getPersonal().getPreferredContactTypeId())
+      );
     }
+
+    shadowUser.setCustomFields(Map.of(ORIGINAL_TENANT_ID_REF_ID, tenantId));
+    return shadowUser;
   }
 }
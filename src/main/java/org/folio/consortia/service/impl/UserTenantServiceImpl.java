@@ -4,38 +4,58 @@ import static org.folio.consortia.exception.UserAffiliationException.AFFILIATION
 import static org.folio.consortia.exception.UserAffiliationException.USER_HAS_PRIMARY_AFFILIATION_WITH_TENANT;
 import static org.folio.consortia.utils.TenantContextUtils.prepareContextForTenant;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections4.CollectionUtils;
 import org.folio.consortia.config.FolioExecutionContextHelper;
 import org.folio.consortia.domain.dto.PermissionUser;
+import org.folio.consortia.domain.dto.TotalRecordsMode;
 import org.folio.consortia.domain.dto.User;
 import org.folio.consortia.domain.dto.UserTenant;
+import org.folio.consortia.domain.dto.UserTenantBatchItemResult;
+import org.folio.consortia.domain.dto.UserTenantBatchItemResult.StatusEnum;
+import org.folio.consortia.domain.dto.UserTenantBatchResult;
 import org.folio.consortia.domain.dto.UserTenantCollection;
 import org.folio.consortia.domain.entity.TenantEntity;
 import org.folio.consortia.domain.entity.UserTenantEntity;
+import org.folio.consortia.domain.projection.UserTenantProjection;
 import org.folio.consortia.exception.ResourceNotFoundException;
 import org.folio.consortia.exception.UserAffiliationException;
+import org.folio.consortia.repository.TenantRepository;
 import org.folio.consortia.repository.UserTenantRepository;
 import org.folio.consortia.service.ConsortiumService;
 import org.folio.consortia.service.PermissionUserService;
 import org.folio.consortia.service.TenantService;
 import org.folio.consortia.service.UserService;
 import org.folio.consortia.service.UserTenantService;
+import org.folio.consortia.utils.KeysetPage;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.FolioModuleMetadata;
 import org.folio.spring.data.OffsetRequest;
 import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import feign.FeignException;
+
 /**
  * Implementation of {@link UserTenantService}.
  * <p>
@@ -49,10 +69,14 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class UserTenantServiceImpl implements UserTenantService {
   private static final String NOT_FOUND_PRIMARY_AFFILIATION_MSG = "User with %s [%s] doesn't have primary affiliation";
+  private static final String DUPLICATE_BATCH_ITEM_MSG = "Affiliation of user [%s] with tenant [%s] is requested more than once in the batch";
   private static final String USER_ID = "userId";
   private static final String TENANT_ID = "tenantId";
   private static final Boolean IS_PRIMARY_TRUE = true;
   private static final Boolean IS_PRIMARY_FALSE = false;
+  private static final String ESTIMATE_USER_TENANTS_SQL =
+    "SELECT 1 FROM user_tenant ut JOIN tenant t ON t.id = ut.tenant_id WHERE t.is_deleted = FALSE";
+  private static final String ESTIMATE_USER_TENANTS_BY_USER_ID_SQL = ESTIMATE_USER_TENANTS_SQL + " AND ut.user_id = ?";
   private final UserTenantRepository userTenantRepository;
   private final FolioExecutionContext folioExecutionContext;
   private final ConversionService converter;
@@ -61,15 +85,30 @@ public class UserTenantServiceImpl implements UserTenantService {
   private final FolioModuleMetadata folioModuleMetadata;
   private final PermissionUserService permissionUserService;
   private final TenantService tenantService;
+  private final TenantRepository tenantRepository;
   private final FolioExecutionContextHelper contextHelper;
+  private final TenantFanOutExecutor tenantFanOutExecutor;
+  private final UserTenantsCache userTenantsCache;
+  private final TotalRecordsCounter totalRecordsCounter;
+  private final PrimaryAffiliationIndex primaryAffiliationIndex;
+
+  @Value("${folio.timer.shadow-users-cleanup-batch-size:50}")
+  private int shadowUsersCleanupBatchSize;
 
   @Override
-  public UserTenantCollection get(UUID consortiumId, Integer offset, Integer limit) {
+  public UserTenantCollection get(UUID consortiumId, Integer offset, Integer limit, TotalRecordsMode totalRecordsMode) {
     consortiumService.checkConsortiumExistsOrThrow(consortiumId);
     var result = new UserTenantCollection();
-    Page<UserTenantEntity> userTenantPage = userTenantRepository.getAll(OffsetRequest.of(offset, limit));
-    result.setUserTenants(userTenantPage.map(o -> converter.convert(o, UserTenant.class)).getContent());
-    result.setTotalRecords((int) userTenantPage.getTotalElements());
+    if (totalRecordsMode == TotalRecordsMode.EXACT) {
+      Page<UserTenantProjection> userTenantPage = userTenantRepository.getAll(OffsetRequest.of(offset, limit));
+      result.setUserTenants(userTenantPage.map(o -> converter.convert(o, UserTenant.class)).getContent());
+      result.setTotalRecords((int) userTenantPage.getTotalElements());
+      return result;
+    }
+    Slice<UserTenantProjection> userTenantSlice = userTenantRepository.getAllSlice(OffsetRequest.of(offset, limit));
+    result.setUserTenants(userTenantSlice.map(o -> converter.convert(o, UserTenant.class)).getContent());
+    result.setTotalRecords(totalRecordsCounter.count(totalRecordsMode, userTenantSlice, userTenantRepository::countAll,
+      ESTIMATE_USER_TENANTS_SQL));
     return result;
   }
 
@@ -85,9 +124,9 @@ public class UserTenantServiceImpl implements UserTenantService {
   public UserTenantCollection getByUsernameAndTenantId(UUID consortiumId, String username, String tenantId) {
     consortiumService.checkConsortiumExistsOrThrow(consortiumId);
     var result = new UserTenantCollection();
-    UserTenantEntity userTenantEntity = userTenantRepository.findByUsernameAndTenantId(username, tenantId)
+    UserTenantProjection userTenantProjection = userTenantRepository.findByUsernameAndTenantId(username, tenantId)
       .orElseThrow(() -> new ResourceNotFoundException("username", username));
-    UserTenant userTenant = converter.convert(userTenantEntity, UserTenant.class);
+    UserTenant userTenant = converter.convert(userTenantProjection, UserTenant.class);
 
     result.setUserTenants(List.of(userTenant));
     result.setTotalRecords(1);
@@ -95,20 +134,68 @@ public class UserTenantServiceImpl implements UserTenantService {
   }
 
   @Override
-  public UserTenantCollection getByUserId(UUID consortiumId, UUID userId, Integer offset, Integer limit) {
+  public UserTenantCollection getByUserId(UUID consortiumId, UUID userId, Integer offset, Integer limit,
+                                          TotalRecordsMode totalRecordsMode) {
     consortiumService.checkConsortiumExistsOrThrow(consortiumId);
     var result = new UserTenantCollection();
-    Page<UserTenantEntity> userTenantPage = userTenantRepository.findByUserId(userId, OffsetRequest.of(offset, limit));
+    Slice<UserTenantProjection> userTenantSlice = totalRecordsMode == TotalRecordsMode.EXACT
+      ? userTenantRepository.findByUserId(userId, OffsetRequest.of(offset, limit))
+      : userTenantRepository.findSliceByUserId(userId, OffsetRequest.of(offset, limit));
 
-    if (userTenantPage.getContent().isEmpty()) {
+    if (userTenantSlice.getContent().isEmpty()) {
       throw new ResourceNotFoundException(USER_ID, String.valueOf(userId));
     }
 
-    result.setUserTenants(userTenantPage.stream().map(o -> converter.convert(o, UserTenant.class)).toList());
-    result.setTotalRecords((int) userTenantPage.getTotalElements());
+    result.setUserTenants(userTenantSlice.stream().map(o -> converter.convert(o, UserTenant.class)).toList());
+    if (userTenantSlice instanceof Page<UserTenantProjection> userTenantPage) {
+      result.setTotalRecords((int) userTenantPage.getTotalElements());
+    } else {
+      result.setTotalRecords(totalRecordsCounter.count(totalRecordsMode, userTenantSlice,
+        () -> userTenantRepository.countByUserId(userId), ESTIMATE_USER_TENANTS_BY_USER_ID_SQL, userId));
+    }
     return result;
   }
 
+  @Override
+  public UserTenantCollection getByCursor(UUID consortiumId, String cursor, Integer limit,
+                                          TotalRecordsMode totalRecordsMode) {
+    consortiumService.checkConsortiumExistsOrThrow(consortiumId);
+    var page = KeysetPage.fetch(cursor, limit, userTenant -> userTenant.id().toString(),
+      userTenantRepository::getFirstKeysetPage,
+      (id, pageable) -> userTenantRepository.getKeysetPageAfterId(UUID.fromString(id), pageable));
+    var result = new UserTenantCollection();
+    result.setUserTenants(page.content().stream().map(o -> converter.convert(o, UserTenant.class)).toList());
+    result.setNextCursor(page.nextCursor());
+    result.setTotalRecords(totalRecordsCounter.count(totalRecordsMode, userTenantRepository::countAll,
+      ESTIMATE_USER_TENANTS_SQL));
+    return result;
+  }
+
+  @Override
+  public UserTenantCollection getByUserIdAndCursor(UUID consortiumId, UUID userId, String cursor, Integer limit,
+                                                   TotalRecordsMode totalRecordsMode) {
+    consortiumService.checkConsortiumExistsOrThrow(consortiumId);
+    var page = KeysetPage.fetch(cursor, limit, UserTenantProjection::tenantId,
+      pageable -> userTenantRepository.findFirstKeysetPageByUserId(userId, pageable),
+      (tenantId, pageable) -> userTenantRepository.findKeysetPageByUserIdAfterTenantId(userId, tenantId, pageable));
+
+    if (page.content().isEmpty() && KeysetPage.FIRST_PAGE_CURSOR.equals(cursor)) {
+      throw new ResourceNotFoundException(USER_ID, String.valueOf(userId));
+    }
+
+    var result = new UserTenantCollection();
+    result.setUserTenants(page.content().stream().map(o -> converter.convert(o, UserTenant.class)).toList());
+    result.setNextCursor(page.nextCursor());
+    result.setTotalRecords(totalRecordsCounter.count(totalRecordsMode, () -> userTenantRepository.countByUserId(userId),
+      ESTIMATE_USER_TENANTS_BY_USER_ID_SQL, userId));
+    return result;
+  }
+
+  @Override
+  public UserTenantCollection getAllByUserId(UUID consortiumId, UUID userId) {
+    return userTenantsCache.get(consortiumId, userId, () -> getByUserId(consortiumId, userId, 0, Integer.MAX_VALUE, TotalRecordsMode.EXACT));
+  }
+
   @Override
   @Transactional
   public UserTenant save(UUID consortiumId, UserTenant userTenantDto, boolean isSystemUserContextRequired) {
@@ -130,11 +217,171 @@ public class UserTenantServiceImpl implements UserTenantService {
 
     UserTenantEntity userTenantEntity = toEntity(userTenantDto, consortiumId, shadowUser);
     userTenantRepository.save(userTenantEntity);
+    userTenantsCache.evict(userTenantDto.getUserId());
     log.info("User affiliation added and user created or activated for user id: {} in the tenant: {}", userTenantDto.getUserId(), userTenantDto.getTenantId());
 
     return converter.convert(userTenantEntity, UserTenant.class);
 }
 
+  @Override
+  public UserTenantBatchResult saveBatch(UUID consortiumId, List<UserTenant> userTenantDtos) {
+    log.debug("saveBatch:: Going to save {} user affiliations", userTenantDtos.size());
+    consortiumService.checkConsortiumExistsOrThrow(consortiumId);
+
+    List<BatchItem> items = userTenantDtos.stream().map(BatchItem::new).toList();
+    List<BatchItem> pendingItems = resolveAffiliations(consortiumId, items);
+    prepareShadowUsers(pendingItems);
+    createShadowUsers(pendingItems.stream().filter(item -> item.shadowUser != null).toList());
+    insertAffiliations(consortiumId, pendingItems.stream().filter(item -> item.shadowUserCreated).toList());
+
+    var results = items.stream().map(item -> item.result).toList();
+    log.info("saveBatch:: Processed {} user affiliations, failed: {}", results.size(),
+      results.stream().filter(result -> result.getStatus() == StatusEnum.FAILED).count());
+    return new UserTenantBatchResult().results(results).totalRecords(results.size());
+  }
+
+  /**
+   * Resolves primary and existing affiliations of all users of the batch in a single query.
+   *
+   * @return items which affiliations should be created
+   */
+  private List<BatchItem> resolveAffiliations(UUID consortiumId, List<BatchItem> items) {
+    var userIds = items.stream().map(item -> item.dto.getUserId()).collect(Collectors.toSet());
+    Map<UUID, List<UserTenantEntity>> affiliationsByUser = userTenantRepository.findAnyByUserIds(userIds).stream()
+      .collect(Collectors.groupingBy(UserTenantEntity::getUserId));
+    Map<String, TenantEntity> tenants = tenantRepository.findByConsortiumId(consortiumId).stream()
+      .collect(Collectors.toMap(TenantEntity::getId, Function.identity()));
+
+    var pendingItems = new ArrayList<BatchItem>();
+    var requestedAffiliations = new HashSet<String>();
+    for (var item : items) {
+      var userId = item.dto.getUserId();
+      var tenantId = item.dto.getTenantId();
+      var affiliations = affiliationsByUser.getOrDefault(userId, List.of());
+      var primaryAffiliation = affiliations.stream().filter(affiliation -> Boolean.TRUE.equals(affiliation.getIsPrimary())).findFirst();
+      var existingAffiliation = affiliations.stream().filter(affiliation -> affiliation.getTenant().getId().equals(tenantId)).findFirst();
+      if (primaryAffiliation.isEmpty()) {
+        item.fail(String.format(NOT_FOUND_PRIMARY_AFFILIATION_MSG, USER_ID, userId));
+      } else if (!tenants.containsKey(tenantId)) {
+        item.fail(String.format(ResourceNotFoundException.NOT_FOUND_MSG_TEMPLATE, TENANT_ID, tenantId));
+      } else if (existingAffiliation.isPresent()) {
+        item.result.status(StatusEnum.EXISTS).userTenant(converter.convert(existingAffiliation.get(), UserTenant.class));
+      } else if (!requestedAffiliations.add(userId + ":" + tenantId)) {
+        item.fail(String.format(DUPLICATE_BATCH_ITEM_MSG, userId, tenantId));
+      } else {
+        item.homeTenantId = primaryAffiliation.get().getTenant().getId();
+        item.tenant = tenants.get(tenantId);
+        pendingItems.add(item);
+      }
+    }
+    return pendingItems;
+  }
+
+  /**
+   * Fetches real users from their home tenants in bulk, home tenants are queried concurrently.
+   */
+  private void prepareShadowUsers(List<BatchItem> items) {
+    Map<String, Set<UUID>> userIdsByHomeTenant = items.stream()
+      .collect(Collectors.groupingBy(item -> item.homeTenantId, LinkedHashMap::new,
+        Collectors.mapping(item -> item.dto.getUserId(), Collectors.toSet())));
+    Map<UUID, User> shadowUsers = new ConcurrentHashMap<>();
+    var result = tenantFanOutExecutor.runInEachTenant(userIdsByHomeTenant.keySet(),
+      homeTenantId -> shadowUsers.putAll(userService.prepareShadowUsers(userIdsByHomeTenant.get(homeTenantId), homeTenantId)));
+
+    for (var item : items) {
+      item.shadowUser = shadowUsers.get(item.dto.getUserId());
+      if (item.shadowUser == null) {
+        var failure = result.failures().get(item.homeTenantId);
+        item.fail(failure != null ? failure.getMessage() : String.format(ResourceNotFoundException.NOT_FOUND_MSG_TEMPLATE, USER_ID, item.dto.getUserId()));
+      }
+    }
+  }
+
+  /**
+   * Creates or activates shadow users, affiliated tenants are processed concurrently.
+   */
+  private void createShadowUsers(List<BatchItem> items) {
+    Map<String, List<BatchItem>> itemsByTenant = items.stream()
+      .collect(Collectors.groupingBy(item -> item.dto.getTenantId(), LinkedHashMap::new, Collectors.toList()));
+    var result = tenantFanOutExecutor.runInEachTenant(itemsByTenant.keySet(), tenantId ->
+      itemsByTenant.get(tenantId).forEach(item -> {
+        try {
+          createOrUpdateShadowUser(item.dto.getUserId(), item.shadowUser, item.dto);
+          item.shadowUserCreated = true;
+        } catch (RuntimeException e) {
+          log.error("createShadowUsers:: Failed to create shadow user: {} in tenant : {}", item.dto.getUserId(), tenantId, e);
+          item.fail(e.getMessage());
+        }
+      }));
+    result.failures().forEach((tenantId, e) -> {
+      log.error("createShadowUsers:: Failed to create shadow users in tenant : {}", tenantId, e);
+      itemsByTenant.get(tenantId).stream().filter(item -> !item.shadowUserCreated).forEach(item -> item.fail(e.getMessage()));
+    });
+  }
+
+  /**
+   * Inserts affiliations of the items with a single batch. When the batch fails, affiliations are saved one by one and
+   * shadow users of affiliations which could not be saved are deactivated again.
+   */
+  private void insertAffiliations(UUID consortiumId, List<BatchItem> items) {
+    if (items.isEmpty()) {
+      return;
+    }
+    var entities = items.stream().map(item -> {
+      var entity = toEntity(item.dto, consortiumId, item.shadowUser);
+      entity.setTenant(item.tenant);
+      return entity;
+    }).toList();
+    try {
+      userTenantRepository.saveAll(entities);
+    } catch (RuntimeException e) {
+      log.warn("insertAffiliations:: Failed to save {} user affiliations at once, saving them one by one", entities.size(), e);
+      for (int i = 0; i < items.size(); i++) {
+        try {
+          userTenantRepository.save(entities.get(i));
+        } catch (RuntimeException itemException) {
+          log.error("insertAffiliations:: Failed to save affiliation of user: {} with tenant: {}",
+            items.get(i).dto.getUserId(), items.get(i).dto.getTenantId(), itemException);
+          items.get(i).fail(itemException.getMessage());
+        }
+      }
+    }
+    userTenantsCache.evictAll(entities.stream().map(UserTenantEntity::getUserId).collect(Collectors.toSet()));
+
+    var failedItems = new ArrayList<BatchItem>();
+    for (int i = 0; i < items.size(); i++) {
+      var item = items.get(i);
+      if (item.result.getStatus() == StatusEnum.FAILED) {
+        failedItems.add(item);
+      } else {
+        item.result.status(StatusEnum.CREATED).userTenant(converter.convert(entities.get(i), UserTenant.class));
+      }
+    }
+    deactivateShadowUsers(failedItems);
+    log.info("insertAffiliations:: User affiliations added and users created or activated for {} users", items.size() - failedItems.size());
+  }
+
+  /**
+   * Deactivates shadow users which were left without affiliation, affiliated tenants are processed concurrently.
+   */
+  private void deactivateShadowUsers(List<BatchItem> items) {
+    if (items.isEmpty()) {
+      return;
+    }
+    Map<String, List<BatchItem>> itemsByTenant = items.stream()
+      .collect(Collectors.groupingBy(item -> item.dto.getTenantId(), LinkedHashMap::new, Collectors.toList()));
+    var result = tenantFanOutExecutor.runInEachTenant(itemsByTenant.keySet(), tenantId ->
+      itemsByTenant.get(tenantId).forEach(item -> {
+        try {
+          deactivateUser(userService.getById(item.dto.getUserId()));
+        } catch (RuntimeException e) {
+          log.error("deactivateShadowUsers:: Failed to deactivate shadow user: {} in tenant : {}", item.dto.getUserId(), tenantId, e);
+        }
+      }));
+    result.failures().forEach((tenantId, e) ->
+      log.error("deactivateShadowUsers:: Failed to deactivate shadow users in tenant : {}", tenantId, e));
+  }
+
   @Override
   @Transactional
   public UserTenant createPrimaryUserTenantAffiliation(UUID consortiumId, TenantEntity consortiaTenant, String userId, String username) {
@@ -147,6 +394,8 @@ public class UserTenantServiceImpl implements UserTenantService {
     userTenantEntity.setIsPrimary(IS_PRIMARY_TRUE);
 
     var createdRecord = userTenantRepository.save(userTenantEntity);
+    userTenantsCache.evict(userTenantEntity.getUserId());
+    primaryAffiliationIndex.add(userTenantEntity.getUserId());
     var userTenant = converter.convert(createdRecord, UserTenant.class);
     log.info("createPrimaryUserTenantAffiliation:: Successfully created primary affiliation for tenant/user {}/{}", consortiaTenant.getId(), userId);
     return userTenant;
@@ -155,6 +404,7 @@ public class UserTenantServiceImpl implements UserTenantService {
   @Override
   public void updateUsernameInPrimaryUserTenantAffiliation(UUID userId, String username, String tenantId) {
     userTenantRepository.setUsernameByUserIdAndTenantId(username, userId, tenantId);
+    userTenantsCache.evict(userId);
   }
 
   @Override
@@ -185,6 +435,7 @@ public class UserTenantServiceImpl implements UserTenantService {
     }
 
     userTenantRepository.deleteByUserIdAndTenantId(userId, tenantId);
+    userTenantsCache.evict(userId);
 
     try (var ignored = new FolioExecutionContextSetter(prepareContextForTenant(tenantId, folioModuleMetadata, folioExecutionContext))) {
       User user = userService.getById(userId);
@@ -196,6 +447,10 @@ public class UserTenantServiceImpl implements UserTenantService {
   @Override
   public boolean checkUserIfHasPrimaryAffiliationByUserId(UUID consortiumId, String userId) {
     consortiumService.checkConsortiumExistsOrThrow(consortiumId);
+    // most user events are for users without a primary affiliation, they are answered without querying user_tenant
+    if (!primaryAffiliationIndex.mightContain(UUID.fromString(userId))) {
+      return false;
+    }
     Optional<UserTenantEntity> optionalUserTenant = userTenantRepository
       .findByUserIdAndIsPrimaryTrue(UUID.fromString(userId));
     return optionalUserTenant.isPresent();
@@ -204,7 +459,9 @@ public class UserTenantServiceImpl implements UserTenantService {
   @Override
   @Transactional
   public boolean deletePrimaryUserTenantAffiliation(UUID userId) {
-    return userTenantRepository.deleteByUserIdAndIsPrimaryTrue(userId) == 1;
+    boolean isDeleted = userTenantRepository.deleteByUserIdAndIsPrimaryTrue(userId) == 1;
+    userTenantsCache.evict(userId);
+    return isDeleted;
   }
 
   @Override
@@ -221,15 +478,16 @@ public class UserTenantServiceImpl implements UserTenantService {
         tenantIds = userTenantEntities.stream().map(userTenantEntity -> userTenantEntity.getTenant().getId()).toList();
       }
       log.info("Updating shadow users in all tenants exist in consortia for the user: {}", userId);
-      tenantIds.forEach(tenantId -> {
-        try (var ignored = new FolioExecutionContextSetter(prepareContextForTenant(tenantId, folioModuleMetadata, folioExecutionContext))) {
-          User shadowUser = userService.getById(userId);
-          shadowUser.getPersonal().setFirstName(firstName);
-          shadowUser.getPersonal().setLastName(lastName);
-          userService.updateUser(shadowUser);
-          log.info("Updated shadow user: {} in tenant : {}", userId, tenantId);
-        }
+      var result = tenantFanOutExecutor.runInEachTenant(tenantIds, tenantId -> {
+        User shadowUser = userService.getById(userId);
+        shadowUser.getPersonal().setFirstName(firstName);
+        shadowUser.getPersonal().setLastName(lastName);
+        userService.updateUser(shadowUser);
+        log.info("Updated shadow user: {} in tenant : {}", userId, tenantId);
       });
+      result.failures().forEach((tenantId, e) ->
+        log.error("Failed to update shadow user: {} in tenant : {}", userId, tenantId, e));
+      result.throwIfFailed("Update of shadow user " + userId);
     }
   }
 
@@ -256,6 +514,24 @@ public class UserTenantServiceImpl implements UserTenantService {
     }
   }
 
+  private static class BatchItem {
+    private final UserTenant dto;
+    private final UserTenantBatchItemResult result;
+    private String homeTenantId;
+    private TenantEntity tenant;
+    private User shadowUser;
+    private boolean shadowUserCreated;
+
+    private BatchItem(UserTenant dto) {
+      this.dto = dto;
+      this.result = new UserTenantBatchItemResult().userId(dto.getUserId()).tenantId(dto.getTenantId());
+    }
+
+    private void fail(String errorMessage) {
+      result.status(StatusEnum.FAILED).errorMessage(errorMessage);
+    }
+  }
+
   private void createActiveUserWithPermissions(User user) {
     log.info("Creating permissionUser for userId {} with empty set of permissions", user.getId());
     if (permissionUserService.getByUserId(user.getId()).isEmpty()) {
@@ -289,21 +565,45 @@ public class UserTenantServiceImpl implements UserTenantService {
   public void deleteShadowUsers(UUID userId) {
     List<UserTenantEntity> userTenantEntities = userTenantRepository.getOrphansByUserIdAndIsPrimaryFalse(userId);
     if (CollectionUtils.isNotEmpty(userTenantEntities)) {
-      List<String> tenantIds = userTenantEntities.stream().map(userTenantEntity -> userTenantEntity.getTenant().getId()).toList();
+      List<String> tenantIds = userTenantEntities.stream().map(userTenantEntity -> userTenantEntity.getTenant().getId()).distinct().toList();
 
       log.info("Removing orphaned shadow users from all tenants exist in consortia for the user: {}", userId);
-      tenantIds.forEach(tenantId -> {
-        try (var ignored = new FolioExecutionContextSetter(prepareContextForTenant(tenantId, folioModuleMetadata, folioExecutionContext))) {
+      var result = tenantFanOutExecutor.runInEachTenant(tenantIds, tenantId -> {
+        try {
           userService.deleteById(userId.toString());
-          Optional<PermissionUser> permissionUser = permissionUserService.getByUserId(userId.toString());
-          log.info("Trying to delete permission user for userId={}", userId.toString());
-          permissionUser.ifPresent(ps -> permissionUserService.deletePermissionUser(ps.getId()));
-          log.info("Removed shadow user: {} from tenant : {}", userId, tenantId);
+        } catch (FeignException.NotFound e) {
+          log.info("Shadow user: {} was already removed from tenant : {}", userId, tenantId);
         }
+        Optional<PermissionUser> permissionUser = permissionUserService.getByUserId(userId.toString());
+        log.info("Trying to delete permission user for userId={}", userId.toString());
+        permissionUser.ifPresent(ps -> permissionUserService.deletePermissionUser(ps.getId()));
+        log.info("Removed shadow user: {} from tenant : {}", userId, tenantId);
       });
+      // affiliations with failed tenants are kept, so their shadow users are removed by the next cleanup
+      result.failures().forEach((tenantId, e) ->
+        log.error("Failed to remove shadow user: {} from tenant : {}, it will be retried by the cleanup", userId, tenantId, e));
+      if (!result.succeededTenants().isEmpty()) {
+        userTenantRepository.deleteOrphansByUserIdAndTenantIds(userId, result.succeededTenants());
+        userTenantsCache.evict(userId);
+      }
+    }
+  }
 
-      userTenantRepository.deleteOrphansByUserIdAndIsPrimaryFalse(userId);
+  @Override
+  public int deleteOrphanedShadowUsers() {
+    List<UUID> userIds = userTenantRepository.findOrphanedUserIds(PageRequest.of(0, shadowUsersCleanupBatchSize));
+    if (userIds.isEmpty()) {
+      log.debug("deleteOrphanedShadowUsers:: No orphaned shadow users found in tenant '{}'", folioExecutionContext.getTenantId());
+      return 0;
+    }
+    log.info("deleteOrphanedShadowUsers:: Retrying removal of orphaned shadow users of {} users in tenant '{}'",
+      userIds.size(), folioExecutionContext.getTenantId());
+    // the user who deleted the primary affiliation is not around anymore, so shadow users are removed on behalf of the system user,
+    // affiliations of each user are deleted in their own transaction, so no transaction is held while tenants are called
+    try (var ignored = new FolioExecutionContextSetter(contextHelper.getSystemUserFolioExecutionContext(folioExecutionContext.getTenantId()))) {
+      userIds.forEach(this::deleteShadowUsers);
     }
+    return userIds.size();
   }
 
   private UserTenantEntity toEntity(UserTenant userTenantDto, UUID consortiumId, User user) {
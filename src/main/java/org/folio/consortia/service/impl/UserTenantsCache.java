@@ -0,0 +1,116 @@
+package org.folio.consortia.service.impl;
+
+import static org.folio.consortia.config.CacheConfig.USER_TENANTS_CACHE;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.folio.consortia.domain.dto.UserTenantCollection;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Cache of all user tenant associations of a user, keyed by the tenant of the context and the user.
+ * <p>
+ * Entries are evicted by the write paths changing affiliations of a user and cleared when tenants change. An eviction
+ * inside a transaction is repeated after the commit, so a read racing with the transaction cannot keep the state
+ * before the commit in the cache. Every eviction advances the write generation, associations loaded while the
+ * generation changed are returned but not cached, so a slow read cannot put the state before an eviction back.
+ * Other instances of the module do not see the eviction, their entries expire after
+ * {@code folio.user-tenants-cache.ttl-ms}, which bounds how long changes made elsewhere are served stale.
+ */
+@Log4j2
+@Component
+public class UserTenantsCache {
+
+  private final FolioExecutionContext folioExecutionContext;
+  private final Cache cache;
+  private final AtomicLong writeGeneration = new AtomicLong();
+
+  public UserTenantsCache(FolioExecutionContext folioExecutionContext, CacheManager cacheManager) {
+    this.folioExecutionContext = folioExecutionContext;
+    this.cache = cacheManager.getCache(USER_TENANTS_CACHE);
+  }
+
+  /**
+   * @param consortiumId consortium the associations are requested for
+   * @param userId       user of the associations
+   * @param loader       loads the associations when they are not cached, should fail when the consortium does not exist
+   * @return all user tenant associations of the user
+   */
+  public UserTenantCollection get(UUID consortiumId, UUID userId, Supplier<UserTenantCollection> loader) {
+    var key = new Key(folioExecutionContext.getTenantId(), userId);
+    var cached = cache.get(key, CachedUserTenants.class);
+    // only a single consortium exists in the schema, associations requested for another one are loaded to fail
+    if (cached != null && cached.consortiumId().equals(consortiumId)) {
+      return cached.userTenants();
+    }
+    var generation = writeGeneration.get();
+    var userTenants = loader.get();
+    if (writeGeneration.get() == generation) {
+      cache.put(key, new CachedUserTenants(consortiumId, userTenants));
+    } else {
+      log.debug("get:: associations of user {} changed while they were loaded, not caching them", userId);
+    }
+    return userTenants;
+  }
+
+  /**
+   * Evicts associations of the user in the tenant of the context.
+   *
+   * @param userId user whose associations changed
+   */
+  public void evict(UUID userId) {
+    var key = new Key(folioExecutionContext.getTenantId(), userId);
+    runNowAndAfterCommit(() -> cache.evict(key));
+  }
+
+  /**
+   * Evicts associations of the users in the tenant of the context.
+   *
+   * @param userIds users whose associations changed
+   */
+  public void evictAll(Collection<UUID> userIds) {
+    var tenantId = folioExecutionContext.getTenantId();
+    var keys = userIds.stream().map(userId -> new Key(tenantId, userId)).toList();
+    runNowAndAfterCommit(() -> keys.forEach(cache::evict));
+  }
+
+  /**
+   * Clears associations of all users, used when a change of a tenant affects associations of many users.
+   */
+  public void clear() {
+    log.debug("clear:: clearing cached user tenant associations");
+    runNowAndAfterCommit(cache::clear);
+  }
+
+  private void runNowAndAfterCommit(Runnable eviction) {
+    Runnable evictionWithGeneration = () -> {
+      writeGeneration.incrementAndGet();
+      eviction.run();
+    };
+    evictionWithGeneration.run();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          evictionWithGeneration.run();
+        }
+      });
+    }
+  }
+
+  private record Key(String tenantId, UUID userId) {
+  }
+
+  private record CachedUserTenants(UUID consortiumId, UserTenantCollection userTenants) {
+  }
+}
@@ -74,7 +74,8 @@ public class ErrorHelper {
     PUBLICATION_ERROR,
     PERMISSION_REQUIRED,
     BAD_GATEWAY,
-    UNAUTHORIZED
+    UNAUTHORIZED,
+    TOO_MANY_REQUESTS
   }
 
 }
@@ -0,0 +1,62 @@
+package org.folio.consortia.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Page of records read by keyset pagination.
+ * <p>
+ * Records are sorted by a unique key and a page is read starting after the key of the last record of the previous
+ * page, so reading a page costs the same at any depth. The key is passed between pages as an opaque cursor.
+ *
+ * @param content    records of the page
+ * @param nextCursor cursor of the next page, {@code null} on the last page
+ */
+public record KeysetPage<T>(List<T> content, String nextCursor) {
+
+  public static final String FIRST_PAGE_CURSOR = "*";
+
+  /**
+   * @param cursor         {@link #FIRST_PAGE_CURSOR} or cursor of the next page returned with the previous page
+   * @param limit          maximum number of records of the page
+   * @param keyExtractor   returns the sort key of a record
+   * @param firstPageQuery reads the first records sorted by the key
+   * @param nextPageQuery  reads records sorted by the key, which key is greater than the given one
+   * @return page of records
+   */
+  public static <T> KeysetPage<T> fetch(String cursor, int limit, Function<T, String> keyExtractor,
+                                        Function<Pageable, List<T>> firstPageQuery,
+                                        BiFunction<String, Pageable, List<T>> nextPageQuery) {
+    // one more record is read to find out whether there is a next page without counting the records
+    var pageable = PageRequest.of(0, Math.min(limit, Integer.MAX_VALUE - 1) + 1);
+    var records = FIRST_PAGE_CURSOR.equals(cursor)
+      ? firstPageQuery.apply(pageable)
+      : nextPageQuery.apply(decode(cursor), pageable);
+    if (records.size() <= limit) {
+      return new KeysetPage<>(records, null);
+    }
+    if (limit == 0) {
+      return new KeysetPage<>(List.of(), cursor);
+    }
+    var content = records.subList(0, limit);
+    return new KeysetPage<>(content, encode(keyExtractor.apply(content.get(limit - 1))));
+  }
+
+  static String encode(String key) {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+  }
+
+  static String decode(String cursor) {
+    try {
+      return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+    }
+  }
+}
@@ -3,7 +3,6 @@ package org.folio.consortia.utils;
 import lombok.experimental.UtilityClass;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections4.MapUtils;
-import org.apache.commons.lang3.SerializationUtils;
 import org.folio.spring.DefaultFolioExecutionContext;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.FolioModuleMetadata;
@@ -37,6 +36,7 @@ public class TenantContextUtils {
 
   /**
    * This method change tenant(x-okapi-tenant: tenantId) of context to new tenant and return new context with tenantId.
+   * Headers of the new context are immutable and share all headers but the tenant with the current context.
    *
    * @param tenantId new tenantId
    * @param context current context
@@ -45,11 +45,10 @@ public class TenantContextUtils {
    */
   public static FolioExecutionContext prepareContextForTenant(String tenantId, FolioModuleMetadata folioModuleMetadata, FolioExecutionContext context) {
     if (MapUtils.isNotEmpty(context.getOkapiHeaders())) {
-      // create deep copy of headers in order to make switching context thread safe
-      var headersCopy = SerializationUtils.clone((HashMap<String, Collection<String>>) context.getAllHeaders());
-      headersCopy.put(XOkapiHeaders.TENANT, List.of(tenantId));
+      // immutable headers make switching context thread safe
+      var tenantHeaders = TenantHeaders.forTenant(context.getAllHeaders(), tenantId);
       log.info("FOLIO context initialized with tenant {}", tenantId);
-      return new DefaultFolioExecutionContext(folioModuleMetadata, headersCopy);
+      return new DefaultFolioExecutionContext(folioModuleMetadata, tenantHeaders);
     }
     throw new IllegalStateException("Okapi headers not provided");
   }
@@ -0,0 +1,87 @@
+package org.folio.consortia.utils;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.folio.spring.integration.XOkapiHeaders;
+
+/**
+ * Immutable headers of a FOLIO context switched to another tenant.
+ * <p>
+ * Headers of the original context are copied once into an immutable snapshot without {@code x-okapi-tenant}, and the
+ * tenant is kept next to it. Switching headers of this kind to another tenant shares the same snapshot, so a fan-out
+ * to many tenants copies the original headers only once. Since neither the snapshot nor the tenant can be changed,
+ * the headers can be used by any number of threads.
+ */
+final class TenantHeaders extends AbstractMap<String, Collection<String>> {
+
+  private final Map<String, Collection<String>> baseHeaders;
+  private final List<String> tenant;
+  private final Set<Entry<String, Collection<String>>> entrySet = new EntrySet();
+
+  private TenantHeaders(Map<String, Collection<String>> baseHeaders, String tenantId) {
+    this.baseHeaders = baseHeaders;
+    this.tenant = List.of(tenantId);
+  }
+
+  /**
+   * @param headers  headers of the original context
+   * @param tenantId tenant to switch the headers to
+   * @return headers of the original context with {@code x-okapi-tenant} replaced by the tenant
+   */
+  static TenantHeaders forTenant(Map<String, Collection<String>> headers, String tenantId) {
+    if (headers instanceof TenantHeaders tenantHeaders) {
+      return new TenantHeaders(tenantHeaders.baseHeaders, tenantId);
+    }
+    var snapshot = new HashMap<String, Collection<String>>(headers.size());
+    headers.forEach((name, values) -> {
+      if (!XOkapiHeaders.TENANT.equals(name)) {
+        snapshot.put(name, values == null ? null : Collections.unmodifiableList(new ArrayList<>(values)));
+      }
+    });
+    return new TenantHeaders(Collections.unmodifiableMap(snapshot), tenantId);
+  }
+
+  @Override
+  public Collection<String> get(Object name) {
+    return XOkapiHeaders.TENANT.equals(name) ? tenant : baseHeaders.get(name);
+  }
+
+  @Override
+  public boolean containsKey(Object name) {
+    return XOkapiHeaders.TENANT.equals(name) || baseHeaders.containsKey(name);
+  }
+
+  @Override
+  public int size() {
+    return baseHeaders.size() + 1;
+  }
+
+  @Override
+  public Set<Entry<String, Collection<String>>> entrySet() {
+    return entrySet;
+  }
+
+  private class EntrySet extends AbstractSet<Entry<String, Collection<String>>> {
+
+    @Override
+    public Iterator<Entry<String, Collection<String>>> iterator() {
+      return Stream.concat(baseHeaders.entrySet().stream(), Stream.of(Map.entry(XOkapiHeaders.TENANT, (Collection<String>) tenant)))
+        .iterator();
+    }
+
+    @Override
+    public int size() {
+      return TenantHeaders.this.size();
+    }
+  }
+}
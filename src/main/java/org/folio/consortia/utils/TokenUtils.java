@@ -2,18 +2,31 @@ package org.folio.consortia.utils;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
-import org.folio.consortia.domain.dto.Payload;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.DeserializationFeature;
 
-import java.util.Base64;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.io.IOException;
+import java.time.Duration;
 
 @Slf4j
 public class TokenUtils {
 
   private static final String UNDEFINED_USER_NAME = "UNDEFINED_USER__";
-  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
-    .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+  private static final int MAX_CACHED_TOKENS = 10_000;
+  // tokens without expiration and tokens expiring later are validated again after this time
+  private static final Duration MAX_CACHE_TIME = Duration.ofMinutes(5);
+  private static final long NO_EXPIRATION = Long.MAX_VALUE;
+
+  // results of validation keyed by the whole token, kept until the token expires
+  private static final Cache<String, TokenValidation> VALIDATED_TOKENS = Caffeine.newBuilder()
+    .maximumSize(MAX_CACHED_TOKENS)
+    .expireAfter(new TokenExpiry())
+    .build();
 
   private TokenUtils() {}
 
@@ -22,24 +35,135 @@ public class TokenUtils {
       return false;
     }
 
-    String[] tokenParts = token.split("\\.");
-
-    if (tokenParts.length != 3) {
+    int payloadStart = token.indexOf('.') + 1;
+    int signatureStart = payloadStart == 0 ? 0 : token.indexOf('.', payloadStart) + 1;
+    if (signatureStart == 0 || signatureStart == token.length() || token.indexOf('.', signatureStart) >= 0) {
       return false;
     }
 
-    String encodedPayload = tokenParts[1];
-    byte[] decodedJsonBytes = Base64.getDecoder().decode(encodedPayload);
-    String decodedJson = new String(decodedJsonBytes);
+    var cached = VALIDATED_TOKENS.getIfPresent(token);
+    if (cached != null) {
+      return cached.valid();
+    }
+    var validation = validate(token, payloadStart, signatureStart - 1);
+    if (!validation.cacheTime().isZero()) {
+      VALIDATED_TOKENS.put(token, validation);
+    }
+    return validation.valid();
+  }
 
+  private static TokenValidation validate(String token, int payloadStart, int payloadEnd) {
     try {
-      Payload payload = OBJECT_MAPPER.readValue(decodedJson, Payload.class);
-
-      return !payload.getSub().contains(UNDEFINED_USER_NAME);
+      var claims = parseClaims(decodeBase64(token, payloadStart, payloadEnd));
+      return new TokenValidation(claims.sub() != null && !claims.sub().contains(UNDEFINED_USER_NAME), claims.exp());
     } catch (Exception e) {
       log.error("Could not parse the token", e);
-      return false;
+      return new TokenValidation(false, NO_EXPIRATION);
+    }
+  }
+
+  /**
+   * Reads only {@code sub} and {@code exp} claims of the token payload, without binding the payload to an object.
+   */
+  static Claims parseClaims(byte[] payload) throws IOException {
+    String sub = null;
+    long exp = NO_EXPIRATION;
+    try (var parser = JSON_FACTORY.createParser(payload)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IOException("Token payload is not a JSON object");
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        var claim = parser.currentName();
+        var value = parser.nextToken();
+        if ("sub".equals(claim) && value == JsonToken.VALUE_STRING) {
+          sub = parser.getText();
+        } else if ("exp".equals(claim) && value == JsonToken.VALUE_NUMBER_INT) {
+          exp = parser.getLongValue();
+        } else {
+          parser.skipChildren();
+        }
+      }
+    }
+    return new Claims(sub, exp);
+  }
+
+  /**
+   * Decodes a part of the token, accepts both standard and URL-safe Base64 alphabets, padding is optional.
+   */
+  static byte[] decodeBase64(String token, int start, int end) {
+    while (end > start && token.charAt(end - 1) == '=') {
+      end--;
+    }
+    var length = end - start;
+    if (length % 4 == 1) {
+      throw new IllegalArgumentException("Invalid Base64 length of token part: " + length);
+    }
+    var decoded = new byte[length * 3 / 4];
+    int bits = 0;
+    int bitCount = 0;
+    int position = 0;
+    for (int i = start; i < end; i++) {
+      bits = (bits << 6) | decodeBase64Char(token.charAt(i));
+      bitCount += 6;
+      if (bitCount >= 8) {
+        bitCount -= 8;
+        decoded[position++] = (byte) (bits >> bitCount);
+      }
+    }
+    return decoded;
+  }
+
+  private static int decodeBase64Char(char c) {
+    if (c >= 'A' && c <= 'Z') {
+      return c - 'A';
+    }
+    if (c >= 'a' && c <= 'z') {
+      return c - 'a' + 26;
+    }
+    if (c >= '0' && c <= '9') {
+      return c - '0' + 52;
+    }
+    if (c == '+' || c == '-') {
+      return 62;
+    }
+    if (c == '/' || c == '_') {
+      return 63;
+    }
+    throw new IllegalArgumentException("Illegal Base64 character in token: " + c);
+  }
+
+  record Claims(String sub, long exp) {
+  }
+
+  private static class TokenExpiry implements Expiry<String, TokenValidation> {
+
+    @Override
+    public long expireAfterCreate(String token, TokenValidation validation, long currentTime) {
+      return validation.cacheTime().toNanos();
+    }
+
+    @Override
+    public long expireAfterUpdate(String token, TokenValidation validation, long currentTime, long currentDuration) {
+      return validation.cacheTime().toNanos();
+    }
+
+    @Override
+    public long expireAfterRead(String token, TokenValidation validation, long currentTime, long currentDuration) {
+      return currentDuration;
     }
   }
 
+  private record TokenValidation(boolean valid, long exp) {
+
+    private Duration cacheTime() {
+      if (exp == NO_EXPIRATION) {
+        return MAX_CACHE_TIME;
+      }
+      var untilExpiration = Duration.ofSeconds(exp).minusMillis(System.currentTimeMillis());
+      if (untilExpiration.isNegative()) {
+        return Duration.ZERO;
+      }
+      return untilExpiration.compareTo(MAX_CACHE_TIME) < 0 ? untilExpiration : MAX_CACHE_TIME;
+    }
+  }
 }
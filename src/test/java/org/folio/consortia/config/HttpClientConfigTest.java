@@ -0,0 +1,114 @@
+package org.folio.consortia.config;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.awaitility.Awaitility.await;
+import static org.folio.consortia.config.HttpClientConfig.REQUESTS_METRIC;
+import static org.folio.consortia.config.HttpClientConfig.TENANT_TAG;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.folio.spring.integration.XOkapiHeaders;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.cloud.openfeign.FeignAutoConfiguration;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+
+import feign.Client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+
+class HttpClientConfigTest {
+  private static final String TENANT = "university";
+
+  private final HttpClientConfig httpClientConfig = new HttpClientConfig();
+  private WireMockServer wireMockServer;
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void beforeEach() {
+    wireMockServer = new WireMockServer(wireMockConfig().dynamicPort());
+    wireMockServer.start();
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @AfterEach
+  void afterEach() {
+    wireMockServer.stop();
+  }
+
+  @Test
+  void shouldPublishRequestMetricsTaggedWithClientAndTenant() throws IOException {
+    wireMockServer.stubFor(get(urlEqualTo("/users/123")).willReturn(aResponse().withStatus(200).withBody("{}")));
+    var request = new Request.Builder().url(wireMockServer.baseUrl() + "/users/123").header(XOkapiHeaders.TENANT, TENANT).build();
+
+    try (var response = createClient(64, 1000).newCall(request).execute()) {
+      assertEquals("{}", response.body().string());
+    }
+    assertEquals(1, meterRegistry.get(REQUESTS_METRIC).tag("uri", "users").tag(TENANT_TAG, TENANT).timer().count());
+  }
+
+  @Test
+  void shouldFailRequestWhenAllConnectionsToHostAreBusy() {
+    wireMockServer.stubFor(get(urlEqualTo("/slow")).willReturn(aResponse().withStatus(200).withFixedDelay(1000)));
+    var client = createClient(1, 100);
+    var slowRequest = CompletableFuture.runAsync(() -> execute(client, "/slow"));
+    var limitInterceptor = (HostConcurrencyLimitInterceptor) client.interceptors().get(0);
+    await().atMost(5, TimeUnit.SECONDS).until(() -> limitInterceptor.availablePermits("localhost:" + wireMockServer.port()) == 0);
+
+    var call = client.newCall(new Request.Builder().url(wireMockServer.baseUrl() + "/slow").build());
+
+    assertThrows(InterruptedIOException.class, call::execute);
+    slowRequest.join();
+  }
+
+  @Test
+  void shouldShareClientWithFeign() {
+    new ApplicationContextRunner()
+      .withConfiguration(AutoConfigurations.of(FeignAutoConfiguration.class))
+      .withUserConfiguration(HttpClientConfig.class)
+      .withBean(MeterRegistry.class, () -> meterRegistry)
+      .withPropertyValues("spring.cloud.openfeign.okhttp.enabled=true")
+      .run(context -> {
+        var feignClient = context.getBean(Client.class);
+        assertInstanceOf(feign.okhttp.OkHttpClient.class, feignClient);
+        assertSame(context.getBean(OkHttpClient.class), ReflectionTestUtils.getField(feignClient, "delegate"));
+      });
+  }
+
+  @Test
+  void shouldNameClientByFirstPathSegment() {
+    assertEquals("inventory", HttpClientConfig.toClientName(new Request.Builder().url("http://okapi:9130/inventory/instances").build()));
+    assertEquals("root", HttpClientConfig.toClientName(new Request.Builder().url("http://okapi:9130/").build()));
+  }
+
+  private OkHttpClient createClient(int maxRequestsPerHost, long acquireTimeoutMs) {
+    var connectionPool = httpClientConfig.okHttpConnectionPool(5, 1000, meterRegistry);
+    return httpClientConfig.okHttpClient(connectionPool, meterRegistry, maxRequestsPerHost, acquireTimeoutMs, 1000, 5000, 10000);
+  }
+
+  private void execute(OkHttpClient client, String path) {
+    try (var response = client.newCall(new Request.Builder().url(wireMockServer.baseUrl() + path).build()).execute()) {
+      assertEquals(200, response.code());
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
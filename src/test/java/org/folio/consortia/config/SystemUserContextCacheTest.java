@@ -0,0 +1,138 @@
+package org.folio.consortia.config;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.context.ExecutionContextBuilder;
+import org.folio.spring.model.SystemUser;
+import org.folio.spring.model.UserToken;
+import org.folio.spring.service.SystemUserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class SystemUserContextCacheTest {
+  private static final String TENANT = "university";
+  private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+  @Mock
+  private SystemUserService systemUserService;
+  @Mock
+  private ExecutionContextBuilder contextBuilder;
+  @Mock
+  private Clock clock;
+  private SystemUserContextCache systemUserContextCache;
+  AutoCloseable mockitoMocks;
+
+  @BeforeEach
+  void beforeEach() {
+    mockitoMocks = MockitoAnnotations.openMocks(this);
+    when(contextBuilder.forSystemUser(any())).thenAnswer(invocation -> mock(FolioExecutionContext.class));
+    when(clock.instant()).thenReturn(NOW);
+  }
+
+  @AfterEach
+  void afterEach() throws Exception {
+    systemUserContextCache.shutdown();
+    mockitoMocks.close();
+  }
+
+  @Test
+  void shouldReuseContextWhileTokenIsValid() {
+    when(systemUserService.getAuthedSystemUser(TENANT)).thenReturn(systemUser(NOW.plusSeconds(600)));
+    systemUserContextCache = new SystemUserContextCache(systemUserService, contextBuilder, 60_000, 600_000, 60_000, clock);
+
+    var context = systemUserContextCache.get(TENANT);
+
+    assertSame(context, systemUserContextCache.get(TENANT));
+    verify(systemUserService).getAuthedSystemUser(TENANT);
+  }
+
+  @Test
+  void shouldLogInOnceForConcurrentRequests() {
+    var loginStarted = new CountDownLatch(1);
+    var loginReleased = new CountDownLatch(1);
+    when(systemUserService.getAuthedSystemUser(TENANT)).thenAnswer(invocation -> {
+      loginStarted.countDown();
+      loginReleased.await(5, TimeUnit.SECONDS);
+      return systemUser(NOW.plusSeconds(600));
+    });
+    systemUserContextCache = new SystemUserContextCache(systemUserService, contextBuilder, 60_000, 600_000, 60_000, clock);
+
+    var requests = IntStream.range(0, 10)
+      .mapToObj(i -> CompletableFuture.supplyAsync(() -> systemUserContextCache.get(TENANT)))
+      .toList();
+    await(loginStarted);
+    loginReleased.countDown();
+
+    var context = requests.get(0).join();
+    requests.forEach(request -> assertSame(context, request.join()));
+    verify(systemUserService).getAuthedSystemUser(TENANT);
+  }
+
+  @Test
+  void shouldRefreshTokenInBackgroundBeforeItExpires() {
+    when(systemUserService.getAuthedSystemUser(TENANT)).thenReturn(systemUser(NOW.plusSeconds(30)));
+    systemUserContextCache = new SystemUserContextCache(systemUserService, contextBuilder, 100, 600_000, 60_000, clock);
+    systemUserContextCache.get(TENANT);
+
+    // the token is about to expire, but the tenant was requested recently
+    when(clock.instant()).thenReturn(NOW.plusSeconds(26));
+
+    verify(systemUserService, timeout(1000).atLeast(2)).getAuthedSystemUser(TENANT);
+  }
+
+  @Test
+  void shouldNotRefreshTokenOfIdleTenant() {
+    when(systemUserService.getAuthedSystemUser(TENANT)).thenReturn(systemUser(NOW.plusSeconds(30)));
+    systemUserContextCache = new SystemUserContextCache(systemUserService, contextBuilder, 100, 600_000, 1000, clock);
+    systemUserContextCache.get(TENANT);
+
+    when(clock.instant()).thenReturn(NOW.plusSeconds(26));
+
+    verify(systemUserService, after(300).times(1)).getAuthedSystemUser(TENANT);
+  }
+
+  @Test
+  void shouldNotCacheFailedLogin() {
+    when(systemUserService.getAuthedSystemUser(TENANT))
+      .thenThrow(new IllegalStateException("login failed"))
+      .thenReturn(systemUser(NOW.plusSeconds(600)));
+    systemUserContextCache = new SystemUserContextCache(systemUserService, contextBuilder, 60_000, 600_000, 60_000, clock);
+
+    assertThrows(IllegalStateException.class, () -> systemUserContextCache.get(TENANT));
+    systemUserContextCache.get(TENANT);
+
+    verify(systemUserService, times(2)).getAuthedSystemUser(TENANT);
+  }
+
+  private static SystemUser systemUser(Instant tokenExpiration) {
+    var token = new UserToken("accessToken", tokenExpiration, "refreshToken", tokenExpiration.plusSeconds(3600));
+    return new SystemUser("consortia-system-user", "http://okapi:9130", TENANT, token, "userId");
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
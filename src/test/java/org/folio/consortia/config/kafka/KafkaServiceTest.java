@@ -0,0 +1,89 @@
+package org.folio.consortia.config.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.folio.consortia.config.kafka.KafkaService.Topic;
+import org.folio.consortia.config.kafka.properties.FolioKafkaProperties;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.integration.XOkapiHeaders;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.core.KafkaTemplate;
+
+class KafkaServiceTest {
+  private static final String TENANT = "university";
+  private static final UUID USER_ID = UUID.randomUUID();
+
+  @Mock
+  private KafkaAdmin kafkaAdmin;
+  @Mock
+  private BeanFactory beanFactory;
+  @Mock
+  private FolioExecutionContext folioExecutionContext;
+  @Mock
+  private KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+  @Mock
+  private FolioKafkaProperties folioKafkaProperties;
+  @Mock
+  private KafkaTemplate<String, Object> kafkaTemplate;
+  private KafkaService kafkaService;
+  AutoCloseable mockitoMocks;
+
+  @BeforeEach
+  void beforeEach() {
+    mockitoMocks = MockitoAnnotations.openMocks(this);
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT);
+    when(folioExecutionContext.getToken()).thenReturn("token");
+    when(folioExecutionContext.getOkapiUrl()).thenReturn("http://okapi:9130");
+    when(folioExecutionContext.getUserId()).thenReturn(USER_ID);
+    kafkaService = new KafkaService(kafkaAdmin, beanFactory, folioExecutionContext, kafkaListenerEndpointRegistry,
+      folioKafkaProperties, "folio", kafkaTemplate);
+  }
+
+  @AfterEach
+  void afterEach() throws Exception {
+    mockitoMocks.close();
+  }
+
+  @Test
+  void shouldSendRecordWithHeadersOfContext() {
+    kafkaService.send(Topic.USER_CREATED, "key", "data");
+
+    var captor = ArgumentCaptor.forClass(ProducerRecord.class);
+    verify(kafkaTemplate).send(captor.capture());
+    var headers = captor.getValue().headers();
+    assertEquals(4, headers.toArray().length);
+    assertArrayEquals(TENANT.getBytes(StandardCharsets.UTF_8), headers.lastHeader(XOkapiHeaders.TENANT).value());
+    assertArrayEquals("token".getBytes(StandardCharsets.UTF_8), headers.lastHeader(XOkapiHeaders.TOKEN).value());
+    assertArrayEquals("http://okapi:9130".getBytes(StandardCharsets.UTF_8), headers.lastHeader(XOkapiHeaders.URL).value());
+    assertArrayEquals(USER_ID.toString().getBytes(StandardCharsets.UTF_8), headers.lastHeader(XOkapiHeaders.USER_ID).value());
+  }
+
+  @Test
+  void shouldSendRecordWithoutUserIdHeaderIfContextHasNoUser() {
+    when(folioExecutionContext.getUserId()).thenReturn(null);
+
+    kafkaService.send(Topic.USER_CREATED, "key", "data");
+
+    var captor = ArgumentCaptor.forClass(ProducerRecord.class);
+    verify(kafkaTemplate).send(captor.capture());
+    var headers = captor.getValue().headers();
+    assertEquals(3, headers.toArray().length);
+    assertNull(headers.lastHeader(XOkapiHeaders.USER_ID));
+  }
+}
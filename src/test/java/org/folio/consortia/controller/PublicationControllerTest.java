@@ -10,8 +10,10 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -42,6 +44,7 @@ import org.folio.consortia.service.HttpRequestService;
 import org.folio.consortia.service.TenantService;
 import org.folio.consortia.service.UserTenantService;
 import org.folio.consortia.support.BaseIT;
+import org.folio.spring.data.OffsetRequest;
 import org.folio.spring.integration.XOkapiHeaders;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -107,7 +110,7 @@ public class PublicationControllerTest extends BaseIT {
     doNothing().when(tenantService).checkTenantsAndConsortiumExistsOrThrow(any(UUID.class), any());
     when(userTenantService.checkUserIfHasPrimaryAffiliationByUserId(any(UUID.class), any())).thenReturn(true);
     when(publicationStatusRepository.save(any())).thenReturn(publicationStatusEntity);
-    when(publicationTenantRequestRepository.save(any())).thenReturn(ptre);
+    when(publicationTenantRequestRepository.saveAll(any())).thenReturn(List.of(ptre));
 
     ResponseEntity<String> restTemplateResponse = new ResponseEntity<>(new ObjectMapper().writeValueAsString(ptre), HttpStatusCode.valueOf(responseCode));
     ArgumentCaptor<HttpEntity<Object>> entityCaptor = ArgumentCaptor.forClass(HttpEntity.class);
@@ -164,21 +167,50 @@ public class PublicationControllerTest extends BaseIT {
     doNothing().when(consortiumService).checkConsortiumExistsOrThrow(any(UUID.class));
     when(publicationStatusRepository.findById(publicationId)).thenReturn(Optional.of(publicationStatusEntity));
 
+    publicationStatusEntity.setCompletedCount(1);
+    publicationStatusEntity.setFailedCount(1);
     var tenantRequest1 = createPublicationTenantRequestEntity(publicationStatusEntity, TENANT, PublicationStatus.COMPLETE, 201);
     var tenantRequest2 = createPublicationTenantRequestEntity(publicationStatusEntity, TENANT, PublicationStatus.ERROR, 400);
-    List<PublicationTenantRequestEntity> ptrEntityMockResponse = List.of(tenantRequest1, tenantRequest2);
 
-    Page<PublicationTenantRequestEntity> ptrEntities  = new PageImpl<>(ptrEntityMockResponse);
-    when(publicationTenantRequestRepository.findByPcStateId(eq(publicationId), any())).thenReturn(ptrEntities);
+    when(publicationTenantRequestRepository.findByPcStateIdAndStatus(publicationId, PublicationStatus.ERROR)).thenReturn(List.of(tenantRequest2));
+    when(publicationTenantRequestRepository.findRequestPayloadsByPcStateId(eq(publicationId), any()))
+      .thenReturn(List.of(tenantRequest1.getRequestPayload()));
 
     this.mockMvc.perform(get(String.format(GET_PUBLICATION_BY_ID_URL, consortiumId, publicationId)).headers(headers))
       .andExpectAll(
         status().is2xxSuccessful(),
         jsonPath("$.status", is(PublicationStatus.ERROR.getValue())),
+        jsonPath("$.completedRecords", is(1)),
+        jsonPath("$.failedRecords", is(1)),
+        jsonPath("$.inProgressRecords", is(1)),
         jsonPath("$.errors", is(not(empty())))
       );
   }
 
+  @Test
+  void getPublicationWithoutFailuresSkipsErrorsQuery() throws Exception {
+    var headers = defaultHeaders();
+    var consortiumId = UUID.randomUUID();
+    var publicationId = UUID.randomUUID();
+
+    var publicationStatusEntity = getMockDataObject("mockdata/publications/publication_status_entity.json", PublicationStatusEntity.class);
+    publicationStatusEntity.setStatus(PublicationStatus.COMPLETE);
+    publicationStatusEntity.setCompletedCount(publicationStatusEntity.getTotalRecords());
+    publicationStatusEntity.setCreatedDate(LocalDateTime.now());
+
+    doNothing().when(consortiumService).checkConsortiumExistsOrThrow(any(UUID.class));
+    when(publicationStatusRepository.findById(publicationId)).thenReturn(Optional.of(publicationStatusEntity));
+
+    this.mockMvc.perform(get(String.format(GET_PUBLICATION_BY_ID_URL, consortiumId, publicationId)).headers(headers))
+      .andExpectAll(
+        status().is2xxSuccessful(),
+        jsonPath("$.status", is(PublicationStatus.COMPLETE.getValue())),
+        jsonPath("$.inProgressRecords", is(0)),
+        jsonPath("$.errors", is(empty()))
+      );
+    verify(publicationTenantRequestRepository, never()).findByPcStateIdAndStatus(any(), any());
+  }
+
   @Test
   void getPublicationResultsSuccessful() throws Exception {
     var headers = defaultHeaders();
@@ -207,6 +239,39 @@ public class PublicationControllerTest extends BaseIT {
       );
   }
 
+  @Test
+  void getPublicationResultsFilteredByStatus() throws Exception {
+    var headers = defaultHeaders();
+    var consortiumId = UUID.randomUUID();
+    var publicationId = UUID.randomUUID();
+
+    var publicationStatusEntity = getMockDataObject("mockdata/publications/publication_status_entity.json", PublicationStatusEntity.class);
+    publicationStatusEntity.setStatus(PublicationStatus.ERROR);
+    publicationStatusEntity.setCreatedDate(LocalDateTime.now());
+
+    doNothing().when(consortiumService).checkConsortiumExistsOrThrow(any(UUID.class));
+    when(publicationStatusRepository.findById(publicationId)).thenReturn(Optional.of(publicationStatusEntity));
+
+    var tenantRequest = createPublicationTenantRequestEntity(publicationStatusEntity, TENANT, PublicationStatus.ERROR, 400);
+    Page<PublicationTenantRequestEntity> ptrEntities = new PageImpl<>(List.of(tenantRequest), OffsetRequest.of(0, 1), 5);
+    when(publicationTenantRequestRepository.findByPcStateIdAndStatusIn(eq(publicationId), eq(List.of(PublicationStatus.ERROR)), any()))
+      .thenReturn(ptrEntities);
+
+    this.mockMvc.perform(get(String.format(GET_PUBLICATION_RESULTS_BY_ID_URL, consortiumId, publicationId))
+        .param("status", PublicationStatus.ERROR.getValue())
+        .param("offset", "0")
+        .param("limit", "1")
+        .headers(headers))
+      .andExpectAll(
+        status().is2xxSuccessful(),
+        jsonPath("$.publicationResults.length()", is(1)),
+        jsonPath("$.publicationResults[0].statusCode", is(400)),
+        jsonPath("$.totalRecords", is(5))
+      );
+    verify(publicationTenantRequestRepository).findByPcStateIdAndStatusIn(eq(publicationId), eq(List.of(PublicationStatus.ERROR)),
+      argThat(pageable -> pageable.getOffset() == 0 && pageable.getPageSize() == 1 && pageable.getSort().isSorted()));
+  }
+
   @Test
   void deletePublicationByIdSuccessful() throws Exception {
     var headers = defaultHeaders();
@@ -240,7 +305,7 @@ public class PublicationControllerTest extends BaseIT {
       .checkTenantsAndConsortiumExistsOrThrow(any(UUID.class), any());
     when(userTenantService.checkUserIfHasPrimaryAffiliationByUserId(any(UUID.class), any())).thenReturn(true);
     when(publicationStatusRepository.save(any())).thenReturn(publicationStatusEntity);
-    when(publicationTenantRequestRepository.save(any())).thenReturn(ptre);
+    when(publicationTenantRequestRepository.saveAll(any())).thenReturn(List.of(ptre));
 
     // prepare a list of different tenants for making publish coordinator tenant requests
     var listOfTenantNames = IntStream.rangeClosed(1, tenantsAmount)
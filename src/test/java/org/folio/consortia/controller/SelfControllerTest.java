@@ -42,7 +42,7 @@ public class SelfControllerTest extends BaseIT {
     var headers = defaultHeaders();
     UUID consortiumId = UUID.fromString(CONSORTIUM_ID);
     when(consortiumRepository.existsById(consortiumId)).thenReturn(true);
-    when(userTenantService.getByUserId(any(),any(),any(),any())).thenReturn(userTenantCollection);
+    when(userTenantService.getAllByUserId(any(),any())).thenReturn(userTenantCollection);
     this.mockMvc.perform(
       get("/consortia/7698e46-c3e3-11ed-afa1-0242ac120002/_self")
         .headers(headers)
@@ -61,7 +61,7 @@ public class SelfControllerTest extends BaseIT {
     var headers = defaultHeadersWithoutToken();
     UUID consortiumId = UUID.fromString(CONSORTIUM_ID);
     when(consortiumRepository.existsById(consortiumId)).thenReturn(true);
-    when(userTenantService.getByUserId(any(),any(),any(),any())).thenReturn(userTenantCollection);
+    when(userTenantService.getAllByUserId(any(),any())).thenReturn(userTenantCollection);
     this.mockMvc.perform(
       get("/consortia/7698e46-c3e3-11ed-afa1-0242ac120002/_self")
         .headers(headers))
@@ -26,9 +26,11 @@ import feign.Request;
 import feign.RequestTemplate;
 import feign.Response;
 import org.folio.consortia.client.UsersClient;
+import org.folio.consortia.domain.dto.TotalRecordsMode;
 import org.folio.consortia.domain.dto.UserTenant;
 import org.folio.consortia.domain.dto.UserTenantCollection;
 import org.folio.consortia.domain.entity.UserTenantEntity;
+import org.folio.consortia.domain.projection.UserTenantProjection;
 import org.folio.consortia.exception.ResourceNotFoundException;
 import org.folio.consortia.repository.ConsortiumRepository;
 import org.folio.consortia.repository.UserTenantRepository;
@@ -83,16 +85,16 @@ class UserTenantControllerTest extends BaseIT {
     userTenantCollection.setTotalRecords(userTenantDtos.size());
 
     when(consortiumRepository.existsById(consortiumId)).thenReturn(true);
-    when(userTenantService.getByUserId(UUID.fromString(CONSORTIUM_ID), userId, 0, 10)).thenReturn(userTenantCollection);
+    when(userTenantService.getByUserId(UUID.fromString(CONSORTIUM_ID), userId, 0, 10, TotalRecordsMode.EXACT)).thenReturn(userTenantCollection);
 
     // when
-    ResponseEntity<UserTenantCollection> response = userTenantController.getUserTenants(UUID.fromString(CONSORTIUM_ID), userId, null, null, 0, 10);
+    ResponseEntity<UserTenantCollection> response = userTenantController.getUserTenants(UUID.fromString(CONSORTIUM_ID), userId, null, null, 0, 10, null, null);
 
     // then
     Assertions.assertEquals(HttpStatus.OK, response.getStatusCode());
     Assertions.assertEquals(userTenantCollection, response.getBody());
 
-    verify(userTenantService).getByUserId(UUID.fromString(CONSORTIUM_ID), userId, 0, 10);
+    verify(userTenantService).getByUserId(UUID.fromString(CONSORTIUM_ID), userId, 0, 10, TotalRecordsMode.EXACT);
   }
 
   @Test
@@ -119,7 +121,8 @@ class UserTenantControllerTest extends BaseIT {
   void shouldGetUserTenantList() throws Exception {
     var headers = defaultHeaders();
     UUID consortiumId = UUID.fromString(CONSORTIUM_ID);
-    Page<UserTenantEntity> userTenantPage = new PageImpl<>(List.of(createUserTenantEntity(consortiumId)));
+    Page<UserTenantProjection> userTenantPage = new PageImpl<>(List.of(
+      new UserTenantProjection(UUID.randomUUID(), UUID.randomUUID(), "testuser", "diku", "diku", true)));
 
     when(consortiumRepository.existsById(consortiumId)).thenReturn(true);
     when(userTenantRepository.getAll(OffsetRequest.of(1, 2))).thenReturn(userTenantPage);
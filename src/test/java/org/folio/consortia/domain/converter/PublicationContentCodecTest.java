@@ -0,0 +1,56 @@
+package org.folio.consortia.domain.converter;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class PublicationContentCodecTest {
+  private static final String LARGE_RESPONSE = "{\"instances\":[" + "{\"id\":\"1\",\"title\":\"title\"},".repeat(1000) + "]}";
+
+  @Test
+  void shouldStoreSmallContentAsText() {
+    var codec = new PublicationContentCodec(1024, 0);
+
+    var encoded = codec.encode("{\"id\":\"1\"}");
+
+    assertArrayEquals("{\"id\":\"1\"}".getBytes(UTF_8), encoded);
+    assertEquals("{\"id\":\"1\"}", codec.decode(encoded));
+  }
+
+  @Test
+  void shouldCompressLargeContent() {
+    var codec = new PublicationContentCodec(1024, 0);
+
+    var encoded = codec.encode(LARGE_RESPONSE);
+
+    assertTrue(encoded.length < LARGE_RESPONSE.length() / 10);
+    assertEquals(LARGE_RESPONSE, codec.decode(encoded));
+  }
+
+  @Test
+  void shouldReadCompressedContentWhenCompressionIsOff() {
+    var encoded = new PublicationContentCodec(0, 0).encode(LARGE_RESPONSE);
+
+    assertEquals(LARGE_RESPONSE, new PublicationContentCodec(-1, 0).decode(encoded));
+  }
+
+  @Test
+  void shouldKeepNullContent() {
+    var codec = new PublicationContentCodec(0, 0);
+
+    assertNull(codec.encode(null));
+    assertNull(codec.decode(null));
+  }
+
+  @Test
+  void shouldTruncateLongResponse() {
+    var codec = new PublicationContentCodec(1024, 10);
+
+    assertEquals("0123456789" + PublicationContentCodec.TRUNCATED_SUFFIX, codec.truncateResponse("0123456789abc"));
+    assertEquals("0123456789", codec.truncateResponse("0123456789"));
+  }
+}
@@ -0,0 +1,144 @@
+package org.folio.consortia.service;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.delete;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpTimeoutException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.integration.XOkapiHeaders;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpMethod;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.github.tomakehurst.wiremock.WireMockServer;
+
+class AsyncHttpRequestServiceImplTest {
+  private static final String TENANT = "university";
+  private static final String URL = "/instances";
+
+  @Mock
+  private FolioExecutionContext folioExecutionContext;
+  private WireMockServer wireMockServer;
+  private AsyncHttpRequestServiceImpl httpRequestService;
+  AutoCloseable mockitoMocks;
+
+  @BeforeEach
+  public void beforeEach() {
+    mockitoMocks = MockitoAnnotations.openMocks(this);
+    wireMockServer = new WireMockServer(wireMockConfig().dynamicPort());
+    wireMockServer.start();
+
+    Map<String, Collection<String>> headers = new HashMap<>();
+    headers.put(XOkapiHeaders.TENANT, List.of(TENANT));
+    when(folioExecutionContext.getOkapiHeaders()).thenReturn(headers);
+    when(folioExecutionContext.getOkapiUrl()).thenReturn(wireMockServer.baseUrl());
+
+    httpRequestService = createHttpRequestService(true);
+  }
+
+  @AfterEach
+  public void afterEach() throws Exception {
+    wireMockServer.stop();
+    mockitoMocks.close();
+  }
+
+  @Test
+  void shouldSendRequestWithContextHeaders() {
+    wireMockServer.stubFor(post(URL)
+      .willReturn(aResponse().withStatus(201).withBody("{ \"id\": \"1\" }")));
+
+    var response = httpRequestService.performRequestAsync(URL, HttpMethod.POST, Map.of("id", "1")).join();
+
+    assertEquals(201, response.getStatusCode().value());
+    assertEquals("{\"id\":\"1\"}", response.getBody());
+    wireMockServer.verify(postRequestedFor(urlEqualTo(URL))
+      .withHeader(XOkapiHeaders.TENANT, equalTo(TENANT))
+      .withRequestBody(equalToJson("{ \"id\": \"1\" }")));
+  }
+
+  @Test
+  void shouldSendSerializedPayloadAsIs() {
+    wireMockServer.stubFor(post(URL)
+      .willReturn(aResponse().withStatus(201)));
+
+    httpRequestService.performRequestAsync(URL, HttpMethod.POST, new RawValue("{\"id\":\"1\"}")).join();
+
+    wireMockServer.verify(postRequestedFor(urlEqualTo(URL))
+      .withRequestBody(equalTo("{\"id\":\"1\"}")));
+  }
+
+  @Test
+  void shouldReturnErrorResponseAsIs() {
+    wireMockServer.stubFor(post(URL)
+      .willReturn(aResponse().withStatus(422).withBody("validation failed")));
+
+    var response = httpRequestService.performRequestAsync(URL, HttpMethod.POST, Map.of()).join();
+
+    assertEquals(422, response.getStatusCode().value());
+    assertEquals("validation failed", response.getBody());
+  }
+
+  @Test
+  void shouldSerializeDeleteResponseAsString() {
+    wireMockServer.stubFor(delete(URL + "/1")
+      .willReturn(aResponse().withStatus(204)));
+
+    var response = httpRequestService.performRequestAsync(URL + "/1", HttpMethod.DELETE, null).join();
+
+    assertEquals(204, response.getStatusCode().value());
+    assertEquals("null", response.getBody());
+  }
+
+  @Test
+  void shouldReturnResponseBodyAsReceivedWhenNotNormalized() {
+    httpRequestService = createHttpRequestService(false);
+    wireMockServer.stubFor(post(URL)
+      .willReturn(aResponse().withStatus(201).withBody("{ \"id\": \"1\" }")));
+    wireMockServer.stubFor(delete(URL + "/1")
+      .willReturn(aResponse().withStatus(204)));
+
+    var response = httpRequestService.performRequestAsync(URL, HttpMethod.POST, Map.of("id", "1")).join();
+    var deleteResponse = httpRequestService.performRequestAsync(URL + "/1", HttpMethod.DELETE, null).join();
+
+    assertEquals("{ \"id\": \"1\" }", response.getBody());
+    assertEquals(204, deleteResponse.getStatusCode().value());
+    assertNull(deleteResponse.getBody());
+  }
+
+  @Test
+  void shouldFailWhenResponseTimeoutExceeded() {
+    wireMockServer.stubFor(post(URL)
+      .willReturn(aResponse().withStatus(201).withFixedDelay(4000)));
+
+    var future = httpRequestService.performRequestAsync(URL, HttpMethod.POST, Map.of());
+
+    var exception = assertThrows(CompletionException.class, future::join);
+    assertEquals(HttpTimeoutException.class, exception.getCause().getClass());
+  }
+
+  private AsyncHttpRequestServiceImpl createHttpRequestService(boolean normalizeResponseBody) {
+    return new AsyncHttpRequestServiceImpl(HttpClient.newHttpClient(), folioExecutionContext, new ObjectMapper(), 2000, normalizeResponseBody);
+  }
+}
@@ -5,10 +5,11 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
+import java.nio.charset.StandardCharsets;
+
 import org.folio.consortia.support.BaseUnitTest;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.springframework.http.HttpEntity;
@@ -24,14 +25,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 class HttpRequestServiceImplTest extends BaseUnitTest {
 
-  @InjectMocks
-  HttpRequestServiceImpl httpRequestService;
   @Mock
   RestTemplate restTemplate;
   @Mock
   ObjectMapper objectMapper;
+
   @Test
   void performRequestSuccess() throws JsonProcessingException {
+    var httpRequestService = new HttpRequestServiceImpl(restTemplate, folioExecutionContext, objectMapper, true);
     String payload = RandomStringUtils.random(10);
 
     ResponseEntity<Object> restTemplateResponse = new ResponseEntity<>(payload, HttpStatusCode.valueOf(201));
@@ -49,4 +50,21 @@ class HttpRequestServiceImplTest extends BaseUnitTest {
     var response = httpRequestService.performRequest(RandomStringUtils.random(10), HttpMethod.POST, new Object());
     Assertions.assertEquals(payload, response.getBody());
   }
+
+  @Test
+  void performRequestReturnsRawResponseBody() {
+    var httpRequestService = new HttpRequestServiceImpl(restTemplate, folioExecutionContext, objectMapper, false);
+    var payload = "{ \"name\": \"caf\u00e9\" }";
+
+    var restTemplateResponse = new ResponseEntity<>(payload.getBytes(StandardCharsets.UTF_8), HttpStatusCode.valueOf(201));
+    when(folioExecutionContext.getOkapiHeaders()).thenReturn(defaultHeaders());
+    when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(byte[].class)))
+      .thenReturn(restTemplateResponse);
+
+    var response = httpRequestService.performRequest(RandomStringUtils.random(10), HttpMethod.POST, new Object());
+
+    Assertions.assertEquals(payload, response.getBody());
+    Assertions.assertEquals(201, response.getStatusCode().value());
+    Mockito.verifyNoInteractions(objectMapper);
+  }
 }
@@ -6,7 +6,6 @@ import static org.folio.consortia.utils.EntityUtils.createJsonNodeForDepartmentP
 import static org.folio.consortia.utils.EntityUtils.createJsonNodeForGroupPayload;
 import static org.folio.consortia.utils.EntityUtils.createPublicationDetails;
 import static org.folio.consortia.utils.EntityUtils.createPublicationRequestForSetting;
-import static org.folio.consortia.utils.EntityUtils.createPublicationResultCollection;
 import static org.folio.consortia.utils.EntityUtils.createSharingSettingResponse;
 import static org.folio.consortia.utils.EntityUtils.createSharingSettingResponseForDelete;
 import static org.folio.consortia.utils.EntityUtils.createTenant;
@@ -29,11 +28,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import org.folio.consortia.config.FolioExecutionContextHelper;
 import org.folio.consortia.domain.dto.PublicationRequest;
 import org.folio.consortia.domain.dto.PublicationResponse;
 import org.folio.consortia.domain.dto.PublicationStatus;
+import org.folio.consortia.domain.dto.PublicationStatusError;
 import org.folio.consortia.domain.dto.SharingSettingRequest;
 import org.folio.consortia.domain.dto.Tenant;
 import org.folio.consortia.domain.dto.TenantCollection;
@@ -49,7 +50,6 @@ import org.mockito.Mock;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.http.HttpMethod;
-import org.springframework.test.util.ReflectionTestUtils;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -156,6 +156,7 @@ class SharingSettingServiceTest {
     when(consortiumRepository.existsById(CONSORTIUM_ID)).thenReturn(true);
     when(sharingSettingRepository.existsBySettingId(settingId)).thenReturn(true);
     when(publicationService.publishRequest(CONSORTIUM_ID, expectedPublicationRequestDelete)).thenReturn(publicationResponse);
+    when(publicationService.getPublicationCompletion(CONSORTIUM_ID, pcId)).thenReturn(new CompletableFuture<>());
     when(tenantService.getAll(CONSORTIUM_ID)).thenReturn(tenantCollection);
     when(sharingSettingRepository.findTenantsBySettingId(sharingSettingRequest.getSettingId())).thenReturn(tenantAssociationsWithSetting);
     when(folioExecutionContext.getTenantId()).thenReturn("mobius");
@@ -167,6 +168,7 @@ class SharingSettingServiceTest {
     assertThat(actualResponse.getPcId()).isEqualTo(expectedResponse.getPcId());
 
     verify(publicationService, times(1)).publishRequest(any(), any());
+    verify(publicationService).getPublicationCompletion(CONSORTIUM_ID, pcId);
   }
 
   @Test
@@ -177,20 +179,15 @@ class SharingSettingServiceTest {
     var sharingSettingRequest = getMockDataObject(SHARING_SETTING_REQUEST_SAMPLE_FOR_GROUP, SharingSettingRequest.class);
     String centralTenant = "mobius";
     String localTenant = "school";
-    var publicationResultCollection = createPublicationResultCollection(centralTenant, localTenant);
-    var publicationDetails = createPublicationDetails(PublicationStatus.ERROR);
+    var publicationDetails = createPublicationDetails(PublicationStatus.ERROR)
+      .errors(List.of(new PublicationStatusError().tenantId(centralTenant).errorCode(400),
+        new PublicationStatusError().tenantId(localTenant).errorCode(401)));
     JsonNode node = createJsonNodeForGroupPayload();
     // expected data for publish request
     Set<String> expectedFailedTenantList = new HashSet<>(List.of(centralTenant, localTenant));
     var expectedPublicationRequest = createExceptedPublicationRequest(sharingSettingRequest, expectedFailedTenantList, HttpMethod.PUT);
 
-    // set time interval and maxTries for Thread sleep cycle
-    ReflectionTestUtils.setField(sharingSettingService, "maxTries", 60);
-    ReflectionTestUtils.setField(sharingSettingService, "interval", 200);
-
-    when(publicationService.checkPublicationDetailsExists(CONSORTIUM_ID, publicationId)).thenReturn(true);
     when(publicationService.getPublicationDetails(CONSORTIUM_ID, publicationId)).thenReturn(publicationDetails);
-    when(publicationService.getPublicationResults(CONSORTIUM_ID, publicationId)).thenReturn(publicationResultCollection);
     when(objectMapper.convertValue(any(), eq(JsonNode.class))).thenReturn(node);
     when(folioExecutionContext.getTenantId()).thenReturn("mobius");
     doReturn(folioExecutionContext).when(contextHelper).getSystemUserFolioExecutionContext(anyString());
@@ -202,7 +199,6 @@ class SharingSettingServiceTest {
     method.invoke(sharingSettingService, CONSORTIUM_ID, publicationId, sharingSettingRequest);
 
     verify(publicationService).getPublicationDetails(any(), any());
-    verify(publicationService).checkPublicationDetailsExists(CONSORTIUM_ID, publicationId);
     verify(publicationService).publishRequest(any(), any());
   }
 
@@ -44,6 +44,7 @@ import org.folio.consortia.domain.dto.PermissionUser;
 import org.folio.consortia.domain.dto.PermissionUserCollection;
 import org.folio.consortia.domain.dto.Tenant;
 import org.folio.consortia.domain.dto.TenantDetails;
+import org.folio.consortia.domain.dto.TotalRecordsMode;
 import org.folio.consortia.domain.dto.User;
 import org.folio.consortia.domain.dto.UserCollection;
 import org.folio.consortia.domain.entity.TenantDetailsEntity;
@@ -54,6 +55,8 @@ import org.folio.consortia.repository.TenantDetailsRepository;
 import org.folio.consortia.repository.TenantRepository;
 import org.folio.consortia.repository.UserTenantRepository;
 import org.folio.consortia.service.impl.TenantServiceImpl;
+import org.folio.consortia.service.impl.TotalRecordsCounter;
+import org.folio.consortia.service.impl.UserTenantsCache;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.FolioModuleMetadata;
 import org.folio.spring.data.OffsetRequest;
@@ -61,12 +64,14 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.batch.BatchAutoConfiguration;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 
 @SpringBootTest
 @EnableAutoConfiguration(exclude = BatchAutoConfiguration.class)
@@ -122,6 +127,10 @@ class TenantServiceTest {
   private FolioExecutionContextHelper contextHelper;
   @Mock
   private LockService lockService;
+  @Mock
+  private UserTenantsCache userTenantsCache;
+  @Spy
+  private TotalRecordsCounter totalRecordsCounter = new TotalRecordsCounter(null, null, 1000);
 
   @Test
   void shouldGetTenantList() {
@@ -143,6 +152,32 @@ class TenantServiceTest {
     assertEquals(2, tenantCollection.getTotalRecords());
   }
 
+  @Test
+  void shouldGetTenantPagesByCursor() {
+    UUID consortiumId = UUID.randomUUID();
+    TenantEntity tenantEntity1 = createTenantEntity("tenant1", "tenant1");
+    TenantEntity tenantEntity2 = createTenantEntity("tenant2", "tenant2");
+    TenantEntity tenantEntity3 = createTenantEntity("tenant3", "tenant3");
+
+    when(tenantRepository.findFirstKeysetPageByConsortiumId(consortiumId, PageRequest.of(0, 3)))
+      .thenReturn(List.of(tenantEntity1, tenantEntity2, tenantEntity3));
+
+    var firstPage = tenantService.getByCursor(consortiumId, "*", 2, TotalRecordsMode.NONE);
+    assertEquals(2, firstPage.getTenants().size());
+    assertNull(firstPage.getTotalRecords());
+    assertNotNull(firstPage.getNextCursor());
+    verify(tenantRepository, never()).countByConsortiumId(any());
+
+    when(tenantRepository.findKeysetPageByConsortiumIdAfterId(consortiumId, "tenant2", PageRequest.of(0, 3)))
+      .thenReturn(List.of(tenantEntity3));
+    when(tenantRepository.countByConsortiumId(consortiumId)).thenReturn(3L);
+
+    var lastPage = tenantService.getByCursor(consortiumId, firstPage.getNextCursor(), 2, TotalRecordsMode.EXACT);
+    assertEquals(1, lastPage.getTenants().size());
+    assertEquals(3, lastPage.getTotalRecords());
+    assertNull(lastPage.getNextCursor());
+  }
+
   @Test
   void shouldGetAllTenantList() {
     UUID consortiumId = UUID.randomUUID();
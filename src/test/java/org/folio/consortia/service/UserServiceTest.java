@@ -7,15 +7,19 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 import org.folio.consortia.client.UsersClient;
 import org.folio.consortia.domain.dto.User;
+import org.folio.consortia.domain.dto.UserCollection;
 import org.folio.consortia.domain.dto.UserType;
 import org.folio.consortia.service.impl.UserServiceImpl;
 import org.folio.spring.FolioExecutionContext;
@@ -88,6 +92,21 @@ class UserServiceTest {
     assertNull(shadow.getBarcode());
   }
 
+  @Test
+  void shouldPrepareShadowUsersFetchedInBulk() {
+    User user = createUserEntity(true);
+    UUID userId = UUID.fromString(user.getId());
+    when(usersClient.getUserCollection(any(), eq(0), eq(2))).thenReturn(new UserCollection().users(List.of(user)));
+    mockOkapiHeaders();
+
+    Map<UUID, User> shadowUsers = userService.prepareShadowUsers(List.of(userId, UUID.randomUUID()), "diku");
+
+    assertEquals(1, shadowUsers.size());
+    assertEquals(UserType.SHADOW.getName(), shadowUsers.get(userId).getType());
+    assertEquals("diku", shadowUsers.get(userId).getCustomFields().get("originaltenantid"));
+    verify(usersClient).getUserCollection(any(), eq(0), eq(2));
+  }
+
   private void mockOkapiHeaders() {
     when(folioExecutionContext.getTenantId()).thenReturn("diku");
     Map<String, Collection<String>> okapiHeaders = createOkapiHeaders();
@@ -13,8 +13,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -32,38 +34,54 @@ import org.folio.consortia.client.PermissionsClient;
 import org.folio.consortia.client.UsersClient;
 import org.folio.consortia.config.FolioExecutionContextHelper;
 import org.folio.consortia.domain.converter.UserTenantConverter;
+import org.folio.consortia.domain.converter.UserTenantProjectionConverter;
 import org.folio.consortia.domain.dto.PermissionUser;
 import org.folio.consortia.domain.dto.PermissionUserCollection;
+import org.folio.consortia.domain.dto.TotalRecordsMode;
 import org.folio.consortia.domain.dto.User;
 import org.folio.consortia.domain.dto.UserEvent;
 import org.folio.consortia.domain.dto.UserTenant;
+import org.folio.consortia.domain.dto.UserTenantBatchItemResult.StatusEnum;
 import org.folio.consortia.domain.dto.UserTenantCollection;
 import org.folio.consortia.domain.entity.ConsortiumEntity;
 import org.folio.consortia.domain.entity.TenantEntity;
 import org.folio.consortia.domain.entity.UserTenantEntity;
+import org.folio.consortia.domain.projection.UserTenantProjection;
 import org.folio.consortia.exception.ResourceNotFoundException;
+import org.folio.consortia.exception.TenantFanOutException;
 import org.folio.consortia.exception.UserAffiliationException;
 import org.folio.consortia.repository.ConsortiumRepository;
+import org.folio.consortia.repository.TenantRepository;
 import org.folio.consortia.repository.UserTenantRepository;
+import org.folio.consortia.service.impl.TenantFanOutExecutor;
 import org.folio.consortia.service.impl.UserTenantServiceImpl;
+import org.folio.consortia.service.impl.PrimaryAffiliationIndex;
+import org.folio.consortia.service.impl.TotalRecordsCounter;
+import org.folio.consortia.service.impl.UserTenantsCache;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.FolioModuleMetadata;
 import org.folio.spring.data.OffsetRequest;
 import org.folio.spring.integration.XOkapiHeaders;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.batch.BatchAutoConfiguration;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.core.convert.ConversionService;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @SpringBootTest
 @EnableAutoConfiguration(exclude = BatchAutoConfiguration.class)
@@ -97,26 +115,56 @@ class UserTenantServiceTest {
   @Mock
   private TenantService tenantService;
   @Mock
+  private TenantRepository tenantRepository;
+  @Mock
+  private UserTenantsCache userTenantsCache;
+  @Mock
   private UserService userService;
+  @Mock
+  private PrimaryAffiliationIndex primaryAffiliationIndex;
+  @Spy
+  private TotalRecordsCounter totalRecordsCounter = new TotalRecordsCounter(null, null, 1000);
+
+  @BeforeEach
+  void setUp() {
+    var tenantFanOutExecutor = new TenantFanOutExecutor(new SyncTaskExecutor(), folioExecutionContext, folioModuleMetadata, 5);
+    ReflectionTestUtils.setField(userTenantService, "tenantFanOutExecutor", tenantFanOutExecutor);
+  }
 
   /* Success cases */
   @Test
   void shouldGetUserTenantList() {
     // given
-    List<UserTenantEntity> userTenantEntities = List.of(new UserTenantEntity(), new UserTenantEntity());
-    Page<UserTenantEntity> userTenantPage = new PageImpl<>(userTenantEntities, OffsetRequest.of(0, 10), userTenantEntities.size());
+    List<UserTenantProjection> userTenantEntities = List.of(createUserTenantProjection(), createUserTenantProjection());
+    Page<UserTenantProjection> userTenantPage = new PageImpl<>(userTenantEntities, OffsetRequest.of(0, 10), userTenantEntities.size());
 
     when(consortiumRepository.findById(UUID.fromString(CONSORTIUM_ID))).thenReturn(Optional.of(createConsortiumEntity()));
     when(userTenantRepository.getAll(OffsetRequest.of(0, 10))).thenReturn(userTenantPage);
 
     // when
-    var result = userTenantService.get(UUID.fromString(CONSORTIUM_ID), 0, 10);
+    var result = userTenantService.get(UUID.fromString(CONSORTIUM_ID), 0, 10, TotalRecordsMode.EXACT);
 
     // then
     assertEquals(userTenantEntities.size(), result.getUserTenants().size());
     assertEquals(2, result.getTotalRecords());
   }
 
+  @Test
+  void shouldGetUserTenantListWithoutCounting() {
+    List<UserTenantProjection> userTenantEntities = List.of(createUserTenantProjection(), createUserTenantProjection());
+    Slice<UserTenantProjection> userTenantSlice = new SliceImpl<>(userTenantEntities, OffsetRequest.of(0, 2), true);
+
+    when(consortiumRepository.findById(UUID.fromString(CONSORTIUM_ID))).thenReturn(Optional.of(createConsortiumEntity()));
+    when(userTenantRepository.getAllSlice(OffsetRequest.of(0, 2))).thenReturn(userTenantSlice);
+
+    var result = userTenantService.get(UUID.fromString(CONSORTIUM_ID), 0, 2, TotalRecordsMode.NONE);
+
+    assertEquals(2, result.getUserTenants().size());
+    assertNull(result.getTotalRecords());
+    verify(userTenantRepository, never()).getAll(any());
+    verify(userTenantRepository, never()).countAll();
+  }
+
   @Test
   void shouldGetUserTenantByAssociationId() {
     // given
@@ -145,9 +193,9 @@ class UserTenantServiceTest {
     UUID associationId = UUID.randomUUID();
     String tenantId = String.valueOf(UUID.randomUUID());
 
-    UserTenantEntity userTenant = createUserTenantEntity(associationId, userId, "testuser", tenantId);
-    UserTenantEntity userTenant2 = createUserTenantEntity(associationId, userId, "testuser", tenantId);
-    List<UserTenantEntity> userTenantEntities = List.of(userTenant);
+    UserTenantProjection userTenant = toProjection(createUserTenantEntity(associationId, userId, "testuser", tenantId));
+    UserTenantProjection userTenant2 = toProjection(createUserTenantEntity(associationId, userId, "testuser", tenantId));
+    List<UserTenantProjection> userTenantEntities = List.of(userTenant);
 
     when(consortiumRepository.findById(UUID.fromString(CONSORTIUM_ID))).thenReturn(Optional.of(createConsortiumEntity()));
     when(conversionService.convert(userTenant, UserTenant.class)).thenReturn(toDto(userTenant));
@@ -156,7 +204,7 @@ class UserTenantServiceTest {
       .thenReturn(new PageImpl<>(userTenantEntities, OffsetRequest.of(0, 10), userTenantEntities.size()));
 
     // when
-    UserTenantCollection result = userTenantService.getByUserId(UUID.fromString(CONSORTIUM_ID), userId, 0, 10);
+    UserTenantCollection result = userTenantService.getByUserId(UUID.fromString(CONSORTIUM_ID), userId, 0, 10, TotalRecordsMode.EXACT);
 
     // then
     assertEquals(userTenant2, userTenant);
@@ -170,7 +218,7 @@ class UserTenantServiceTest {
     UUID userId = UUID.randomUUID();
     UUID associationId = UUID.randomUUID();
     String tenantId = String.valueOf(UUID.randomUUID());
-    UserTenantEntity userTenant = createUserTenantEntity(associationId, userId, "testuser", tenantId);
+    UserTenantProjection userTenant = toProjection(createUserTenantEntity(associationId, userId, "testuser", tenantId));
 
     when(consortiumRepository.findById(UUID.fromString(CONSORTIUM_ID))).thenReturn(Optional.of(createConsortiumEntity()));
     when(conversionService.convert(userTenant, UserTenant.class)).thenReturn(toDto(userTenant));
@@ -184,6 +232,91 @@ class UserTenantServiceTest {
     assertEquals(1, result.getTotalRecords());
   }
 
+  @Test
+  void shouldSaveBatchAndReportResultOfEachItem() {
+    UUID consortiumId = UUID.fromString(CONSORTIUM_ID);
+    UUID userId = UUID.randomUUID();
+    UserTenantEntity primaryAffiliation = createUserTenantEntity(UUID.randomUUID(), userId, "user", "diku");
+    primaryAffiliation.setIsPrimary(true);
+    TenantEntity college = new TenantEntity();
+    college.setId("college");
+    User shadowUser = createUserEntity(userId);
+    var newAffiliation = new UserTenant().userId(userId).tenantId("college");
+    var existingAffiliation = new UserTenant().userId(userId).tenantId("diku");
+    var affiliationWithoutPrimary = new UserTenant().userId(UUID.randomUUID()).tenantId("college");
+
+    when(userTenantRepository.findAnyByUserIds(any())).thenReturn(List.of(primaryAffiliation));
+    when(tenantRepository.findByConsortiumId(consortiumId)).thenReturn(List.of(primaryAffiliation.getTenant(), college));
+    when(userService.prepareShadowUsers(any(), eq("diku"))).thenReturn(Map.of(userId, shadowUser));
+    when(userService.getById(userId)).thenReturn(new User());
+    mockOkapiHeaders();
+
+    var result = userTenantService.saveBatch(consortiumId, List.of(newAffiliation, existingAffiliation, affiliationWithoutPrimary));
+
+    assertEquals(3, result.getTotalRecords());
+    assertEquals(StatusEnum.CREATED, result.getResults().get(0).getStatus());
+    assertEquals(StatusEnum.EXISTS, result.getResults().get(1).getStatus());
+    assertEquals(StatusEnum.FAILED, result.getResults().get(2).getStatus());
+    verify(userService).createUser(shadowUser);
+    verify(userTenantRepository).saveAll(argThat(entities -> entities.iterator().next().getTenant() == college));
+  }
+
+  @Test
+  void shouldDeactivateShadowUsersOfBatchItemsWhichAffiliationsWereNotSaved() {
+    UUID consortiumId = UUID.fromString(CONSORTIUM_ID);
+    UUID userId = UUID.randomUUID();
+    UUID otherUserId = UUID.randomUUID();
+    UserTenantEntity primaryAffiliation = createUserTenantEntity(UUID.randomUUID(), userId, "user", "diku");
+    primaryAffiliation.setIsPrimary(true);
+    UserTenantEntity otherPrimaryAffiliation = createUserTenantEntity(UUID.randomUUID(), otherUserId, "other", "diku");
+    otherPrimaryAffiliation.setIsPrimary(true);
+    TenantEntity college = new TenantEntity();
+    college.setId("college");
+    User otherShadowUser = createUserEntity(otherUserId);
+
+    when(userTenantRepository.findAnyByUserIds(any())).thenReturn(List.of(primaryAffiliation, otherPrimaryAffiliation));
+    when(tenantRepository.findByConsortiumId(consortiumId)).thenReturn(List.of(primaryAffiliation.getTenant(), college));
+    when(userService.prepareShadowUsers(any(), eq("diku")))
+      .thenReturn(Map.of(userId, createUserEntity(userId), otherUserId, otherShadowUser));
+    when(userService.getById(userId)).thenReturn(new User());
+    when(userService.getById(otherUserId)).thenReturn(new User(), otherShadowUser);
+    when(userTenantRepository.saveAll(any())).thenThrow(new IllegalStateException("batch failed"));
+    when(userTenantRepository.save(argThat(entity -> otherUserId.equals(entity.getUserId()))))
+      .thenThrow(new IllegalStateException("affiliation failed"));
+    mockOkapiHeaders();
+
+    var result = userTenantService.saveBatch(consortiumId,
+      List.of(new UserTenant().userId(userId).tenantId("college"), new UserTenant().userId(otherUserId).tenantId("college")));
+
+    assertEquals(StatusEnum.CREATED, result.getResults().get(0).getStatus());
+    assertEquals(StatusEnum.FAILED, result.getResults().get(1).getStatus());
+    assertEquals("affiliation failed", result.getResults().get(1).getErrorMessage());
+    verify(userService).updateUser(argThat(user -> otherUserId.toString().equals(user.getId()) && Boolean.FALSE.equals(user.getActive())));
+    verify(userService, never()).updateUser(argThat(user -> userId.toString().equals(user.getId())));
+  }
+
+  @Test
+  void shouldFailBatchItemsOfTenantWhereShadowUserCreationFailed() {
+    UUID consortiumId = UUID.fromString(CONSORTIUM_ID);
+    UUID userId = UUID.randomUUID();
+    UserTenantEntity primaryAffiliation = createUserTenantEntity(UUID.randomUUID(), userId, "user", "diku");
+    primaryAffiliation.setIsPrimary(true);
+    TenantEntity college = new TenantEntity();
+    college.setId("college");
+
+    when(userTenantRepository.findAnyByUserIds(any())).thenReturn(List.of(primaryAffiliation));
+    when(tenantRepository.findByConsortiumId(consortiumId)).thenReturn(List.of(primaryAffiliation.getTenant(), college));
+    when(userService.prepareShadowUsers(any(), eq("diku"))).thenReturn(Map.of(userId, createUserEntity(userId)));
+    when(userService.getById(userId)).thenThrow(new IllegalStateException("users are not available"));
+    mockOkapiHeaders();
+
+    var result = userTenantService.saveBatch(consortiumId, List.of(new UserTenant().userId(userId).tenantId("college")));
+
+    assertEquals(StatusEnum.FAILED, result.getResults().get(0).getStatus());
+    assertEquals("users are not available", result.getResults().get(0).getErrorMessage());
+    verify(userTenantRepository, never()).saveAll(any());
+  }
+
   @Test
   void shouldSavePrimaryAffiliation() {
     var consId = UUID.randomUUID();
@@ -193,6 +326,7 @@ class UserTenantServiceTest {
 
     var result = userTenantService.createPrimaryUserTenantAffiliation(consId, new TenantEntity(), userEvent.getUserDto().getId(), userEvent.getUserDto().getUsername());
     assertNull(result);
+    verify(primaryAffiliationIndex).add(UUID.fromString(userEvent.getUserDto().getId()));
   }
 
   @Test
@@ -233,6 +367,28 @@ class UserTenantServiceTest {
     verify(userService, times(1)).updateUser(updatedShadowUser);
   }
 
+  @Test
+  void shouldUpdateFirstAndLastNamesInOtherTenantsWhenOneTenantFails() {
+    UUID userId = UUID.fromString(RANDOM_USER_ID);
+    User primaryUser = createUserEntity(userId);
+    User shadowUser = createUserEntity(userId);
+    UserTenantEntity failingUserTenant = createUserTenantEntity(UUID.randomUUID(), userId, "user", "failingTenantId");
+    UserTenantEntity userTenant = createUserTenantEntity(UUID.randomUUID(), userId, "user", "shadowTenantId");
+    failingUserTenant.setIsPrimary(false);
+    userTenant.setIsPrimary(false);
+    mockOkapiHeaders();
+
+    when(userTenantRepository.getByUserIdAndIsPrimaryFalse(userId)).thenReturn(List.of(failingUserTenant, userTenant));
+    when(userService.getById(userId)).thenReturn(primaryUser).thenThrow(new IllegalStateException("failed")).thenReturn(shadowUser);
+
+    var exception = assertThrows(TenantFanOutException.class,
+      () -> userTenantService.updateShadowUsersFirstAndLastNames(userId, "diku"));
+
+    assertTrue(exception.getMessage().contains("failingTenantId"));
+    verify(userService, times(3)).getById(userId);
+    verify(userService).updateUser(shadowUser);
+  }
+
   @Test
   void shouldNotDoAnyActionWhenEmptyUserTenantEntityListReturned() {
     UUID userId = UUID.fromString(RANDOM_USER_ID);
@@ -430,6 +586,42 @@ class UserTenantServiceTest {
     mockOkapiHeaders();
 
     assertDoesNotThrow(() -> userTenantService.deleteShadowUsers(userId1));
+    verify(userService, times(2)).deleteById(userId1.toString());
+    verify(userTenantRepository).deleteOrphansByUserIdAndTenantIds(userId1, List.of(tenantId1, tenantId2));
+  }
+
+  @Test
+  void shouldKeepOrphanedAffiliationsOfTenantsWhereShadowUserRemovalFailed() {
+    UUID userId = UUID.randomUUID();
+    UserTenantEntity failingUserTenant = createUserTenantEntity(UUID.randomUUID(), userId, "user", "failingTenantId");
+    UserTenantEntity userTenant = createUserTenantEntity(UUID.randomUUID(), userId, "user", "shadowTenantId");
+    failingUserTenant.setIsPrimary(false);
+    userTenant.setIsPrimary(false);
+    when(userTenantRepository.getOrphansByUserIdAndIsPrimaryFalse(userId)).thenReturn(List.of(failingUserTenant, userTenant));
+    doThrow(new IllegalStateException("failed")).doNothing().when(userService).deleteById(userId.toString());
+    mockOkapiHeaders();
+
+    assertDoesNotThrow(() -> userTenantService.deleteShadowUsers(userId));
+
+    verify(userService, times(2)).deleteById(userId.toString());
+    verify(userTenantRepository).deleteOrphansByUserIdAndTenantIds(userId, List.of("shadowTenantId"));
+  }
+
+  @Test
+  void shouldRetryRemovalOfOrphanedShadowUsers() {
+    UUID userId = UUID.randomUUID();
+    UserTenantEntity userTenant = createUserTenantEntity(UUID.randomUUID(), userId, "user", "shadowTenantId");
+    userTenant.setIsPrimary(false);
+    ReflectionTestUtils.setField(userTenantService, "shadowUsersCleanupBatchSize", 50);
+    when(userTenantRepository.findOrphanedUserIds(any())).thenReturn(List.of(userId));
+    when(userTenantRepository.getOrphansByUserIdAndIsPrimaryFalse(userId)).thenReturn(List.of(userTenant));
+    when(contextHelper.getSystemUserFolioExecutionContext("diku")).thenReturn(folioExecutionContext);
+    mockOkapiHeaders();
+
+    assertEquals(1, userTenantService.deleteOrphanedShadowUsers());
+
+    verify(userService).deleteById(userId.toString());
+    verify(userTenantRepository).deleteOrphansByUserIdAndTenantIds(userId, List.of("shadowTenantId"));
   }
 
   @Test
@@ -455,7 +647,7 @@ class UserTenantServiceTest {
   void shouldThrowIllegalArgumentException() {
     when(consortiumRepository.findById(UUID.fromString(CONSORTIUM_ID))).thenReturn(Optional.of(createConsortiumEntity()));
     UUID id = UUID.fromString(CONSORTIUM_ID);
-    Assertions.assertThrows(IllegalArgumentException.class, () -> userTenantService.get(id, 0, 0));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> userTenantService.get(id, 0, 0, TotalRecordsMode.EXACT));
   }
 
   @Test
@@ -468,7 +660,7 @@ class UserTenantServiceTest {
 
     UUID id = UUID.fromString(CONSORTIUM_ID);
     // throw exception
-    assertThrows(ResourceNotFoundException.class, () -> userTenantService.getByUserId(id, userId, 0, 10));
+    assertThrows(ResourceNotFoundException.class, () -> userTenantService.getByUserId(id, userId, 0, 10, TotalRecordsMode.EXACT));
   }
 
   @Test
@@ -503,6 +695,7 @@ class UserTenantServiceTest {
   @Test
   void getByUsernameAndTenantIdNotFound() {
     doNothing().when(consortiumService).checkConsortiumExistsOrThrow(any());
+    when(primaryAffiliationIndex.mightContain(any())).thenReturn(true);
     when(userTenantRepository.findByUserIdAndIsPrimaryTrue(any())).thenReturn(Optional.empty());
 
     var result = userTenantService.checkUserIfHasPrimaryAffiliationByUserId(UUID.randomUUID(), String.valueOf(UUID.randomUUID()));
@@ -606,6 +799,7 @@ class UserTenantServiceTest {
     var utEntity = createUserTenantEntity(UUID.randomUUID(), UUID.randomUUID(), "username", "diku");
 
     doNothing().when(consortiumService).checkConsortiumExistsOrThrow(any());
+    when(primaryAffiliationIndex.mightContain(any())).thenReturn(true);
     when(conversionService.convert(any(), eq(UserTenant.class))).thenReturn(toDto(utEntity));
     when(userTenantRepository.findByUserIdAndIsPrimaryTrue(any())).thenReturn(Optional.of(utEntity));
 
@@ -614,6 +808,18 @@ class UserTenantServiceTest {
     assertTrue(result);
   }
 
+  @Test
+  void shouldNotQueryDatabaseForUserMissingFromPrimaryAffiliationIndex() {
+    var consortiumId = UUID.randomUUID();
+    when(primaryAffiliationIndex.mightContain(any())).thenReturn(false);
+
+    var result = userTenantService.checkUserIfHasPrimaryAffiliationByUserId(consortiumId, String.valueOf(UUID.randomUUID()));
+
+    assertFalse(result);
+    verify(consortiumService).checkConsortiumExistsOrThrow(consortiumId);
+    verify(userTenantRepository, never()).findByUserIdAndIsPrimaryTrue(any());
+  }
+
   private UserTenantEntity createUserTenantEntity(UUID associationId, UUID userId, String username, String tenantId) {
     UserTenantEntity userTenantEntity = new UserTenantEntity();
     userTenantEntity.setId(associationId);
@@ -633,6 +839,19 @@ class UserTenantServiceTest {
     return tenantConverter.convert(userTenantEntity);
   }
 
+  private UserTenant toDto(UserTenantProjection userTenantProjection) {
+    return new UserTenantProjectionConverter().convert(userTenantProjection);
+  }
+
+  private UserTenantProjection toProjection(UserTenantEntity userTenantEntity) {
+    return new UserTenantProjection(userTenantEntity.getId(), userTenantEntity.getUserId(), userTenantEntity.getUsername(),
+      userTenantEntity.getTenant().getId(), userTenantEntity.getTenant().getName(), userTenantEntity.getIsPrimary());
+  }
+
+  private UserTenantProjection createUserTenantProjection() {
+    return new UserTenantProjection(UUID.randomUUID(), UUID.randomUUID(), "testuser", "tenant", "tenant", false);
+  }
+
   private ConsortiumEntity createConsortiumEntity() {
     ConsortiumEntity consortiumEntity = new ConsortiumEntity();
     consortiumEntity.setId(UUID.fromString(CONSORTIUM_ID));
@@ -0,0 +1,103 @@
+package org.folio.consortia.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.FolioModuleMetadata;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class PrimaryAffiliationIndexTest {
+  private static final String SCHEMA = "consortium_mod_consortia";
+  private static final String PRIMARY_USER_IDS_SQL = "SELECT user_id FROM consortium_mod_consortia.user_tenant WHERE is_primary = TRUE";
+  private static final UUID PRIMARY_USER_ID = UUID.randomUUID();
+  private static final UUID USER_ID = UUID.randomUUID();
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+  @Mock
+  private FolioExecutionContext folioExecutionContext;
+  @Mock
+  private FolioModuleMetadata folioModuleMetadata;
+  private PrimaryAffiliationIndex primaryAffiliationIndex;
+  AutoCloseable mockitoMocks;
+
+  @BeforeEach
+  void beforeEach() {
+    mockitoMocks = MockitoAnnotations.openMocks(this);
+    when(folioExecutionContext.getTenantId()).thenReturn("consortium");
+    when(folioExecutionContext.getFolioModuleMetadata()).thenReturn(folioModuleMetadata);
+    when(folioModuleMetadata.getDBSchemaName("consortium")).thenReturn(SCHEMA);
+    when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of(SCHEMA));
+    when(jdbcTemplate.queryForList(PRIMARY_USER_IDS_SQL, UUID.class)).thenReturn(List.of(PRIMARY_USER_ID));
+    primaryAffiliationIndex = new PrimaryAffiliationIndex(jdbcTemplate, folioExecutionContext);
+  }
+
+  @AfterEach
+  void afterEach() throws Exception {
+    mockitoMocks.close();
+  }
+
+  @Test
+  void shouldNotTrustNegativeLookupsBeforeListening() {
+    assertTrue(primaryAffiliationIndex.mightContain(USER_ID));
+
+    verify(jdbcTemplate, never()).queryForList(PRIMARY_USER_IDS_SQL, UUID.class);
+  }
+
+  @Test
+  void shouldLoadAllSchemasWhenListeningStarts() {
+    primaryAffiliationIndex.listeningStarted();
+
+    assertTrue(primaryAffiliationIndex.mightContain(PRIMARY_USER_ID));
+    assertFalse(primaryAffiliationIndex.mightContain(USER_ID));
+    verify(jdbcTemplate).queryForList(PRIMARY_USER_IDS_SQL, UUID.class);
+  }
+
+  @Test
+  void shouldApplySignalledChanges() {
+    primaryAffiliationIndex.listeningStarted();
+
+    primaryAffiliationIndex.apply(SCHEMA, USER_ID, true);
+    primaryAffiliationIndex.apply(SCHEMA, PRIMARY_USER_ID, false);
+
+    assertTrue(primaryAffiliationIndex.mightContain(USER_ID));
+    assertFalse(primaryAffiliationIndex.mightContain(PRIMARY_USER_ID));
+  }
+
+  @Test
+  void shouldAddUserOfWritePath() {
+    primaryAffiliationIndex.listeningStarted();
+
+    primaryAffiliationIndex.add(USER_ID);
+
+    assertTrue(primaryAffiliationIndex.mightContain(USER_ID));
+  }
+
+  @Test
+  void shouldFallBackToDatabaseWhileNotListening() {
+    primaryAffiliationIndex.listeningStarted();
+
+    primaryAffiliationIndex.listeningStopped();
+    assertTrue(primaryAffiliationIndex.mightContain(USER_ID));
+
+    // changes missed while not listening are picked up by loading again
+    primaryAffiliationIndex.listeningStarted();
+    assertFalse(primaryAffiliationIndex.mightContain(USER_ID));
+    verify(jdbcTemplate, times(2)).queryForList(PRIMARY_USER_IDS_SQL, UUID.class);
+  }
+}
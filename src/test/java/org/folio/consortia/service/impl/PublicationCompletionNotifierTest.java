@@ -0,0 +1,78 @@
+package org.folio.consortia.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.folio.consortia.domain.dto.PublicationStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PublicationCompletionNotifierTest {
+  private final PublicationCompletionNotifier notifier = new PublicationCompletionNotifier(10, 500);
+
+  @AfterEach
+  public void afterEach() {
+    notifier.shutdown();
+  }
+
+  @Test
+  void shouldNotifyListenersOfLocalPublication() {
+    var publicationId = UUID.randomUUID();
+    notifier.register(publicationId);
+    var completion = notifier.find(publicationId).orElseThrow();
+
+    assertFalse(completion.isDone());
+    notifier.complete(publicationId, PublicationStatus.COMPLETE);
+
+    assertEquals(PublicationStatus.COMPLETE, completion.join());
+    assertTrue(notifier.find(publicationId).isEmpty());
+  }
+
+  @Test
+  void shouldNotLetListenersCompletePublication() {
+    var publicationId = UUID.randomUUID();
+    notifier.register(publicationId);
+
+    notifier.find(publicationId).orElseThrow().complete(PublicationStatus.ERROR);
+
+    assertFalse(notifier.find(publicationId).orElseThrow().isDone());
+  }
+
+  @Test
+  void shouldWatchPublicationOfAnotherInstance() throws Exception {
+    var checks = new AtomicInteger();
+
+    var completion = notifier.watch(UUID.randomUUID(),
+      () -> checks.incrementAndGet() < 3 ? PublicationStatus.IN_PROGRESS : PublicationStatus.ERROR);
+
+    assertEquals(PublicationStatus.ERROR, completion.get(5, TimeUnit.SECONDS));
+    assertEquals(3, checks.get());
+  }
+
+  @Test
+  void shouldStopWatchingPublicationOfAnotherInstanceAfterTimeout() throws Exception {
+    var checks = new AtomicInteger();
+
+    var completion = notifier.watch(UUID.randomUUID(), () -> {
+      checks.incrementAndGet();
+      return PublicationStatus.IN_PROGRESS;
+    });
+
+    var exception = assertThrows(ExecutionException.class, () -> completion.get(5, TimeUnit.SECONDS));
+    assertInstanceOf(TimeoutException.class, exception.getCause());
+    // a check running at the time of the timeout may still finish
+    TimeUnit.MILLISECONDS.sleep(50);
+    var checksAfterTimeout = checks.get();
+    TimeUnit.MILLISECONDS.sleep(100);
+    assertEquals(checksAfterTimeout, checks.get());
+  }
+}
@@ -0,0 +1,180 @@
+package org.folio.consortia.service.impl;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.folio.consortia.exception.PublicationQueueFullException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PublicationDispatcherTest {
+
+  private PublicationDispatcher dispatcher;
+
+  @AfterEach
+  void tearDown() {
+    dispatcher.shutdown();
+  }
+
+  @Test
+  void shouldExecuteAllDispatchedTasks() {
+    dispatcher = new PublicationDispatcher(2, 2, 10, 10);
+    dispatcher.admit(5);
+
+    var futures = dispatcher.dispatch(UUID.randomUUID(), tasks(5, i -> i));
+
+    CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    assertEquals(List.of(0, 1, 2, 3, 4), futures.stream().map(CompletableFuture::join).toList());
+  }
+
+  @Test
+  void shouldCompleteFutureExceptionallyWhenTaskFails() {
+    dispatcher = new PublicationDispatcher(1, 1, 10, 10);
+    dispatcher.admit(1);
+
+    List<Supplier<Integer>> tasks = List.of(() -> {
+      throw new IllegalStateException("failed");
+    });
+    var future = dispatcher.dispatch(UUID.randomUUID(), tasks).get(0);
+
+    assertThrows(Exception.class, future::join);
+    assertTrue(future.isCompletedExceptionally());
+  }
+
+  @Test
+  void shouldRejectPublicationWhenQueueIsFull() {
+    dispatcher = new PublicationDispatcher(1, 1, 10, 3);
+    dispatcher.admit(2);
+
+    assertThrows(PublicationQueueFullException.class, () -> dispatcher.admit(2));
+
+    dispatcher.release(2);
+    assertDoesNotThrow(() -> dispatcher.admit(3));
+  }
+
+  @Test
+  void shouldAdmitUpToFreeQueueCapacity() {
+    dispatcher = new PublicationDispatcher(1, 1, 10, 3);
+    dispatcher.admit(2);
+
+    assertEquals(1, dispatcher.admitUpTo(5));
+    assertEquals(0, dispatcher.admitUpTo(5));
+    assertThrows(PublicationQueueFullException.class, () -> dispatcher.admit(1));
+  }
+
+  @Test
+  void shouldLimitConcurrencyPerPublication() {
+    dispatcher = new PublicationDispatcher(4, 1, 10, 10);
+    var active = new AtomicInteger();
+    var maxActive = new AtomicInteger();
+    dispatcher.admit(4);
+
+    var futures = dispatcher.dispatch(UUID.randomUUID(), tasks(4, i -> {
+      maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+      sleep();
+      return active.decrementAndGet();
+    }));
+
+    CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    assertEquals(1, maxActive.get());
+  }
+
+  @Test
+  void shouldServePublicationsInRoundRobinOrder() {
+    dispatcher = new PublicationDispatcher(1, 1, 10, 10);
+    var blocker = new CountDownLatch(1);
+    var executionOrder = Collections.synchronizedList(new ArrayList<String>());
+    dispatcher.admit(7);
+
+    // occupy the only worker, so both publications are queued before execution starts
+    var blockingFuture = dispatcher.dispatch(UUID.randomUUID(), List.of(() -> awaitLatch(blocker)));
+    var bigPublication = dispatcher.dispatch(UUID.randomUUID(), tasks(4, i -> executionOrder.add("big")));
+    var smallPublication = dispatcher.dispatch(UUID.randomUUID(), tasks(2, i -> executionOrder.add("small")));
+    blocker.countDown();
+
+    blockingFuture.get(0).join();
+    CompletableFuture.allOf(bigPublication.toArray(CompletableFuture[]::new)).join();
+    CompletableFuture.allOf(smallPublication.toArray(CompletableFuture[]::new)).join();
+    assertEquals(List.of("big", "small", "big", "small", "big", "big"), executionOrder);
+  }
+
+  @Test
+  void shouldReleaseWorkerWhileAsyncTaskIsInFlight() {
+    dispatcher = new PublicationDispatcher(1, 10, 10, 10);
+    var responses = Collections.synchronizedList(new ArrayList<CompletableFuture<Integer>>());
+    dispatcher.admit(3);
+
+    var futures = dispatcher.dispatchAsync(UUID.randomUUID(), asyncTasks(3, responses));
+
+    // the only worker has started all requests without waiting for their responses
+    await().atMost(5, TimeUnit.SECONDS).until(() -> responses.size() == 3);
+    responses.forEach(response -> response.complete(1));
+    CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+  }
+
+  @Test
+  void shouldLimitTasksInFlight() {
+    dispatcher = new PublicationDispatcher(1, 10, 2, 10);
+    var responses = Collections.synchronizedList(new ArrayList<CompletableFuture<Integer>>());
+    dispatcher.admit(3);
+
+    var futures = dispatcher.dispatchAsync(UUID.randomUUID(), asyncTasks(3, responses));
+
+    await().atMost(5, TimeUnit.SECONDS).until(() -> responses.size() == 2);
+    sleep();
+    assertEquals(2, responses.size());
+
+    responses.get(0).complete(1);
+    await().atMost(5, TimeUnit.SECONDS).until(() -> responses.size() == 3);
+    responses.forEach(response -> response.complete(1));
+    CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+  }
+
+  private static List<Supplier<CompletableFuture<Integer>>> asyncTasks(int count, List<CompletableFuture<Integer>> responses) {
+    return IntStream.range(0, count)
+      .<Supplier<CompletableFuture<Integer>>>mapToObj(i -> () -> {
+        var response = new CompletableFuture<Integer>();
+        responses.add(response);
+        return response;
+      })
+      .toList();
+  }
+
+  private static <T> List<Supplier<T>> tasks(int count, IntFunction<T> task) {
+    return IntStream.range(0, count)
+      .<Supplier<T>>mapToObj(i -> () -> task.apply(i))
+      .toList();
+  }
+
+  private static boolean awaitLatch(CountDownLatch latch) {
+    try {
+      return latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private static void sleep() {
+    try {
+      TimeUnit.MILLISECONDS.sleep(20);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,97 @@
+package org.folio.consortia.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.folio.consortia.domain.converter.PublicationContentCodec;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.integration.XOkapiHeaders;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+class PublicationLeaseManagerTest {
+  private static final String TENANT = "central";
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+  @Mock
+  private FolioExecutionContext folioExecutionContext;
+  @Mock
+  private FolioModuleMetadata folioModuleMetadata;
+  private PublicationLeaseManager leaseManager;
+  AutoCloseable mockitoMocks;
+
+  @BeforeEach
+  public void beforeEach() {
+    mockitoMocks = MockitoAnnotations.openMocks(this);
+    Map<String, Collection<String>> headers = new HashMap<>();
+    headers.put(XOkapiHeaders.TENANT, List.of(TENANT));
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT);
+    when(folioExecutionContext.getOkapiHeaders()).thenReturn(headers);
+    when(folioExecutionContext.getAllHeaders()).thenReturn(headers);
+    leaseManager = new PublicationLeaseManager(jdbcTemplate, folioExecutionContext, folioModuleMetadata, new PublicationContentCodec(1024, 0), 150);
+  }
+
+  @AfterEach
+  public void afterEach() throws Exception {
+    leaseManager.shutdown();
+    mockitoMocks.close();
+  }
+
+  @Test
+  void shouldRenewLeasesWhileTenantRequestsAreHeld() {
+    leaseManager.hold(1);
+
+    verify(jdbcTemplate, timeout(1000).atLeastOnce())
+      .update(startsWith("UPDATE pc_tenant_request SET lease_expires_at"), any(LocalDateTime.class), eq(leaseManager.getInstanceId()));
+  }
+
+  @Test
+  void shouldNotRenewLeasesWhenNothingIsHeld() {
+    leaseManager.hold(1);
+    leaseManager.release(TENANT);
+
+    verify(jdbcTemplate, after(300).never()).update(anyString(), any(), any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldClaimExpiredLeasesForThisInstance() {
+    when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any(), any(), any())).thenReturn(List.of());
+
+    var claimed = leaseManager.claimExpired(10);
+
+    assertTrue(claimed.isEmpty());
+    verify(jdbcTemplate).query(startsWith("UPDATE pc_tenant_request ptr SET lease_owner"), any(RowMapper.class),
+      eq(leaseManager.getInstanceId()), any(LocalDateTime.class), any(LocalDateTime.class), eq(10));
+  }
+
+  @Test
+  void shouldNotClaimWithoutCapacity() {
+    assertEquals(List.of(), leaseManager.claimExpired(0));
+    verifyNoInteractions(jdbcTemplate);
+    verify(folioExecutionContext, never()).getOkapiHeaders();
+  }
+}
@@ -0,0 +1,82 @@
+package org.folio.consortia.service.impl;
+
+import static org.folio.consortia.utils.EntityUtils.createPublicationTenantRequestEntity;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.folio.consortia.domain.dto.PublicationResult;
+import org.folio.consortia.domain.dto.PublicationStatus;
+import org.folio.consortia.domain.entity.PublicationStatusEntity;
+import org.folio.consortia.repository.PublicationTenantRequestRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+
+class PublicationResultWriterTest {
+  private static final UUID PUBLICATION_ID = UUID.randomUUID();
+
+  @Mock
+  private PublicationTenantRequestRepository publicationTenantRequestRepository;
+  @Mock
+  private EntityManager entityManager;
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private PublicationResultWriter publicationResultWriter;
+  AutoCloseable mockitoMocks;
+
+  @BeforeEach
+  public void beforeEach() {
+    mockitoMocks = MockitoAnnotations.openMocks(this);
+    publicationResultWriter = new PublicationResultWriter(publicationTenantRequestRepository, entityManager, objectMapper);
+  }
+
+  @AfterEach
+  public void afterEach() throws Exception {
+    mockitoMocks.close();
+  }
+
+  @Test
+  void shouldWriteResultPerLine() throws Exception {
+    var pcState = new PublicationStatusEntity();
+    var ptrEntity1 = createPublicationTenantRequestEntity(pcState, "college", PublicationStatus.COMPLETE, 201);
+    var ptrEntity2 = createPublicationTenantRequestEntity(pcState, "university", PublicationStatus.ERROR, 400);
+    when(publicationTenantRequestRepository.streamByPcStateId(PUBLICATION_ID)).thenReturn(Stream.of(ptrEntity1, ptrEntity2));
+    var outputStream = new ByteArrayOutputStream();
+
+    int written = publicationResultWriter.write(PUBLICATION_ID, null, outputStream);
+
+    var lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+    assertEquals(2, written);
+    assertEquals(2, lines.length);
+    assertEquals("college", objectMapper.readValue(lines[0], PublicationResult.class).getTenantId());
+    assertEquals(400, objectMapper.readValue(lines[1], PublicationResult.class).getStatusCode());
+    verify(entityManager, times(2)).detach(any());
+  }
+
+  @Test
+  void shouldStreamOnlyResultsWithGivenStatuses() {
+    var ptrEntity = createPublicationTenantRequestEntity(new PublicationStatusEntity(), "university", PublicationStatus.ERROR, 400);
+    var statuses = List.of(PublicationStatus.ERROR);
+    when(publicationTenantRequestRepository.streamByPcStateIdAndStatusIn(PUBLICATION_ID, statuses)).thenReturn(Stream.of(ptrEntity));
+
+    int written = publicationResultWriter.write(PUBLICATION_ID, statuses, new ByteArrayOutputStream());
+
+    assertEquals(1, written);
+    verify(publicationTenantRequestRepository, never()).streamByPcStateId(PUBLICATION_ID);
+  }
+}
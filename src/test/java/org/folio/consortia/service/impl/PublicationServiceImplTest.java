@@ -3,24 +3,40 @@ package org.folio.consortia.service.impl;
 import static org.folio.consortia.utils.InputOutputTestUtils.getMockDataObject;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.atLeast;
+import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 
+import org.folio.consortia.config.FolioExecutionContextHelper;
+import org.folio.consortia.domain.converter.PublicationContentCodec;
 import org.folio.consortia.domain.dto.PublicationHttpResponse;
 import org.folio.consortia.domain.dto.PublicationRequest;
 import org.folio.consortia.domain.dto.PublicationStatus;
 import org.folio.consortia.domain.entity.PublicationStatusEntity;
 import org.folio.consortia.domain.entity.PublicationTenantRequestEntity;
+import org.folio.consortia.exception.PublicationException;
 import org.folio.consortia.exception.ResourceNotFoundException;
+import org.folio.consortia.exception.TenantUnavailableException;
 import org.folio.consortia.repository.PublicationStatusRepository;
 import org.folio.consortia.repository.PublicationTenantRequestRepository;
 import org.folio.consortia.service.ConsortiumService;
@@ -33,15 +49,22 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
 import org.testcontainers.shaded.org.apache.commons.lang3.RandomStringUtils;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 class PublicationServiceImplTest extends BaseUnitTest {
   private static final String PUBLICATION_REQUEST_SAMPLE = "mockdata/publications/publication_request.json";
@@ -58,23 +81,175 @@ class PublicationServiceImplTest extends BaseUnitTest {
   ObjectMapper objectMapper;
   @Mock
   ConsortiumService consortiumService;
+  @Spy
+  PublicationDispatcher publicationDispatcher = new PublicationDispatcher(2, 2, 10, 100);
+  @Mock
+  PublicationTenantRequestBuffer publicationTenantRequestBuffer;
+  @Mock
+  PublicationCompletionNotifier publicationCompletionNotifier;
+  @Mock
+  PublicationLeaseManager publicationLeaseManager;
+  @Mock
+  FolioExecutionContextHelper folioExecutionContextHelper;
+  @Spy
+  PublicationContentCodec publicationContentCodec = new PublicationContentCodec(1024, 1_048_576);
+  @Spy
+  PublicationTenantLimiter publicationTenantLimiter = new PublicationTenantLimiter(0, 5, 30_000, new SimpleMeterRegistry(), System::nanoTime);
+  @Spy
+  TaskExecutor asyncTaskExecutor = new SyncTaskExecutor();
   @Captor
-  ArgumentCaptor<PublicationTenantRequestEntity> ptreCaptor;
+  ArgumentCaptor<List<PublicationTenantRequestEntity>> ptreListCaptor;
 
   @Test
   void createTenantRequestEntitiesSuccess() throws JsonProcessingException {
-    ReflectionTestUtils.setField(publicationService, "maxActiveThreads", 5);
-
     PublicationRequest pr = getMockDataObject(PUBLICATION_REQUEST_SAMPLE, PublicationRequest.class);
     var publicationStatusEntity = getMockDataObject(PUBLICATION_STATUS_ENTITY_SAMPLE, PublicationStatusEntity.class);
     publicationStatusEntity.setCreatedDate(LocalDateTime.now());
 
     when(objectMapper.writeValueAsString(anyString())).thenReturn(RandomStringUtils.random(10));
-    when(publicationTenantRequestRepository.save(any(PublicationTenantRequestEntity.class))).thenReturn(new PublicationTenantRequestEntity());
+    when(httpRequestService.performRequestAsync(anyString(), any(), any()))
+      .thenReturn(CompletableFuture.completedFuture(new PublicationHttpResponse("{}", HttpStatusCode.valueOf(201))));
+    when(publicationTenantRequestBuffer.write(any(PublicationTenantRequestEntity.class)))
+      .thenAnswer(invocation -> CompletableFuture.completedFuture(invocation.getArgument(0)));
+    when(publicationStatusRepository.findStatusById(publicationStatusEntity.getId())).thenReturn(Optional.of(PublicationStatus.COMPLETE));
+
+    publicationService.processTenantRequests(pr, publicationStatusEntity);
+
+    verify(publicationTenantRequestRepository).saveAll(ptreListCaptor.capture());
+    Assertions.assertEquals(pr.getTenants().size(), ptreListCaptor.getValue().size());
+    ptreListCaptor.getValue().forEach(ptrEntity -> Assertions.assertNull(ptrEntity.getRequestPayload()));
+    verify(objectMapper).writeValueAsString(pr.getPayload());
+    verify(httpRequestService, timeout(1000).times(pr.getTenants().size())).performRequestAsync(eq(pr.getUrl()), any(), isA(RawValue.class));
+    verify(publicationDispatcher).dispatchAsync(eq(publicationStatusEntity.getId()), anyList());
+    verify(publicationTenantRequestBuffer, timeout(1000).times(pr.getTenants().size())).write(any());
+    verify(publicationCompletionNotifier, timeout(1000)).complete(publicationStatusEntity.getId(), PublicationStatus.COMPLETE);
+  }
+
+  @Test
+  void watchPublicationWithTenantRequestsReclaimedByAnotherInstance() throws JsonProcessingException {
+    PublicationRequest pr = getMockDataObject(PUBLICATION_REQUEST_SAMPLE, PublicationRequest.class);
+    var publicationStatusEntity = getMockDataObject(PUBLICATION_STATUS_ENTITY_SAMPLE, PublicationStatusEntity.class);
+
+    when(objectMapper.writeValueAsString(any())).thenReturn(RandomStringUtils.random(10));
+    when(httpRequestService.performRequestAsync(anyString(), any(), any()))
+      .thenReturn(CompletableFuture.completedFuture(new PublicationHttpResponse("{}", HttpStatusCode.valueOf(201))));
+    when(publicationTenantRequestBuffer.write(any(PublicationTenantRequestEntity.class)))
+      .thenAnswer(invocation -> CompletableFuture.completedFuture(invocation.getArgument(0)));
+    // results written by this instance do not finish the publication, the rest is counted by another instance
+    when(publicationStatusRepository.findStatusById(publicationStatusEntity.getId())).thenReturn(Optional.of(PublicationStatus.IN_PROGRESS));
+    var remoteCompletion = new CompletableFuture<PublicationStatus>();
+    when(publicationCompletionNotifier.watch(eq(publicationStatusEntity.getId()), any())).thenReturn(remoteCompletion);
+
+    publicationService.processTenantRequests(pr, publicationStatusEntity);
+
+    verify(publicationCompletionNotifier, timeout(1000)).watch(eq(publicationStatusEntity.getId()), any());
+    verify(publicationCompletionNotifier, never()).complete(any(), any());
+    verify(publicationStatusRepository, never()).save(any());
+
+    remoteCompletion.complete(PublicationStatus.ERROR);
+
+    verify(publicationCompletionNotifier, timeout(1000)).complete(publicationStatusEntity.getId(), PublicationStatus.ERROR);
+  }
+
+  @Test
+  void notifyCallbackWithContextOfPublisher() throws JsonProcessingException {
+    PublicationRequest pr = getMockDataObject(PUBLICATION_REQUEST_SAMPLE, PublicationRequest.class).callbackUrl("/publication-callback");
+    var publicationStatusEntity = getMockDataObject(PUBLICATION_STATUS_ENTITY_SAMPLE, PublicationStatusEntity.class);
+
+    when(objectMapper.writeValueAsString(any())).thenReturn(RandomStringUtils.random(10));
+    when(httpRequestService.performRequestAsync(anyString(), any(), any()))
+      .thenReturn(CompletableFuture.completedFuture(new PublicationHttpResponse("{}", HttpStatusCode.valueOf(201))));
+    when(publicationTenantRequestBuffer.write(any(PublicationTenantRequestEntity.class)))
+      .thenAnswer(invocation -> CompletableFuture.completedFuture(invocation.getArgument(0)));
 
     publicationService.processTenantRequests(pr, publicationStatusEntity);
 
-    verify(publicationTenantRequestRepository, atLeast(pr.getTenants().size())).save(any());
+    verify(httpRequestService, timeout(1000)).performRequestAsync(eq("/publication-callback"), eq(HttpMethod.POST), any());
+    verify(folioExecutionContextHelper, never()).getSystemUserFolioExecutionContext(anyString());
+  }
+
+  @Test
+  void publishRequestWithCallbackToAnotherHost() {
+    var pr = getMockDataObject(PUBLICATION_REQUEST_SAMPLE, PublicationRequest.class).callbackUrl("@attacker.host/callback");
+    var consortiumId = UUID.randomUUID();
+
+    var exception = assertThrows(PublicationException.class, () -> publicationService.publishRequest(consortiumId, pr));
+
+    Assertions.assertEquals(PublicationException.CALLBACK_URL_NOT_RELATIVE, exception.getMessage());
+    verifyNoInteractions(publicationStatusRepository, httpRequestService);
+  }
+
+  @Test
+  void acceptOnlyOkapiPathsAsCallback() {
+    Assertions.assertTrue(PublicationServiceImpl.isOkapiPath("/publications/callback?status=done"));
+    Assertions.assertFalse(PublicationServiceImpl.isOkapiPath("@attacker.host/callback"));
+    Assertions.assertFalse(PublicationServiceImpl.isOkapiPath("//attacker.host/callback"));
+    Assertions.assertFalse(PublicationServiceImpl.isOkapiPath("http://attacker.host/callback"));
+    Assertions.assertFalse(PublicationServiceImpl.isOkapiPath("/\\attacker.host/callback"));
+    Assertions.assertFalse(PublicationServiceImpl.isOkapiPath("/callback@attacker.host"));
+  }
+
+  @Test
+  void resumeExpiredTenantRequests() throws JsonProcessingException {
+    var ptrEntity = new PublicationTenantRequestEntity();
+    ptrEntity.setId(UUID.randomUUID());
+    ptrEntity.setPcState(getMockDataObject(PUBLICATION_STATUS_ENTITY_SAMPLE, PublicationStatusEntity.class));
+    ptrEntity.setTenantId(CENTRAL_TENANT_NAME);
+    ptrEntity.setRequestUrl("/instances");
+    ptrEntity.setRequestMethod(HttpMethod.POST.name());
+    ptrEntity.setRequestPayload("{}");
+    ptrEntity.setStatus(PublicationStatus.IN_PROGRESS);
+
+    ReflectionTestUtils.setField(publicationService, "claimBatchSize", 10);
+    when(publicationLeaseManager.claimExpired(10)).thenReturn(List.of(ptrEntity));
+    when(folioExecutionContextHelper.getSystemUserFolioExecutionContext(CENTRAL_TENANT_NAME)).thenReturn(folioExecutionContext);
+    when(objectMapper.readValue("{}", Object.class)).thenReturn(Map.of());
+    when(httpRequestService.performRequestAsync(eq("/instances"), eq(HttpMethod.POST), any()))
+      .thenReturn(CompletableFuture.completedFuture(new PublicationHttpResponse("{}", HttpStatusCode.valueOf(201))));
+    when(publicationTenantRequestBuffer.write(any(PublicationTenantRequestEntity.class)))
+      .thenAnswer(invocation -> CompletableFuture.completedFuture(invocation.getArgument(0)));
+
+    Assertions.assertEquals(1, publicationService.resumeExpiredTenantRequests());
+
+    verify(publicationDispatcher).admitUpTo(anyInt());
+    verify(publicationDispatcher).release(9);
+    verify(publicationLeaseManager).hold(1);
+    verify(publicationTenantRequestBuffer, timeout(1000)).write(ptrEntity);
+    verify(publicationLeaseManager, timeout(1000)).release(CENTRAL_TENANT_NAME);
+    Assertions.assertEquals(PublicationStatus.COMPLETE, ptrEntity.getStatus());
+  }
+
+  @Test
+  void resumeTenantRequestWithoutPayload() throws JsonProcessingException {
+    var ptrEntity = new PublicationTenantRequestEntity();
+    ptrEntity.setId(UUID.randomUUID());
+    ptrEntity.setTenantId(CENTRAL_TENANT_NAME);
+    ptrEntity.setRequestUrl("/instances");
+    ptrEntity.setRequestMethod(HttpMethod.POST.name());
+    ptrEntity.setStatus(PublicationStatus.IN_PROGRESS);
+
+    when(objectMapper.readValue((String) null, Object.class)).thenThrow(IllegalArgumentException.class);
+
+    var resumed = publicationService.resumePublicationTenantRequest(ptrEntity).join();
+
+    Assertions.assertEquals(PublicationStatus.ERROR, resumed.getStatus());
+    Assertions.assertEquals(HttpStatus.BAD_REQUEST.value(), resumed.getResponseStatusCode());
+    verifyNoInteractions(httpRequestService);
+  }
+
+  @Test
+  void getPublicationCompletionOfFinishedPublication() {
+    var consortiumId = UUID.randomUUID();
+    var publicationStatusEntity = getMockDataObject(PUBLICATION_STATUS_ENTITY_SAMPLE, PublicationStatusEntity.class);
+    publicationStatusEntity.setStatus(PublicationStatus.ERROR);
+
+    when(publicationCompletionNotifier.find(publicationStatusEntity.getId())).thenReturn(Optional.empty());
+    when(publicationStatusRepository.findStatusById(publicationStatusEntity.getId())).thenReturn(Optional.of(publicationStatusEntity.getStatus()));
+
+    var completion = publicationService.getPublicationCompletion(consortiumId, publicationStatusEntity.getId());
+
+    Assertions.assertEquals(PublicationStatus.ERROR, completion.join());
+    verify(publicationCompletionNotifier, never()).watch(any(), any());
   }
 
   @Test
@@ -85,11 +260,11 @@ class PublicationServiceImplTest extends BaseUnitTest {
     publicationStatusEntity.setCreatedDate(LocalDateTime.now());
 
     when(objectMapper.writeValueAsString(anyString())).thenReturn(RandomStringUtils.random(10));
-    when(publicationTenantRequestRepository.save(any(PublicationTenantRequestEntity.class))).thenReturn(new PublicationTenantRequestEntity());
 
     var restTemplateResponse = new PublicationHttpResponse(payload, HttpStatusCode.valueOf(201));
-    when(httpRequestService.performRequest(anyString(), eq(HttpMethod.POST), any())).thenReturn(restTemplateResponse);
-    var response = publicationService.executeHttpRequest(pr, CENTRAL_TENANT_NAME, folioExecutionContext);
+    when(httpRequestService.performRequestAsync(anyString(), eq(HttpMethod.POST), any()))
+      .thenReturn(CompletableFuture.completedFuture(restTemplateResponse));
+    var response = publicationService.executeHttpRequest(pr, CENTRAL_TENANT_NAME, folioExecutionContext).join();
     Assertions.assertEquals(payload, response.getBody());
   }
   @Test
@@ -100,9 +275,11 @@ class PublicationServiceImplTest extends BaseUnitTest {
     publicationStatusEntity.setCreatedDate(LocalDateTime.now());
 
     var restTemplateResponse = new PublicationHttpResponse(payload, HttpStatusCode.valueOf(301));
-    when(httpRequestService.performRequest(anyString(), eq(HttpMethod.POST), any())).thenReturn(restTemplateResponse);
+    when(httpRequestService.performRequestAsync(anyString(), eq(HttpMethod.POST), any()))
+      .thenReturn(CompletableFuture.completedFuture(restTemplateResponse));
 
-    assertThrows(HttpClientErrorException.class, () -> publicationService.executeHttpRequest(pr, CENTRAL_TENANT_NAME, folioExecutionContext));
+    var response = publicationService.executeHttpRequest(pr, CENTRAL_TENANT_NAME, folioExecutionContext);
+    assertThrowsCause(HttpClientErrorException.class, response::join);
   }
 
   @Test
@@ -111,12 +288,51 @@ class PublicationServiceImplTest extends BaseUnitTest {
     var publicationStatusEntity = getMockDataObject(PUBLICATION_STATUS_ENTITY_SAMPLE, PublicationStatusEntity.class);
     publicationStatusEntity.setCreatedDate(LocalDateTime.now());
 
-    doThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST, HttpStatus.BAD_REQUEST.getReasonPhrase()))
-      .when(httpRequestService).performRequest(anyString(), eq(HttpMethod.POST), any());
+    when(httpRequestService.performRequestAsync(anyString(), eq(HttpMethod.POST), any()))
+      .thenReturn(CompletableFuture.failedFuture(new HttpClientErrorException(HttpStatus.BAD_REQUEST, HttpStatus.BAD_REQUEST.getReasonPhrase())));
+
+    var response = publicationService.executeHttpRequest(pr, CENTRAL_TENANT_NAME, folioExecutionContext);
+    assertThrowsCause(HttpClientErrorException.class, response::join);
+  }
+
 
-    assertThrows(HttpClientErrorException.class, () -> publicationService.executeHttpRequest(pr, CENTRAL_TENANT_NAME, folioExecutionContext));
+  @Test
+  void executeHttpRequestRejectedByOpenCircuit() {
+    var pr = getMockDataObject(PUBLICATION_REQUEST_SAMPLE, PublicationRequest.class);
+    doThrow(new TenantUnavailableException(CENTRAL_TENANT_NAME)).when(publicationTenantLimiter).acquire(CENTRAL_TENANT_NAME);
+
+    var response = publicationService.executeHttpRequest(pr, CENTRAL_TENANT_NAME, folioExecutionContext);
+
+    var exception = assertThrows(CompletionException.class, response::join);
+    Assertions.assertInstanceOf(TenantUnavailableException.class, exception.getCause());
+    verifyNoInteractions(httpRequestService);
+    verify(publicationTenantLimiter, never()).recordResult(anyString(), anyBoolean());
   }
 
+  @Test
+  void executeHttpRequestDelayedByRateLimitOnAsyncExecutor() {
+    var pr = getMockDataObject(PUBLICATION_REQUEST_SAMPLE, PublicationRequest.class);
+    doReturn(Duration.ofMillis(10)).when(publicationTenantLimiter).acquire(CENTRAL_TENANT_NAME);
+    when(httpRequestService.performRequestAsync(anyString(), eq(HttpMethod.POST), any()))
+      .thenReturn(CompletableFuture.completedFuture(new PublicationHttpResponse("{}", HttpStatusCode.valueOf(201))));
+
+    var response = publicationService.executeHttpRequest(pr, CENTRAL_TENANT_NAME, folioExecutionContext);
+
+    Assertions.assertEquals(HttpStatusCode.valueOf(201), response.join().getStatusCode());
+    verify(asyncTaskExecutor).execute(any(Runnable.class));
+  }
+
+  @Test
+  void executeHttpRequestRecordsServerErrorForTenant() {
+    var pr = getMockDataObject(PUBLICATION_REQUEST_SAMPLE, PublicationRequest.class);
+    when(httpRequestService.performRequestAsync(anyString(), eq(HttpMethod.POST), any()))
+      .thenReturn(CompletableFuture.completedFuture(new PublicationHttpResponse("failed", HttpStatusCode.valueOf(502))));
+
+    var response = publicationService.executeHttpRequest(pr, CENTRAL_TENANT_NAME, folioExecutionContext);
+
+    assertThrowsCause(HttpServerErrorException.class, response::join);
+    verify(publicationTenantLimiter).recordResult(CENTRAL_TENANT_NAME, false);
+  }
 
   @Test
   void updatePublicationTenantRequestOnSuccess() {
@@ -124,16 +340,12 @@ class PublicationServiceImplTest extends BaseUnitTest {
     var pse = getMockDataObject(PUBLICATION_STATUS_ENTITY_SAMPLE, PublicationStatusEntity.class);
     ptrEntity.setPcState(pse);
     ptrEntity.setStatus(PublicationStatus.IN_PROGRESS);
-    when(publicationTenantRequestRepository.save(any(PublicationTenantRequestEntity.class))).thenReturn(new PublicationTenantRequestEntity());
-    when(publicationStatusRepository.save(any(PublicationStatusEntity.class))).thenReturn(new PublicationStatusEntity());
-
     var payload = RandomStringUtils.random(10);
     var restTemplateResponse = new PublicationHttpResponse(payload, HttpStatusCode.valueOf(201));
 
-    publicationService.updateSucceedPublicationTenantRequest(restTemplateResponse, ptrEntity);
-    verify(publicationTenantRequestRepository).save(ptreCaptor.capture());
+    var capturedPtre = publicationService.updateSucceedPublicationTenantRequest(restTemplateResponse, ptrEntity);
+    verifyNoInteractions(publicationTenantRequestRepository);
 
-    var capturedPtre = ptreCaptor.getValue();
     Assertions.assertEquals(PublicationStatus.COMPLETE, capturedPtre.getStatus());
     Assertions.assertEquals(payload, capturedPtre.getResponse());
     Assertions.assertEquals(HttpStatus.CREATED.value(), capturedPtre.getResponseStatusCode());
@@ -145,18 +357,42 @@ class PublicationServiceImplTest extends BaseUnitTest {
     var pse = getMockDataObject(PUBLICATION_STATUS_ENTITY_SAMPLE, PublicationStatusEntity.class);
     ptrEntity.setPcState(pse);
     ptrEntity.setStatus(PublicationStatus.IN_PROGRESS);
-    when(publicationTenantRequestRepository.save(any(PublicationTenantRequestEntity.class))).thenReturn(new PublicationTenantRequestEntity());
 
     Throwable t = new CompletionException(new HttpClientErrorException(HttpStatusCode.valueOf(400), HttpStatus.BAD_REQUEST.getReasonPhrase()));
-    publicationService.updateFailedPublicationTenantRequest(t, ptrEntity);
-    verify(publicationTenantRequestRepository).save(ptreCaptor.capture());
+    var capturedPtre = publicationService.updateFailedPublicationTenantRequest(t, ptrEntity);
+    verifyNoInteractions(publicationTenantRequestRepository);
 
-    var capturedPtre = ptreCaptor.getValue();
     Assertions.assertEquals(PublicationStatus.ERROR, capturedPtre.getStatus());
     Assertions.assertEquals(HttpStatus.BAD_REQUEST.getReasonPhrase(), capturedPtre.getResponse());
     Assertions.assertEquals(HttpStatus.BAD_REQUEST.value(), capturedPtre.getResponseStatusCode());
   }
 
+  @Test
+  void updatePublicationTenantRequestOnServerError() {
+    PublicationTenantRequestEntity ptrEntity = new PublicationTenantRequestEntity();
+    ptrEntity.setPcState(getMockDataObject(PUBLICATION_STATUS_ENTITY_SAMPLE, PublicationStatusEntity.class));
+    ptrEntity.setStatus(PublicationStatus.IN_PROGRESS);
+
+    Throwable t = new CompletionException(new HttpServerErrorException(HttpStatus.BAD_GATEWAY, "tenant is not reachable"));
+    var capturedPtre = publicationService.updateFailedPublicationTenantRequest(t, ptrEntity);
+
+    Assertions.assertEquals(PublicationStatus.ERROR, capturedPtre.getStatus());
+    Assertions.assertEquals("tenant is not reachable", capturedPtre.getResponse());
+    Assertions.assertEquals(HttpStatus.BAD_GATEWAY.value(), capturedPtre.getResponseStatusCode());
+  }
+
+  @Test
+  void updatePublicationTenantRequestRejectedByOpenCircuit() {
+    PublicationTenantRequestEntity ptrEntity = new PublicationTenantRequestEntity();
+    ptrEntity.setStatus(PublicationStatus.IN_PROGRESS);
+
+    var capturedPtre = publicationService.updateFailedPublicationTenantRequest(new TenantUnavailableException(CENTRAL_TENANT_NAME), ptrEntity);
+
+    Assertions.assertEquals(PublicationStatus.ERROR, capturedPtre.getStatus());
+    Assertions.assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), capturedPtre.getResponseStatusCode());
+    Assertions.assertEquals(new TenantUnavailableException(CENTRAL_TENANT_NAME).getMessage(), capturedPtre.getResponse());
+  }
+
   @Test
   void checkPublicationDetailsExists() {
     var consortiumId = UUID.randomUUID();
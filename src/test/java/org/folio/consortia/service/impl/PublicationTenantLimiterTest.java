@@ -0,0 +1,101 @@
+package org.folio.consortia.service.impl;
+
+import static org.folio.consortia.service.impl.PublicationTenantLimiter.CIRCUIT_STATE_METRIC;
+import static org.folio.consortia.service.impl.PublicationTenantLimiter.REJECTED_REQUESTS_METRIC;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.folio.consortia.exception.TenantUnavailableException;
+import org.folio.consortia.service.impl.PublicationTenantLimiter.CircuitState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PublicationTenantLimiterTest {
+  private static final String TENANT = "university";
+  private static final String OTHER_TENANT = "college";
+
+  private final AtomicLong clock = new AtomicLong();
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void beforeEach() {
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @Test
+  void shouldDelayRequestsAboveRateAfterBurst() {
+    var limiter = new PublicationTenantLimiter(2, 5, 1000, meterRegistry, clock::get);
+
+    assertEquals(Duration.ZERO, limiter.acquire(TENANT));
+    assertEquals(Duration.ZERO, limiter.acquire(TENANT));
+    assertEquals(Duration.ofMillis(500), limiter.acquire(TENANT));
+    assertEquals(Duration.ofMillis(1000), limiter.acquire(TENANT));
+    // other tenants are not affected
+    assertEquals(Duration.ZERO, limiter.acquire(OTHER_TENANT));
+  }
+
+  @Test
+  void shouldNotDelayRequestsWhenRateIsNotLimited() {
+    var limiter = new PublicationTenantLimiter(0, 5, 1000, meterRegistry, clock::get);
+
+    for (int i = 0; i < 100; i++) {
+      assertEquals(Duration.ZERO, limiter.acquire(TENANT));
+    }
+  }
+
+  @Test
+  void shouldOpenCircuitAfterConsecutiveFailures() {
+    var limiter = new PublicationTenantLimiter(0, 2, 1000, meterRegistry, clock::get);
+
+    limiter.recordResult(TENANT, false);
+    limiter.recordResult(TENANT, true);
+    limiter.recordResult(TENANT, false);
+    assertEquals(CircuitState.CLOSED, limiter.getCircuitState(TENANT));
+
+    limiter.recordResult(TENANT, false);
+
+    assertEquals(CircuitState.OPEN, limiter.getCircuitState(TENANT));
+    assertThrows(TenantUnavailableException.class, () -> limiter.acquire(TENANT));
+    assertEquals(Duration.ZERO, limiter.acquire(OTHER_TENANT));
+    assertEquals(1, meterRegistry.get(CIRCUIT_STATE_METRIC).tag("tenant", TENANT).gauge().value());
+    assertEquals(1, meterRegistry.get(REJECTED_REQUESTS_METRIC).tag("tenant", TENANT).counter().count());
+  }
+
+  @Test
+  void shouldLetSingleTrialRequestThroughOnceOpenDurationPassed() {
+    var limiter = new PublicationTenantLimiter(0, 1, 1000, meterRegistry, clock::get);
+    limiter.recordResult(TENANT, false);
+
+    clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+
+    assertEquals(Duration.ZERO, limiter.acquire(TENANT));
+    assertEquals(CircuitState.HALF_OPEN, limiter.getCircuitState(TENANT));
+    assertThrows(TenantUnavailableException.class, () -> limiter.acquire(TENANT));
+
+    limiter.recordResult(TENANT, true);
+
+    assertEquals(CircuitState.CLOSED, limiter.getCircuitState(TENANT));
+    assertEquals(Duration.ZERO, limiter.acquire(TENANT));
+  }
+
+  @Test
+  void shouldOpenCircuitAgainWhenTrialRequestFails() {
+    var limiter = new PublicationTenantLimiter(0, 3, 1000, meterRegistry, clock::get);
+    for (int i = 0; i < 3; i++) {
+      limiter.recordResult(TENANT, false);
+    }
+    clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+    limiter.acquire(TENANT);
+
+    limiter.recordResult(TENANT, false);
+
+    assertEquals(CircuitState.OPEN, limiter.getCircuitState(TENANT));
+    assertThrows(TenantUnavailableException.class, () -> limiter.acquire(TENANT));
+  }
+}
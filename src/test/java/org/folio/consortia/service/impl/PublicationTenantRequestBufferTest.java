@@ -0,0 +1,180 @@
+package org.folio.consortia.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import org.folio.consortia.domain.converter.PublicationContentCodec;
+import org.folio.consortia.domain.dto.PublicationStatus;
+import org.folio.consortia.domain.entity.PublicationStatusEntity;
+import org.folio.consortia.domain.entity.PublicationTenantRequestEntity;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.integration.XOkapiHeaders;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class PublicationTenantRequestBufferTest {
+  private static final String TENANT = "central";
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+  @Mock
+  private FolioExecutionContext folioExecutionContext;
+  @Mock
+  private FolioModuleMetadata folioModuleMetadata;
+  @Mock
+  private PlatformTransactionManager transactionManager;
+  private TransactionTemplate transactionTemplate;
+  private final PublicationContentCodec contentCodec = new PublicationContentCodec(1024, 0);
+  private PublicationTenantRequestBuffer buffer;
+  AutoCloseable mockitoMocks;
+
+  @BeforeEach
+  public void beforeEach() {
+    mockitoMocks = MockitoAnnotations.openMocks(this);
+    transactionTemplate = new TransactionTemplate(transactionManager);
+    Map<String, Collection<String>> headers = new HashMap<>();
+    headers.put(XOkapiHeaders.TENANT, List.of(TENANT));
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT);
+    when(folioExecutionContext.getOkapiHeaders()).thenReturn(headers);
+    when(folioExecutionContext.getAllHeaders()).thenReturn(headers);
+    when(jdbcTemplate.batchUpdate(startsWith("UPDATE pc_tenant_request"), anyList()))
+      .thenAnswer(invocation -> updateCounts(invocation.<List<Object[]>>getArgument(1).size()));
+  }
+
+  @AfterEach
+  public void afterEach() throws Exception {
+    buffer.shutdown();
+    mockitoMocks.close();
+  }
+
+  @Test
+  void shouldWriteFullBatchWithSingleRoundTrip() {
+    buffer = new PublicationTenantRequestBuffer(jdbcTemplate, transactionTemplate, folioExecutionContext, folioModuleMetadata, contentCodec, 100, 60_000);
+
+    var futures = IntStream.range(0, 100)
+      .mapToObj(i -> buffer.write(completedTenantRequest()))
+      .toList();
+
+    CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    verify(jdbcTemplate).batchUpdate(startsWith("UPDATE pc_tenant_request"), argThat((List<Object[]> args) -> args.size() == 100));
+    verify(transactionManager).commit(any());
+  }
+
+  @Test
+  void shouldIncrementProgressCountersPerPublication() {
+    buffer = new PublicationTenantRequestBuffer(jdbcTemplate, transactionTemplate, folioExecutionContext, folioModuleMetadata, contentCodec, 3, 60_000);
+    var publication1 = createPublicationStatusEntity();
+    var publication2 = createPublicationStatusEntity();
+    var failedRequest = completedTenantRequest(publication1);
+    failedRequest.setStatus(PublicationStatus.ERROR);
+
+    var futures = List.of(buffer.write(completedTenantRequest(publication1)), buffer.write(failedRequest),
+      buffer.write(completedTenantRequest(publication2)));
+
+    CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    verify(jdbcTemplate).batchUpdate(startsWith("UPDATE pc_state"), argThat((List<Object[]> args) -> args.size() == 2
+      && args.stream().anyMatch(progress -> progress[6].equals(publication1.getId()) && progress[0].equals(1) && progress[1].equals(1))
+      && args.stream().anyMatch(progress -> progress[6].equals(publication2.getId()) && progress[0].equals(1) && progress[1].equals(0))));
+  }
+
+  @Test
+  void shouldNotCountTenantRequestFinishedByAnotherLeaseOwner() {
+    buffer = new PublicationTenantRequestBuffer(jdbcTemplate, transactionTemplate, folioExecutionContext, folioModuleMetadata, contentCodec, 2, 60_000);
+    var publication = createPublicationStatusEntity();
+    when(jdbcTemplate.batchUpdate(startsWith("UPDATE pc_tenant_request"), anyList())).thenReturn(new int[] {1, 0});
+
+    var futures = List.of(buffer.write(completedTenantRequest(publication)), buffer.write(completedTenantRequest(publication)));
+
+    CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    verify(jdbcTemplate).batchUpdate(startsWith("UPDATE pc_state"), argThat((List<Object[]> args) -> args.size() == 1
+      && args.get(0)[0].equals(1) && args.get(0)[1].equals(0)));
+  }
+
+  @Test
+  void shouldFlushPartialBatchByTime() {
+    buffer = new PublicationTenantRequestBuffer(jdbcTemplate, transactionTemplate, folioExecutionContext, folioModuleMetadata, contentCodec, 100, 50);
+
+    var ptrEntity = completedTenantRequest();
+    var future = buffer.write(ptrEntity);
+
+    verify(jdbcTemplate, timeout(1000)).batchUpdate(startsWith("UPDATE pc_tenant_request"), argThat((List<Object[]> args) -> args.size() == 1));
+    assertEquals(ptrEntity, future.join());
+  }
+
+  @Test
+  void shouldNotWriteBeforeBatchIsFullOrIntervalPassed() {
+    buffer = new PublicationTenantRequestBuffer(jdbcTemplate, transactionTemplate, folioExecutionContext, folioModuleMetadata, contentCodec, 10, 60_000);
+
+    var future = buffer.write(completedTenantRequest());
+
+    assertFalse(future.isDone());
+    verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+  }
+
+  @Test
+  void shouldCompleteExceptionallyWhenBatchFails() {
+    buffer = new PublicationTenantRequestBuffer(jdbcTemplate, transactionTemplate, folioExecutionContext, folioModuleMetadata, contentCodec, 1, 60_000);
+    when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new DataAccessResourceFailureException("failed"));
+
+    var future = buffer.write(completedTenantRequest());
+
+    assertThrows(Exception.class, future::join);
+    assertTrue(future.isCompletedExceptionally());
+  }
+
+  private static int[] updateCounts(int size) {
+    var updateCounts = new int[size];
+    Arrays.fill(updateCounts, 1);
+    return updateCounts;
+  }
+
+  private static PublicationTenantRequestEntity completedTenantRequest() {
+    return completedTenantRequest(createPublicationStatusEntity());
+  }
+
+  private static PublicationTenantRequestEntity completedTenantRequest(PublicationStatusEntity publicationStatusEntity) {
+    var ptrEntity = new PublicationTenantRequestEntity();
+    ptrEntity.setId(UUID.randomUUID());
+    ptrEntity.setPcState(publicationStatusEntity);
+    ptrEntity.setTenantId(TENANT);
+    ptrEntity.setStatus(PublicationStatus.COMPLETE);
+    ptrEntity.setResponseStatusCode(201);
+    ptrEntity.setCompletedDate(LocalDateTime.now());
+    return ptrEntity;
+  }
+
+  private static PublicationStatusEntity createPublicationStatusEntity() {
+    var publicationStatusEntity = new PublicationStatusEntity();
+    publicationStatusEntity.setId(UUID.randomUUID());
+    return publicationStatusEntity;
+  }
+}
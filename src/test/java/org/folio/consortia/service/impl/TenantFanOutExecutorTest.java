@@ -0,0 +1,117 @@
+package org.folio.consortia.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.folio.consortia.exception.TenantFanOutException;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.integration.XOkapiHeaders;
+import org.folio.spring.scope.FolioExecutionScopeExecutionContextManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+class TenantFanOutExecutorTest {
+  private static final List<String> TENANTS = List.of("college", "university", "school", "library");
+
+  @Mock
+  private FolioExecutionContext folioExecutionContext;
+  @Mock
+  private FolioModuleMetadata folioModuleMetadata;
+  private ThreadPoolTaskExecutor taskExecutor;
+  AutoCloseable mockitoMocks;
+
+  @BeforeEach
+  void beforeEach() {
+    mockitoMocks = MockitoAnnotations.openMocks(this);
+    Map<String, Collection<String>> headers = new HashMap<>();
+    headers.put(XOkapiHeaders.TENANT, List.of("central"));
+    when(folioExecutionContext.getOkapiHeaders()).thenReturn(headers);
+    when(folioExecutionContext.getAllHeaders()).thenReturn(headers);
+    taskExecutor = new ThreadPoolTaskExecutor();
+    taskExecutor.setCorePoolSize(4);
+    taskExecutor.initialize();
+  }
+
+  @AfterEach
+  void afterEach() throws Exception {
+    taskExecutor.shutdown();
+    mockitoMocks.close();
+  }
+
+  @Test
+  void shouldRunTaskInContextOfEachTenant() {
+    var fanOutExecutor = new TenantFanOutExecutor(taskExecutor, folioExecutionContext, folioModuleMetadata, 4);
+    var contextTenants = Collections.synchronizedSet(new HashSet<String>());
+
+    var result = fanOutExecutor.runInEachTenant(TENANTS, tenantId -> {
+      var context = FolioExecutionScopeExecutionContextManager.getFolioExecutionContext();
+      assertEquals(tenantId, context.getTenantId());
+      contextTenants.add(context.getTenantId());
+    });
+
+    assertFalse(result.hasFailures());
+    assertEquals(TENANTS, result.succeededTenants());
+    assertEquals(new HashSet<>(TENANTS), contextTenants);
+  }
+
+  @Test
+  void shouldLimitConcurrentTasks() {
+    var fanOutExecutor = new TenantFanOutExecutor(taskExecutor, folioExecutionContext, folioModuleMetadata, 2);
+    var active = new AtomicInteger();
+    var maxActive = new AtomicInteger();
+
+    fanOutExecutor.runInEachTenant(TENANTS, tenantId -> {
+      maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+      sleep();
+      active.decrementAndGet();
+    });
+
+    assertTrue(maxActive.get() <= 2);
+  }
+
+  @Test
+  void shouldCollectFailuresOfAllTenants() {
+    var fanOutExecutor = new TenantFanOutExecutor(taskExecutor, folioExecutionContext, folioModuleMetadata, 2);
+    var completed = Collections.synchronizedList(new ArrayList<String>());
+
+    var result = fanOutExecutor.runInEachTenant(TENANTS, tenantId -> {
+      if (tenantId.equals("college") || tenantId.equals("school")) {
+        throw new IllegalStateException("failed in " + tenantId);
+      }
+      completed.add(tenantId);
+    });
+
+    assertEquals(List.of("university", "library"), result.succeededTenants());
+    assertEquals(List.of("college", "school"), List.copyOf(result.failures().keySet()));
+    assertEquals("failed in college", result.failures().get("college").getMessage());
+    var exception = assertThrows(TenantFanOutException.class, () -> result.throwIfFailed("Update"));
+    assertEquals("Update failed in 2 of 4 tenants: [college, school]", exception.getMessage());
+    assertEquals(2, exception.getSuppressed().length);
+  }
+
+  private static void sleep() {
+    try {
+      TimeUnit.MILLISECONDS.sleep(20);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,99 @@
+package org.folio.consortia.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import org.folio.consortia.domain.dto.TotalRecordsMode;
+import org.folio.spring.data.OffsetRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class TotalRecordsCounterTest {
+  private static final String SQL = "SELECT 1 FROM user_tenant WHERE user_id = ?";
+  private static final UUID USER_ID = UUID.randomUUID();
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+  private TotalRecordsCounter totalRecordsCounter;
+  private final AtomicInteger exactCounts = new AtomicInteger();
+  AutoCloseable mockitoMocks;
+
+  @BeforeEach
+  void beforeEach() {
+    mockitoMocks = MockitoAnnotations.openMocks(this);
+    totalRecordsCounter = new TotalRecordsCounter(jdbcTemplate, new ObjectMapper(), 1000);
+  }
+
+  @AfterEach
+  void afterEach() throws Exception {
+    mockitoMocks.close();
+  }
+
+  @Test
+  void shouldReturnPlannerEstimate() {
+    mockPlanRows(250_000);
+
+    var totalRecords = totalRecordsCounter.count(TotalRecordsMode.ESTIMATED, exactCount(), SQL, USER_ID);
+
+    assertEquals(250_000, totalRecords);
+    assertEquals(0, exactCounts.get());
+    verify(jdbcTemplate).queryForObject("EXPLAIN (FORMAT JSON) " + SQL, String.class, USER_ID);
+  }
+
+  @Test
+  void shouldCountExactlyWhenEstimateIsSmall() {
+    mockPlanRows(12);
+
+    var totalRecords = totalRecordsCounter.count(TotalRecordsMode.ESTIMATED, exactCount(), SQL, USER_ID);
+
+    assertEquals(7, totalRecords);
+    assertEquals(1, exactCounts.get());
+  }
+
+  @Test
+  void shouldSkipCounting() {
+    assertNull(totalRecordsCounter.count(TotalRecordsMode.NONE, exactCount(), SQL, USER_ID));
+    assertEquals(0, exactCounts.get());
+    verifyNoInteractions(jdbcTemplate);
+  }
+
+  @Test
+  void shouldNotQueryDatabaseForLastSlice() {
+    var lastSlice = new SliceImpl<>(List.of("a", "b"), OffsetRequest.of(20, 10), false);
+
+    var totalRecords = totalRecordsCounter.count(TotalRecordsMode.ESTIMATED, lastSlice, exactCount(), SQL, USER_ID);
+
+    assertEquals(22, totalRecords);
+    assertEquals(0, exactCounts.get());
+    verifyNoInteractions(jdbcTemplate);
+  }
+
+  private void mockPlanRows(long planRows) {
+    when(jdbcTemplate.queryForObject(anyString(), any(Class.class), any(Object[].class)))
+      .thenReturn("[{\"Plan\": {\"Node Type\": \"Seq Scan\", \"Plan Rows\": " + planRows + "}}]");
+  }
+
+  private LongSupplier exactCount() {
+    return () -> {
+      exactCounts.incrementAndGet();
+      return 7;
+    };
+  }
+}
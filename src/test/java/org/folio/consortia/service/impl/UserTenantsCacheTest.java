@@ -0,0 +1,122 @@
+package org.folio.consortia.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.folio.consortia.config.CacheConfig;
+import org.folio.consortia.domain.dto.UserTenantCollection;
+import org.folio.consortia.exception.ResourceNotFoundException;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+
+class UserTenantsCacheTest {
+  private static final UUID CONSORTIUM_ID = UUID.randomUUID();
+  private static final UUID USER_ID = UUID.randomUUID();
+
+  @Mock
+  private FolioExecutionContext folioExecutionContext;
+  private UserTenantsCache userTenantsCache;
+  private final AtomicInteger loads = new AtomicInteger();
+  AutoCloseable mockitoMocks;
+
+  @BeforeEach
+  void beforeEach() {
+    mockitoMocks = MockitoAnnotations.openMocks(this);
+    when(folioExecutionContext.getTenantId()).thenReturn("consortium");
+    var cacheConfig = new CacheConfig();
+    userTenantsCache = new UserTenantsCache(folioExecutionContext,
+      cacheConfig.cacheManager(cacheConfig.caffeineConfig(), 60_000, 100));
+  }
+
+  @AfterEach
+  void afterEach() throws Exception {
+    mockitoMocks.close();
+  }
+
+  @Test
+  void shouldLoadAssociationsOnce() {
+    var userTenants = userTenantsCache.get(CONSORTIUM_ID, USER_ID, loader());
+
+    assertSame(userTenants, userTenantsCache.get(CONSORTIUM_ID, USER_ID, loader()));
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  void shouldLoadAssociationsAgainAfterEviction() {
+    userTenantsCache.get(CONSORTIUM_ID, USER_ID, loader());
+
+    userTenantsCache.evict(USER_ID);
+    userTenantsCache.get(CONSORTIUM_ID, USER_ID, loader());
+    userTenantsCache.evictAll(List.of(USER_ID));
+    userTenantsCache.get(CONSORTIUM_ID, USER_ID, loader());
+    userTenantsCache.clear();
+    userTenantsCache.get(CONSORTIUM_ID, USER_ID, loader());
+
+    assertEquals(4, loads.get());
+  }
+
+  @Test
+  void shouldNotServeAssociationsOfAnotherConsortium() {
+    userTenantsCache.get(CONSORTIUM_ID, USER_ID, loader());
+    var otherConsortiumId = UUID.randomUUID();
+    Supplier<UserTenantCollection> failingLoader = () -> {
+      throw new ResourceNotFoundException("consortiumId", otherConsortiumId.toString());
+    };
+
+    assertThrows(ResourceNotFoundException.class, () -> userTenantsCache.get(otherConsortiumId, USER_ID, failingLoader));
+  }
+
+  @Test
+  void shouldEvictAssociationsAgainAfterCommit() {
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      userTenantsCache.evict(USER_ID);
+      // a concurrent read caches associations before the transaction is committed
+      userTenantsCache.get(CONSORTIUM_ID, USER_ID, loader());
+
+      TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+    userTenantsCache.get(CONSORTIUM_ID, USER_ID, loader());
+
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void shouldNotCacheAssociationsLoadedWhileEvicted() {
+    Supplier<UserTenantCollection> racingLoader = () -> {
+      // associations are changed and evicted after the load read them
+      var userTenants = loader().get();
+      userTenantsCache.evict(USER_ID);
+      return userTenants;
+    };
+
+    userTenantsCache.get(CONSORTIUM_ID, USER_ID, racingLoader);
+    userTenantsCache.get(CONSORTIUM_ID, USER_ID, loader());
+    userTenantsCache.get(CONSORTIUM_ID, USER_ID, loader());
+
+    assertEquals(2, loads.get());
+  }
+
+  private Supplier<UserTenantCollection> loader() {
+    return () -> {
+      loads.incrementAndGet();
+      return new UserTenantCollection().totalRecords(0);
+    };
+  }
+}
@@ -15,8 +15,6 @@ import org.folio.consortia.domain.dto.Consortium;
 import org.folio.consortia.domain.dto.Personal;
 import org.folio.consortia.domain.dto.PublicationDetailsResponse;
 import org.folio.consortia.domain.dto.PublicationRequest;
-import org.folio.consortia.domain.dto.PublicationResult;
-import org.folio.consortia.domain.dto.PublicationResultCollection;
 import org.folio.consortia.domain.dto.PublicationStatus;
 import org.folio.consortia.domain.dto.SharingInstance;
 import org.folio.consortia.domain.dto.SharingSettingDeleteResponse;
@@ -270,18 +268,6 @@ public class EntityUtils {
     return publicationRequest;
   }
 
-  public static PublicationResultCollection createPublicationResultCollection(String tenantId1, String tenantId2) {
-    var pbr1 = new PublicationResult();
-    pbr1.setTenantId(tenantId1);
-    pbr1.setStatusCode(400);
-    var pbr2 = new PublicationResult();
-    pbr2.setTenantId(tenantId2);
-    pbr2.setStatusCode(401);
-    var publicationResultCollection = new PublicationResultCollection();
-    publicationResultCollection.setPublicationResults(List.of(pbr1, pbr2));
-    return publicationResultCollection;
-  }
-
   public static PublicationDetailsResponse createPublicationDetails(PublicationStatus status) {
     PublicationDetailsResponse pbd = new PublicationDetailsResponse();
     pbd.setStatus(status);
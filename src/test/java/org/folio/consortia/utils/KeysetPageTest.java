@@ -0,0 +1,63 @@
+package org.folio.consortia.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+class KeysetPageTest {
+  private static final List<String> KEYS = List.of("a", "b", "c", "d", "e");
+
+  @Test
+  void shouldReadAllRecordsPageByPage() {
+    var page = KeysetPage.fetch(KeysetPage.FIRST_PAGE_CURSOR, 2, Function.identity(), firstPageQuery(), nextPageQuery());
+    assertEquals(List.of("a", "b"), page.content());
+
+    page = KeysetPage.fetch(page.nextCursor(), 2, Function.identity(), firstPageQuery(), nextPageQuery());
+    assertEquals(List.of("c", "d"), page.content());
+
+    page = KeysetPage.fetch(page.nextCursor(), 2, Function.identity(), firstPageQuery(), nextPageQuery());
+    assertEquals(List.of("e"), page.content());
+    assertNull(page.nextCursor());
+  }
+
+  @Test
+  void shouldNotReturnNextCursorWhenLastPageIsFull() {
+    var page = KeysetPage.fetch(KeysetPage.FIRST_PAGE_CURSOR, 5, Function.identity(), firstPageQuery(), nextPageQuery());
+
+    assertEquals(KEYS, page.content());
+    assertNull(page.nextCursor());
+  }
+
+  @Test
+  void shouldEncodeCursorUrlSafe() {
+    var key = "tenant/with?unsafe=chars";
+
+    var cursor = KeysetPage.encode(key);
+
+    assertEquals(cursor, URLEncoder.encode(cursor, StandardCharsets.UTF_8));
+    assertEquals(key, KeysetPage.decode(cursor));
+  }
+
+  @Test
+  void shouldRejectInvalidCursor() {
+    assertThrows(IllegalArgumentException.class,
+      () -> KeysetPage.fetch("not a cursor", 2, Function.identity(), firstPageQuery(), nextPageQuery()));
+  }
+
+  private static Function<Pageable, List<String>> firstPageQuery() {
+    return pageable -> KEYS.stream().limit(pageable.getPageSize()).toList();
+  }
+
+  private static BiFunction<String, Pageable, List<String>> nextPageQuery() {
+    return (key, pageable) -> KEYS.stream().filter(k -> k.compareTo(key) > 0).limit(pageable.getPageSize()).toList();
+  }
+}
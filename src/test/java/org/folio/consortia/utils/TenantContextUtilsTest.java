@@ -2,9 +2,14 @@ package org.folio.consortia.utils;
 
 import static org.folio.consortia.utils.TenantContextUtils.getFolioExecutionContextCopyForTenant;
 import static org.folio.consortia.utils.TenantContextUtils.createFolioExecutionContext;
+import static org.folio.consortia.utils.TenantContextUtils.prepareContextForTenant;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.folio.spring.DefaultFolioExecutionContext;
@@ -45,4 +50,43 @@ class TenantContextUtilsTest {
 
     assertEquals(TENANT_ID, result.getTenantId());
   }
+
+  @Test
+  void shouldReplaceOnlyTenantWhenContextIsPreparedForTenant() {
+    Map<String, Collection<String>> headers = new HashMap<>();
+    headers.put(XOkapiHeaders.TENANT, List.of("central"));
+    headers.put(XOkapiHeaders.TOKEN, List.of("token"));
+    var context = new DefaultFolioExecutionContext(folioModuleMetadata, headers);
+
+    var result = prepareContextForTenant(TENANT_ID, folioModuleMetadata, context);
+    headers.put(XOkapiHeaders.TOKEN, List.of("changed"));
+
+    assertEquals(TENANT_ID, result.getTenantId());
+    assertEquals(List.of("token"), result.getAllHeaders().get(XOkapiHeaders.TOKEN));
+    assertEquals(Map.of(XOkapiHeaders.TENANT, List.of(TENANT_ID), XOkapiHeaders.TOKEN, List.of("token")), result.getAllHeaders());
+    assertEquals("central", context.getTenantId());
+    assertThrows(UnsupportedOperationException.class, () -> result.getAllHeaders().put(XOkapiHeaders.TENANT, List.of("other")));
+  }
+
+  @Test
+  void shouldShareHeadersWhenPreparedContextIsSwitchedAgain() {
+    Map<String, Collection<String>> headers = new HashMap<>();
+    headers.put(XOkapiHeaders.TENANT, List.of("central"));
+    headers.put(XOkapiHeaders.TOKEN, List.of("token"));
+    var memberContext = prepareContextForTenant("member", folioModuleMetadata, new DefaultFolioExecutionContext(folioModuleMetadata, headers));
+
+    var result = prepareContextForTenant(TENANT_ID, folioModuleMetadata, memberContext);
+
+    assertEquals(TENANT_ID, result.getTenantId());
+    assertEquals("member", memberContext.getTenantId());
+    assertSame(memberContext.getAllHeaders().get(XOkapiHeaders.TOKEN), result.getAllHeaders().get(XOkapiHeaders.TOKEN));
+    assertEquals(2, result.getAllHeaders().size());
+  }
+
+  @Test
+  void shouldFailToPrepareContextWithoutHeaders() {
+    var context = new DefaultFolioExecutionContext(folioModuleMetadata, new HashMap<>());
+
+    assertThrows(IllegalStateException.class, () -> prepareContextForTenant(TENANT_ID, folioModuleMetadata, context));
+  }
 }
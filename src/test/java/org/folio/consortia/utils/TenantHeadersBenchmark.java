@@ -0,0 +1,81 @@
+package org.folio.consortia.utils;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.RandomStringUtils;
+import org.apache.commons.lang3.SerializationUtils;
+import org.folio.spring.integration.XOkapiHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares headers built by {@link TenantContextUtils#prepareContextForTenant} with the deep copy it used to make.
+ * It is not run by the build, run it with {@link #main(String[])} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TenantHeadersBenchmark {
+
+  private static final String TENANT = "college";
+
+  private HashMap<String, Collection<String>> requestHeaders;
+  private Map<String, Collection<String>> tenantHeaders;
+
+  @Setup
+  public void setUp() {
+    // headers of a request of a logged-in user, as they come from Okapi
+    requestHeaders = new HashMap<>();
+    requestHeaders.put(XOkapiHeaders.TENANT, List.of("consortium"));
+    requestHeaders.put(XOkapiHeaders.TOKEN, List.of(RandomStringUtils.randomAlphanumeric(600)));
+    requestHeaders.put(XOkapiHeaders.URL, List.of("http://okapi:9130"));
+    requestHeaders.put(XOkapiHeaders.USER_ID, List.of(UUID.randomUUID().toString()));
+    requestHeaders.put(XOkapiHeaders.REQUEST_ID, List.of("123456/consortia"));
+    requestHeaders.put("x-okapi-permissions", List.of("[\"consortia.publications.item.post\"]"));
+    requestHeaders.put("x-okapi-module-id", List.of("mod-consortia-1.2.0"));
+    requestHeaders.put("accept", List.of("application/json, text/plain"));
+    requestHeaders.put("content-type", List.of("application/json"));
+    tenantHeaders = TenantHeaders.forTenant(requestHeaders, "university");
+  }
+
+  @Benchmark
+  public Map<String, Collection<String>> deepCopyHeaders() {
+    var headersCopy = SerializationUtils.clone(requestHeaders);
+    headersCopy.put(XOkapiHeaders.TENANT, List.of(TENANT));
+    return headersCopy;
+  }
+
+  @Benchmark
+  public Map<String, Collection<String>> switchHeadersOfRequest() {
+    return TenantHeaders.forTenant(requestHeaders, TENANT);
+  }
+
+  @Benchmark
+  public Map<String, Collection<String>> switchHeadersOfSwitchedContext() {
+    // fan-outs, like publications, switch to each tenant from a context already switched to the central tenant
+    return TenantHeaders.forTenant(tenantHeaders, TENANT);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(TenantHeadersBenchmark.class.getSimpleName()).build()).run();
+  }
+}
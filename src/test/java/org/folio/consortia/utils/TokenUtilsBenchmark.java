@@ -0,0 +1,69 @@
+package org.folio.consortia.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures {@link TokenUtils#isValid(String)} for a token seen before and for a token which has to be parsed.
+ * It is not run by the build, run it with {@link #main(String[])} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenUtilsBenchmark {
+
+  private static final String HEADER = "eyJhbGciOiJIUzI1NiJ9";
+  private static final String SIGNATURE = "k8yBqIuMNkXeLiNZSx8dPnHQp3Wh6bN6CnU2lHd2JbM";
+
+  private String cachedToken;
+  // expired tokens are never cached, so each validation parses the token
+  private String expiredToken;
+
+  @Setup
+  public void setUp() {
+    cachedToken = token("{\"sub\":\"diku_admin\",\"user_id\":\"1d3b58cb-9ba3-4f5a-8cf0-6e2b2b4e6f0e\",\"type\":\"access\","
+      + "\"tenant\":\"diku\",\"iat\":" + Instant.now().getEpochSecond() + ",\"exp\":" + Instant.now().plusSeconds(3600).getEpochSecond() + "}");
+    expiredToken = token("{\"sub\":\"diku_admin\",\"user_id\":\"1d3b58cb-9ba3-4f5a-8cf0-6e2b2b4e6f0e\",\"type\":\"access\","
+      + "\"tenant\":\"diku\",\"iat\":1,\"exp\":2}");
+    TokenUtils.isValid(cachedToken);
+  }
+
+  @Benchmark
+  public boolean validateCachedToken() {
+    // a new string, like the one read from the header of each request
+    return TokenUtils.isValid(new String(cachedToken));
+  }
+
+  @Benchmark
+  public boolean validateParsedToken() {
+    return TokenUtils.isValid(new String(expiredToken));
+  }
+
+  private static String token(String payload) {
+    var encodedPayload = Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+    return HEADER + "." + encodedPayload + "." + SIGNATURE;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(TokenUtilsBenchmark.class.getSimpleName()).build()).run();
+  }
+}
@@ -0,0 +1,87 @@
+package org.folio.consortia.utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+class TokenUtilsTest {
+  private static final String HEADER = "eyJhbGciOiJIUzI1NiJ9";
+
+  @Test
+  void shouldAcceptTokenOfUser() {
+    var token = token("{\"sub\":\"diku_admin\",\"user_id\":\"1d3b58cb\",\"exp\":" + Instant.now().plusSeconds(600).getEpochSecond() + "}", "sig1");
+
+    assertTrue(TokenUtils.isValid(token));
+    // the result is cached by the token
+    assertTrue(TokenUtils.isValid(token));
+  }
+
+  @Test
+  void shouldRejectTokenOfUndefinedUser() {
+    assertFalse(TokenUtils.isValid(token("{\"sub\":\"UNDEFINED_USER__mod-users\"}", "sig2")));
+  }
+
+  @Test
+  void shouldRejectMalformedTokens() {
+    assertFalse(TokenUtils.isValid(null));
+    assertFalse(TokenUtils.isValid(" "));
+    assertFalse(TokenUtils.isValid(HEADER + ".payload"));
+    assertFalse(TokenUtils.isValid(HEADER + ".e30."));
+    assertFalse(TokenUtils.isValid(HEADER + ".e30.sig.extra"));
+    assertFalse(TokenUtils.isValid(HEADER + ".!!!.sig3"));
+    // payload without sub claim
+    assertFalse(TokenUtils.isValid(token("{\"user_id\":\"1d3b58cb\"}", "sig4")));
+  }
+
+  @Test
+  void shouldNotCacheExpiredToken() {
+    var expiredToken = token("{\"sub\":\"UNDEFINED_USER__\",\"exp\":1}", "sig5");
+
+    assertFalse(TokenUtils.isValid(expiredToken));
+    assertFalse(TokenUtils.isValid(expiredToken));
+  }
+
+  @Test
+  void shouldNotShareCachedResultOfTokensWithSameSignature() {
+    var tokenOfUndefinedUser = token("{\"sub\":\"UNDEFINED_USER__mod-users\"}", "sig6");
+    var tokenOfUser = token("{\"sub\":\"diku_admin\"}", "sig6");
+
+    assertFalse(TokenUtils.isValid(tokenOfUndefinedUser));
+    assertTrue(TokenUtils.isValid(tokenOfUser));
+    assertFalse(TokenUtils.isValid(tokenOfUndefinedUser));
+  }
+
+  @Test
+  void shouldReadOnlySubAndExpClaims() throws IOException {
+    var claims = TokenUtils.parseClaims("{\"roles\":{\"sub\":\"nested\"},\"sub\":\"diku_admin\",\"exp\":1700000000}".getBytes(StandardCharsets.UTF_8));
+
+    assertEquals("diku_admin", claims.sub());
+    assertEquals(1700000000L, claims.exp());
+    assertNull(TokenUtils.parseClaims("{\"sub\":null}".getBytes(StandardCharsets.UTF_8)).sub());
+  }
+
+  @Test
+  void shouldDecodeStandardAndUrlSafeBase64() {
+    var bytes = new byte[] {(byte) 0xfb, (byte) 0xff, (byte) 0xbf, 1, 2};
+
+    var standard = Base64.getEncoder().encodeToString(bytes);
+    var urlSafe = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+    assertArrayEquals(bytes, TokenUtils.decodeBase64(standard, 0, standard.length()));
+    assertArrayEquals(bytes, TokenUtils.decodeBase64(urlSafe, 0, urlSafe.length()));
+  }
+
+  private static String token(String payload, String signature) {
+    var encodedPayload = Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+    return HEADER + "." + encodedPayload + "." + signature;
+  }
+}